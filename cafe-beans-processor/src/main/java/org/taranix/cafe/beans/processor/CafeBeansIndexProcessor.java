@@ -0,0 +1,170 @@
+package org.taranix.cafe.beans.processor;
+
+import org.taranix.cafe.beans.annotations.base.CafeWiringType;
+import org.taranix.cafe.beans.reflection.CafeBeansIndex;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor writing the build-time beans index ({@link CafeBeansIndex#LOCATION}).
+ * <p>
+ * Every top-level class carrying an annotation that is (directly or through meta-annotations)
+ * marked by {@link CafeWiringType} is listed - e.g. {@code @CafeSingleton}, {@code @CafePrototype},
+ * {@code @CafeApplication}, {@code @CafeCommand} or {@code @CafeComponent}. Interfaces, records and nested
+ * classes are skipped, matching what classpath scanning would pick up. Entries are sorted, so classes of the
+ * same package are grouped together.
+ * <p>
+ * Incremental compilations, as run by IDEs, only see the recompiled classes, so an existing index is merged:
+ * its entries are kept unless their class was recompiled in this run (and is listed again only when still
+ * annotated) or no longer exists.
+ * <p>
+ * The processor is registered as a service; adding {@code cafe-beans-processor} as a {@code provided}
+ * dependency is enough to generate the index.
+ */
+@SupportedAnnotationTypes("*")
+public class CafeBeansIndexProcessor extends AbstractProcessor {
+
+    private static final String MARKER = CafeWiringType.class.getName();
+
+    private final Set<String> indexedClasses = new TreeSet<>();
+
+    /**
+     * Classes compiled in this run, whose entries of an existing index are replaced.
+     */
+    private final Set<String> compiledClasses = new HashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+
+        for (Element element : roundEnv.getRootElements()) {
+            if (element instanceof TypeElement typeElement) {
+                String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+                compiledClasses.add(className);
+                if (isIndexable(typeElement)) {
+                    indexedClasses.add(className);
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean isIndexable(TypeElement typeElement) {
+        return typeElement.getNestingKind() == NestingKind.TOP_LEVEL
+                && (typeElement.getKind() == ElementKind.CLASS || typeElement.getKind() == ElementKind.ENUM)
+                && isMarked(typeElement, new HashSet<>());
+    }
+
+    private boolean isMarked(Element element, Set<String> visited) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) annotationMirror.getAnnotationType().asElement();
+            String annotationName = annotationType.getQualifiedName().toString();
+            if (MARKER.equals(annotationName)) {
+                return true;
+            }
+            if (annotationName.startsWith("java.") || annotationName.startsWith("javax.")) {
+                continue;
+            }
+            if (visited.add(annotationName) && isMarked(annotationType, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeIndex() {
+        List<String> existingEntries = readExistingIndex();
+        existingEntries.stream()
+                .filter(className -> !compiledClasses.contains(className))
+                .filter(this::exists)
+                .forEach(indexedClasses::add);
+        if (indexedClasses.isEmpty() && existingEntries.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", CafeBeansIndex.LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                writer.write(CafeBeansIndex.COMMENT_PREFIX + " Generated by " + getClass().getName() + "\n");
+                for (String className : indexedClasses) {
+                    writer.write(className);
+                    writer.write("\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Couldn't write beans index %s: %s".formatted(CafeBeansIndex.LOCATION, e.getMessage()));
+        }
+    }
+
+    /**
+     * Entries of the index written by an earlier compilation into the same output, empty if there is none.
+     */
+    private List<String> readExistingIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .getResource(StandardLocation.CLASS_OUTPUT, "", CafeBeansIndex.LOCATION);
+            List<String> entries = new ArrayList<>();
+            try (BufferedReader reader = new BufferedReader(resource.openReader(true))) {
+                for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                    String entry = line.trim();
+                    if (!entry.isEmpty() && !entry.startsWith(CafeBeansIndex.COMMENT_PREFIX)) {
+                        entries.add(entry);
+                    }
+                }
+            }
+            return entries;
+        } catch (IOException | IllegalArgumentException e) {
+            // no index yet
+            return List.of();
+        }
+    }
+
+    /**
+     * Whether the class is still visible to the compiler or its class file is still in the output.
+     */
+    private boolean exists(String className) {
+        if (processingEnv.getElementUtils().getTypeElement(className) != null) {
+            return true;
+        }
+        int lastDot = className.lastIndexOf('.');
+        String packageName = lastDot < 0 ? "" : className.substring(0, lastDot);
+        try {
+            FileObject classFile = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, packageName,
+                    className.substring(lastDot + 1) + ".class");
+            try (InputStream ignored = classFile.openInputStream()) {
+                return true;
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
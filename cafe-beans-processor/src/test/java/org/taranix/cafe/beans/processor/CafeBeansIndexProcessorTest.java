@@ -0,0 +1,163 @@
+package org.taranix.cafe.beans.processor;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.taranix.cafe.beans.reflection.CafeBeansIndex;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class CafeBeansIndexProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldIndexAnnotatedTopLevelClasses() throws IOException {
+        //given
+        Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        Path output = Files.createDirectories(tempDir.resolve("classes"));
+        write(sources, "SingletonService", """
+                package sample;
+                @org.taranix.cafe.beans.annotations.classes.CafeSingleton
+                public class SingletonService {
+                    @org.taranix.cafe.beans.annotations.classes.CafePrototype
+                    public static class NestedService {
+                    }
+                }
+                """);
+        write(sources, "PrototypeService", """
+                package sample;
+                @org.taranix.cafe.beans.annotations.classes.CafePrototype
+                public class PrototypeService {
+                }
+                """);
+        write(sources, "MetaAnnotated", """
+                package sample;
+                @java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)
+                @org.taranix.cafe.beans.annotations.classes.CafePrototype
+                public @interface MetaAnnotated {
+                }
+                """);
+        write(sources, "MetaAnnotatedService", """
+                package sample;
+                @MetaAnnotated
+                public class MetaAnnotatedService {
+                }
+                """);
+        write(sources, "PlainClass", """
+                package sample;
+                @Deprecated
+                public class PlainClass {
+                }
+                """);
+        write(sources, "ServiceInterface", """
+                package sample;
+                @org.taranix.cafe.beans.annotations.classes.CafeSingleton
+                public interface ServiceInterface {
+                }
+                """);
+
+        //when
+        boolean compiled = compile(sources, output);
+
+        //then
+        Assertions.assertTrue(compiled);
+        List<String> entries = Files.readAllLines(output.resolve(CafeBeansIndex.LOCATION)).stream()
+                .filter(line -> !line.startsWith(CafeBeansIndex.COMMENT_PREFIX))
+                .toList();
+        Assertions.assertEquals(List.of("sample.MetaAnnotatedService", "sample.PrototypeService", "sample.SingletonService"), entries);
+    }
+
+    @Test
+    void shouldNotWriteIndexWhenNoBeansFound() throws IOException {
+        //given
+        Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        Path output = Files.createDirectories(tempDir.resolve("classes"));
+        write(sources, "PlainClass", """
+                package sample;
+                public class PlainClass {
+                }
+                """);
+
+        //when
+        boolean compiled = compile(sources, output);
+
+        //then
+        Assertions.assertTrue(compiled);
+        Assertions.assertFalse(Files.exists(output.resolve(CafeBeansIndex.LOCATION)));
+    }
+
+    @Test
+    void shouldMergeIndexOfIncrementalCompilation() throws IOException {
+        //given
+        Path sources = Files.createDirectories(tempDir.resolve("src/sample"));
+        Path changedSources = Files.createDirectories(tempDir.resolve("changed/sample"));
+        Path output = Files.createDirectories(tempDir.resolve("classes"));
+        write(sources, "SingletonService", """
+                package sample;
+                @org.taranix.cafe.beans.annotations.classes.CafeSingleton
+                public class SingletonService {
+                }
+                """);
+        write(sources, "PrototypeService", """
+                package sample;
+                @org.taranix.cafe.beans.annotations.classes.CafePrototype
+                public class PrototypeService {
+                }
+                """);
+        write(sources, "RemovedService", """
+                package sample;
+                @org.taranix.cafe.beans.annotations.classes.CafePrototype
+                public class RemovedService {
+                }
+                """);
+        Assertions.assertTrue(compile(sources, output));
+        Files.delete(output.resolve("sample/RemovedService.class"));
+        write(changedSources, "PrototypeService", """
+                package sample;
+                public class PrototypeService {
+                }
+                """);
+        write(changedSources, "AddedService", """
+                package sample;
+                @org.taranix.cafe.beans.annotations.classes.CafeSingleton
+                public class AddedService {
+                }
+                """);
+
+        //when
+        boolean compiled = compile(changedSources, output);
+
+        //then
+        Assertions.assertTrue(compiled);
+        List<String> entries = Files.readAllLines(output.resolve(CafeBeansIndex.LOCATION)).stream()
+                .filter(line -> !line.startsWith(CafeBeansIndex.COMMENT_PREFIX))
+                .toList();
+        Assertions.assertEquals(List.of("sample.AddedService", "sample.SingletonService"), entries);
+    }
+
+    private void write(Path directory, String className, String source) throws IOException {
+        Files.writeString(directory.resolve(className + ".java"), source);
+    }
+
+    private boolean compile(Path sources, Path output) throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null);
+             var files = Files.list(sources)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(files.toList());
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null,
+                    List.of("-d", output.toString(), "-classpath", System.getProperty("java.class.path")),
+                    null, units);
+            task.setProcessors(List.of(new CafeBeansIndexProcessor()));
+            return task.call();
+        }
+    }
+}
@@ -5,12 +5,15 @@ import org.taranix.cafe.beans.converters.CafeConverter;
 import org.taranix.cafe.beans.events.EventHub;
 import org.taranix.cafe.beans.exceptions.CafeApplicationException;
 import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
+import org.taranix.cafe.beans.reflection.ClassScanner;
 import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
 import org.taranix.cafe.beans.resolvers.metadata.CafeClassResolver;
 import org.taranix.cafe.beans.resolvers.metadata.method.CafeMethodResolver;
 
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -62,13 +65,80 @@ public abstract class CafeApplication {
     }
 
     private CafeApplicationContext createApplicationContext(Class<?> applicationConfigClass) {
-        return CafeApplicationContext.builder()
+        CafeApplicationContext.BeansContextBuilder builder = CafeApplicationContext.builder()
                 .withClassResolver(getCustomClassResolvers())
                 .withMethodResolver(getCustomMethodResolvers())
                 .withPackageScan(getPackages())
+                .withClassScanner(getClassScanner())
                 .withClassLoader(this.getClass().getClassLoader())
-                .withClass(applicationConfigClass)
-                .build();
+                .withClass(applicationConfigClass);
+        if (isLazyInitialization()) {
+            builder.withLazyInitialization();
+        }
+        Path snapshotFile = getSnapshotFile();
+        if (snapshotFile != null) {
+            builder.withSnapshot(snapshotFile);
+        }
+        builder.withProfiles(getProfiles());
+        Path propertiesCacheFile = getPropertiesCacheFile();
+        if (propertiesCacheFile != null) {
+            builder.withPropertiesCache(propertiesCacheFile);
+        }
+        Duration propertiesReloadDelay = getPropertiesReloadDelay();
+        if (propertiesReloadDelay != null) {
+            builder.withPropertiesReload(propertiesReloadDelay);
+        }
+        return builder.build();
+    }
+
+    /**
+     * File keeping a snapshot of the initialized context, so that later startups with an unchanged classpath
+     * skip package scanning and validation. None by default; override to return e.g. a file in the user's cache
+     * directory.
+     */
+    protected Path getSnapshotFile() {
+        return null;
+    }
+
+    /**
+     * Active profiles, whose {@code application-{profile}} properties files are read after the {@code application}
+     * ones. None by default, the {@code cafe.profiles.active} system property or the {@code CAFE_PROFILES_ACTIVE}
+     * environment variable are then used.
+     */
+    protected String[] getProfiles() {
+        return new String[]{};
+    }
+
+    /**
+     * File caching the merged properties files, read instead of the files on later startups while they are
+     * unchanged. None by default; override to return e.g. a file in the user's cache directory.
+     */
+    protected Path getPropertiesCacheFile() {
+        return null;
+    }
+
+    /**
+     * Delay after the last change of a properties file in the working directory before it is reloaded. None by
+     * default, properties are then read once; override to enable the reload of refreshable properties.
+     */
+    protected Duration getPropertiesReloadDelay() {
+        return null;
+    }
+
+    /**
+     * Whether singletons are instantiated on first use rather than during context initialization,
+     * as set by {@link org.taranix.cafe.beans.annotations.classes.CafeApplication#lazy()}.
+     */
+    protected boolean isLazyInitialization() {
+        return getCafeApplicationAnnotation().lazy();
+    }
+
+    /**
+     * Scanner used to discover bean classes. Override and return
+     * {@code ClassScanner.getInstance(ScanMode.INDEX)} to use the build-time beans index.
+     */
+    protected ClassScanner getClassScanner() {
+        return ClassScanner.getInstance();
     }
 
     protected Set<CafeClassResolver> getCustomClassResolvers() {
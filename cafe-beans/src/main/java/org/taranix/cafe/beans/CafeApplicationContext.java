@@ -3,29 +3,51 @@ package org.taranix.cafe.beans;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.taranix.cafe.beans.annotations.fields.CafeProperty;
+import org.taranix.cafe.beans.events.EventHub;
+import org.taranix.cafe.beans.events.PropertiesChangedEvent;
 import org.taranix.cafe.beans.exceptions.CafeApplicationContextException;
+import org.taranix.cafe.beans.exceptions.CafeException;
 import org.taranix.cafe.beans.metadata.CafeClass;
 import org.taranix.cafe.beans.metadata.CafeClassFactory;
+import org.taranix.cafe.beans.metadata.CafeField;
 import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
+import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 import org.taranix.cafe.beans.reflection.ClassScanner;
+import org.taranix.cafe.beans.repositories.Repository;
+import org.taranix.cafe.beans.repositories.SynchronizedRepository;
+import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
 import org.taranix.cafe.beans.repositories.beans.BeansRepository;
+import org.taranix.cafe.beans.repositories.beans.ConcurrentBeansRepository;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
+import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
+import org.taranix.cafe.beans.resolvers.CafePropertiesCache;
 import org.taranix.cafe.beans.resolvers.CafePropertiesService;
+import org.taranix.cafe.beans.resolvers.CafePropertiesWatcher;
+import org.taranix.cafe.beans.resolvers.CafePropertyStore;
 import org.taranix.cafe.beans.resolvers.CafeResolvers;
+import org.taranix.cafe.beans.resolvers.PropertySource;
 import org.taranix.cafe.beans.resolvers.metadata.CafeClassResolver;
+import org.taranix.cafe.beans.resolvers.metadata.CompiledClassResolver;
 import org.taranix.cafe.beans.resolvers.metadata.constructor.CafeConstructorResolver;
 import org.taranix.cafe.beans.resolvers.metadata.field.CafeFieldResolver;
+import org.taranix.cafe.beans.resolvers.metadata.field.PropertyResolver;
 import org.taranix.cafe.beans.resolvers.metadata.method.CafeMethodResolver;
 import org.taranix.cafe.beans.resolvers.types.CafeBeanTypeResolver;
-import org.taranix.cafe.beans.validation.CafeCycleDetectionValidator;
-import org.taranix.cafe.beans.validation.CafeHandlerMethodsParameterValidator;
-import org.taranix.cafe.beans.validation.CafeResolvableBeansValidator;
+import org.taranix.cafe.beans.services.CafeContextSnapshot;
 import org.taranix.cafe.beans.validation.CafeValidationService;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -37,12 +59,48 @@ public class CafeApplicationContext {
     @Getter
     private final CafeBeansFactory beansFactory;
 
+    private final Path snapshotFile;
+
+    private final String fingerprint;
+
+    private final List<String> scannedClassNames;
+
+    private final CafeContextSnapshot snapshot;
+
+    private final CafePropertiesService propertiesService;
+
+    private final Duration propertiesReloadDelay;
+
+    /**
+     * Watcher of the properties files, started by {@link #initialize()} when properties reload is enabled,
+     * otherwise null.
+     */
+    @Getter
+    private CafePropertiesWatcher propertiesWatcher;
+
+    /**
+     * Whether {@link #initialize()} reused a snapshot taken by an earlier startup instead of validating the context.
+     */
+    @Getter
+    private boolean restoredFromSnapshot;
+
     private CafeApplicationContext(
             CafeBeansFactory cafeBeansFactory,
-            final ClassLoader classLoader
+            Path snapshotFile,
+            String fingerprint,
+            List<String> scannedClassNames,
+            CafeContextSnapshot snapshot,
+            CafePropertiesService propertiesService,
+            Duration propertiesReloadDelay
     ) {
         this.beansFactory = cafeBeansFactory;
-        CafePropertiesService.load(beansFactory.getRepository(), classLoader);
+        this.snapshotFile = snapshotFile;
+        this.fingerprint = fingerprint;
+        this.scannedClassNames = scannedClassNames;
+        this.snapshot = snapshot;
+        this.propertiesReloadDelay = propertiesReloadDelay;
+        this.propertiesService = propertiesService;
+        beansFactory.setPropertyStore(propertiesService.getPropertyStore());
     }
 
     public static BeansContextBuilder builder() {
@@ -52,7 +110,38 @@ public class CafeApplicationContext {
 
     public void initialize() {
         log.debug("Resolving all beans");
-        beansFactory.resolveAllBeans();
+        resolveAllBeans();
+        if (propertiesReloadDelay != null) {
+            propertiesWatcher = CafePropertiesWatcher.start(propertiesService, propertiesReloadDelay, this::onPropertiesChanged);
+        }
+    }
+
+    private void resolveAllBeans() {
+        if (snapshotFile == null) {
+            beansFactory.resolveAllBeans();
+            return;
+        }
+        // the snapshot stands for a validated context only while validation would see the same repository keys
+        String repositoryFingerprint = CafeContextSnapshot.repositoryFingerprint(beansFactory.getRepository());
+        CafeContextSnapshot validSnapshot = snapshot != null && snapshot.getRepositoryFingerprint().equals(repositoryFingerprint)
+                ? snapshot
+                : null;
+        beansFactory.resolveAllBeans(validSnapshot);
+        restoredFromSnapshot = validSnapshot != null;
+        if (!restoredFromSnapshot) {
+            CafeContextSnapshot.builder()
+                    .fingerprint(fingerprint)
+                    .repositoryFingerprint(repositoryFingerprint)
+                    .scannedClassNames(scannedClassNames)
+                    .classLayers(beansFactory.getOrderedBeansService().classLayers().stream()
+                            .map(layer -> layer.stream()
+                                    .map(cafeClass -> cafeClass.getRootClass().getName())
+                                    .toList())
+                            .toList())
+                    .resolverAssignments(beansFactory.getResolvers().getAssignments())
+                    .build()
+                    .write(snapshotFile);
+        }
     }
 
     public <T> Collection<T> getInstances(Class<T> clz) {
@@ -102,6 +191,45 @@ public class CafeApplicationContext {
         return beansFactory.getProperty(propertyName);
     }
 
+    public CafePropertyStore getPropertyStore() {
+        return beansFactory.getPropertyStore();
+    }
+
+    /**
+     * Injects the changed refreshable properties into the singletons already instantiated, then sends the event
+     * through the {@link EventHub}, if any.
+     */
+    private void onPropertiesChanged(PropertiesChangedEvent event) {
+        beansFactory.setPropertyStore(propertiesService.getPropertyStore());
+        PropertyResolver propertyResolver = new PropertyResolver();
+        for (CafeClass cafeClass : beansFactory.getCafeMetadataRegistry().getCafeClassMetadata()) {
+            List<CafeField> refreshedFields = cafeClass.getFields().stream()
+                    .filter(cafeField -> isRefreshed(cafeField, event.changedKeys()))
+                    .toList();
+            if (refreshedFields.isEmpty() || !cafeClass.isSingleton()
+                    || !beansFactory.isResolved(cafeClass.getRootClassTypeKey())) {
+                continue;
+            }
+            beansFactory.getAllResolved(cafeClass.getRootClassTypeKey()).stream()
+                    .filter(instance -> instance.getClass() == cafeClass.getRootClass())
+                    .forEach(instance -> refreshedFields.forEach(cafeField -> {
+                        try {
+                            propertyResolver.resolve(instance, cafeField, beansFactory);
+                        } catch (CafeException e) {
+                            log.error("Couldn't refresh property of {}: {}", cafeField.getMember(), e.getMessage());
+                        }
+                    }));
+        }
+        if (beansFactory.getBeanOrNull(BeanTypeKey.from(EventHub.class)) instanceof EventHub eventHub) {
+            eventHub.send(event);
+        }
+    }
+
+    private static boolean isRefreshed(CafeField cafeField, Set<String> changedKeys) {
+        CafeProperty cafeProperty = cafeField.getAnnotation(CafeProperty.class);
+        return cafeProperty != null && cafeProperty.refreshable() && changedKeys.contains(cafeProperty.name());
+    }
+
     public void refresh(Object object) {
         Class<?> clx = object.getClass();
         CafeClass cci = CafeClassFactory.create(clx);
@@ -123,14 +251,36 @@ public class CafeApplicationContext {
         private final Set<Class<?>> classesToBeResolved = new HashSet<>();
 
         private final Set<CafeBeanTypeResolver> typeResolvers = new HashSet<>();
+        private final List<String> profiles = new ArrayList<>();
+        private final List<PropertySource> propertySources = new ArrayList<>();
         private String[] packages;
 
-        private BeansRepository repository;
+        private Repository<TypeKey, BeanRepositoryEntry> repository;
 
         private CafeValidationService cafeValidationService;
 
         private ClassLoader classLoader;
 
+        private ClassScanner classScanner;
+
+
+        private ForkJoinPool metadataForkJoinPool;
+
+        private Executor instantiationExecutor;
+
+        private boolean compiledFactories;
+
+        private boolean lazyInitialization;
+
+        private Path snapshotFile;
+
+        private Path propertiesDirectory = Paths.get(".").toAbsolutePath();
+
+        private boolean lazyYamlSections;
+
+        private Path propertiesCacheFile;
+
+        private Duration propertiesReloadDelay;
 
         public BeansContextBuilder withPackageScan(String... packages) {
             this.packages = packages;
@@ -143,7 +293,12 @@ public class CafeApplicationContext {
             return this;
         }
 
-        public BeansContextBuilder repository(BeansRepository repository) {
+        /**
+         * Sets the repository holding the beans. {@link BeansRepository} is used by default; a
+         * {@link org.taranix.cafe.beans.repositories.beans.ConcurrentBeansRepository} suits contexts whose beans are
+         * looked up from many threads.
+         */
+        public BeansContextBuilder repository(Repository<TypeKey, BeanRepositoryEntry> repository) {
             this.repository = repository;
             return this;
         }
@@ -168,23 +323,149 @@ public class CafeApplicationContext {
             return this;
         }
 
+        public BeansContextBuilder withClassScanner(ClassScanner classScanner) {
+            this.classScanner = classScanner;
+            return this;
+        }
+
+
+        /**
+         * Creates class metadata in parallel on the given pool instead of sequentially.
+         */
+        public BeansContextBuilder withMetadataForkJoinPool(ForkJoinPool forkJoinPool) {
+            this.metadataForkJoinPool = forkJoinPool;
+            return this;
+        }
+
+        /**
+         * Instantiates independent singletons (classes of the same dependency layer) concurrently on the given executor,
+         * e.g. a fixed thread pool or, on Java 21+, a virtual-thread-per-task executor.
+         */
+        public BeansContextBuilder withParallelInstantiation(Executor executor) {
+            this.instantiationExecutor = executor;
+            return this;
+        }
+
+        /**
+         * Creates beans of service classes through factories compiled once per class (resolvers selected and
+         * dependency type keys computed up front) instead of resolving every member on each creation.
+         * Mostly useful for prototype-heavy applications.
+         */
+        public BeansContextBuilder withCompiledFactories() {
+            this.compiledFactories = true;
+            return this;
+        }
+
+        /**
+         * Instantiates singletons on first lookup instead of during {@link CafeApplicationContext#initialize()},
+         * as if every class was marked with {@link org.taranix.cafe.beans.annotations.modifiers.CafeLazy}.
+         * Validation still runs for all classes during initialization.
+         */
+        public BeansContextBuilder withLazyInitialization() {
+            this.lazyInitialization = true;
+            return this;
+        }
+
+        /**
+         * Saves the artifacts of the first successful initialization (scanned classes, dependency order, chosen
+         * resolvers) to the given file, and restores them on later startups with an unchanged classpath, skipping
+         * the package scan and validation. See {@link CafeContextSnapshot}.
+         */
+        public BeansContextBuilder withSnapshot(Path snapshotFile) {
+            this.snapshotFile = snapshotFile;
+            return this;
+        }
+
+        /**
+         * Directory of the properties files read after the ones of the classpath, the working directory by default.
+         */
+        public BeansContextBuilder withPropertiesDirectory(Path directory) {
+            this.propertiesDirectory = directory.toAbsolutePath();
+            return this;
+        }
+
+        /**
+         * Builds the maps of nested YAML mappings only when such a section is requested as a property, instead of
+         * when the files are loaded. Useful with large YAML files of which few sections are injected as maps.
+         */
+        public BeansContextBuilder withLazyYamlSections() {
+            this.lazyYamlSections = true;
+            return this;
+        }
+
+        /**
+         * Activates the given profiles: the {@code application-{profile}} properties files of the classpath and of
+         * the properties directory are read after the {@code application} ones, a later profile overriding an
+         * earlier one. By default, the profiles listed by the {@value CafePropertiesService#PROFILES_PROPERTY}
+         * system property or the {@code CAFE_PROFILES_ACTIVE} environment variable.
+         */
+        public BeansContextBuilder withProfiles(String... profiles) {
+            this.profiles.addAll(List.of(profiles));
+            return this;
+        }
+
+        /**
+         * Adds a source of properties, read after the properties files. A cacheable source is cached with the
+         * properties files, and environment variables and system properties still override its properties.
+         */
+        public BeansContextBuilder withPropertySource(PropertySource propertySource) {
+            this.propertySources.add(propertySource);
+            return this;
+        }
+
+        /**
+         * Caches the merged properties of the properties files in the given file, and reads them from it on later
+         * startups as long as no properties file changed, instead of parsing the files. Environment variables and
+         * system properties are applied on every startup. See {@link CafePropertiesCache}.
+         */
+        public BeansContextBuilder withPropertiesCache(Path cacheFile) {
+            this.propertiesCacheFile = cacheFile;
+            return this;
+        }
+
+        /**
+         * Watches the properties files of the properties directory once the context is initialized, and reloads a
+         * changed file after no further change was seen for the given delay. Refreshable
+         * {@link CafeProperty} fields of singletons are then injected again, and a {@link PropertiesChangedEvent}
+         * is sent through the {@link EventHub}. See {@link CafePropertiesWatcher}. The repository is then accessed
+         * through a {@link SynchronizedRepository}, unless it is already thread-safe.
+         */
+        public BeansContextBuilder withPropertiesReload(Duration debounce) {
+            this.propertiesReloadDelay = debounce;
+            return this;
+        }
 
         public CafeApplicationContext build() {
 
+            if (classScanner == null) {
+                classScanner = ClassScanner.getInstance();
+            }
+
+            String fingerprint = null;
+            CafeContextSnapshot snapshot = null;
+            Set<Class<?>> scannedClasses = null;
+            if (snapshotFile != null) {
+                fingerprint = CafeContextSnapshot.fingerprint(CafeReflectionUtils.getDefault(), snapshotInputs());
+                snapshot = CafeContextSnapshot.load(snapshotFile, fingerprint);
+                scannedClasses = snapshot == null ? null : restoreScannedClasses(snapshot);
+                if (scannedClasses == null) {
+                    snapshot = null;
+                }
+            }
+            if (scannedClasses == null) {
+                scannedClasses = classScanner.scan(packages);
+            }
+
             Set<Class<?>> allClasses = Stream.concat(classesToBeResolved.stream()
-                            , ClassScanner.getInstance().scan(packages).stream())
+                            , scannedClasses.stream())
                     .collect(Collectors.toSet());
             CafeMetadataRegistry metadataRegistry = CafeMetadataRegistry.builder()
                     .withClasses(allClasses)
+                    .withForkJoinPool(metadataForkJoinPool)
                     .build();
 
             if (cafeValidationService == null) {
-                cafeValidationService = new CafeValidationService(
-                        Set.of(
-                                new CafeCycleDetectionValidator(),
-                                new CafeResolvableBeansValidator(),
-                                new CafeHandlerMethodsParameterValidator())
-                );
+                cafeValidationService = CafeValidationService.getDefault();
             }
 
 
@@ -196,16 +477,66 @@ public class CafeApplicationContext {
                 repository = new BeansRepository();
             }
 
-            CafeResolvers cafeResolvers = new CafeResolvers();
+            if (propertiesReloadDelay != null && !(repository instanceof SynchronizedRepository<TypeKey, BeanRepositoryEntry>)
+                    && !(repository instanceof ConcurrentBeansRepository)) {
+                // reloaded properties are replaced in the repository on the watcher thread
+                repository = new SynchronizedRepository<>(repository);
+            }
+
+            CafeResolvers cafeResolvers = compiledFactories
+                    ? new CafeResolvers(new CompiledClassResolver())
+                    : new CafeResolvers();
             cafeResolvers.add(classResolvers.toArray(CafeClassResolver[]::new));
             cafeResolvers.add(constructorResolvers.toArray(CafeConstructorResolver[]::new));
             cafeResolvers.add(fieldResolvers.toArray(CafeFieldResolver[]::new));
             cafeResolvers.add(methodResolvers.toArray(CafeMethodResolver[]::new));
             cafeResolvers.add(typeResolvers.toArray(CafeBeanTypeResolver[]::new));
 
-            CafeBeansFactory beansFactory1 = new CafeBeansFactory(repository, cafeValidationService, metadataRegistry, cafeResolvers);
+            CafeBeansFactory beansFactory1 = new CafeBeansFactory(repository, cafeValidationService, metadataRegistry, cafeResolvers, instantiationExecutor, lazyInitialization);
 
-            return new CafeApplicationContext(beansFactory1, classLoader);
+            List<PropertySource> sources = new ArrayList<>(CafePropertiesService.defaultSources(classLoader, propertiesDirectory, profiles, lazyYamlSections));
+            sources.addAll(propertySources);
+            CafePropertiesService propertiesService = CafePropertiesService.load(repository, propertiesDirectory, sources, propertiesCacheFile, lazyYamlSections);
+
+            if (snapshotFile == null) {
+                return new CafeApplicationContext(beansFactory1, null, null, List.of(), null, propertiesService, propertiesReloadDelay);
+            }
+            List<String> scannedClassNames = scannedClasses.stream()
+                    .map(Class::getName)
+                    .sorted()
+                    .toList();
+            return new CafeApplicationContext(beansFactory1, snapshotFile, fingerprint, scannedClassNames, snapshot, propertiesService, propertiesReloadDelay);
+        }
+
+        /**
+         * Builder settings changing the scanned classes or the chosen resolvers, so a snapshot taken with other
+         * settings is not restored.
+         */
+        private List<String> snapshotInputs() {
+            List<String> inputs = new ArrayList<>();
+            inputs.add("scanMode:" + classScanner.getScanMode());
+            inputs.add("compiledFactories:" + compiledFactories);
+            Stream.of(packages == null ? new String[0] : packages)
+                    .map(pkg -> "package:" + pkg)
+                    .sorted()
+                    .forEach(inputs::add);
+            Stream.of(classesToBeResolved, classResolvers, constructorResolvers, fieldResolvers, methodResolvers, typeResolvers)
+                    .flatMap(Collection::stream)
+                    .map(element -> element instanceof Class<?> cls ? "class:" + cls.getName() : "resolver:" + element.getClass().getName())
+                    .sorted()
+                    .forEach(inputs::add);
+            return inputs;
+        }
+
+        private static Set<Class<?>> restoreScannedClasses(CafeContextSnapshot snapshot) {
+            Set<Class<?>> classes = CafeReflectionUtils.loadClasses(CafeReflectionUtils.getDefault(), snapshot.getScannedClassNames())
+                    .collect(Collectors.toSet());
+            if (classes.size() != snapshot.getScannedClassNames().size()) {
+                log.warn("Context snapshot lists classes which can't be loaded, scanning packages");
+                return null;
+            }
+            log.debug("{} scanned classes restored from snapshot", classes.size());
+            return classes;
         }
 
 
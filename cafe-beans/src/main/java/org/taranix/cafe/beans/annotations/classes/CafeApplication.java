@@ -11,4 +11,9 @@ public @interface CafeApplication {
     String[] packages() default {};
 
     Class<? extends Annotation>[] annotations() default {};
+
+    /**
+     * Instantiates singletons on first use instead of during context initialization.
+     */
+    boolean lazy() default false;
 }
@@ -12,4 +12,11 @@ import java.lang.annotation.Target;
 @CafeWiringType
 public @interface CafeProperty {
     String name();
+
+    /**
+     * Whether the field of a singleton is injected again when the property changes, with properties reload
+     * enabled ({@code CafeApplicationContext.BeansContextBuilder#withPropertiesReload}). The field is set from the
+     * reloading thread, so it should be volatile.
+     */
+    boolean refreshable() default false;
 }
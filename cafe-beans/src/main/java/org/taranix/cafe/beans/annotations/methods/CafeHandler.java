@@ -12,4 +12,16 @@ import java.lang.annotation.Target;
 @CafeHandlerType
 public @interface CafeHandler {
     String id() default "";
+
+    /**
+     * Delivers events to the handler on the executor of the {@link org.taranix.cafe.beans.events.EventHub}
+     * instead of the sending thread. Events are still delivered to a listener one at a time, in the order sent.
+     */
+    boolean async() default false;
+
+    /**
+     * Merges an event into an equal event still waiting for delivery to the handler, so a burst of identical
+     * events (e.g. repeated modification notifications) is handled once. Implies {@link #async()}.
+     */
+    boolean coalesce() default false;
 }
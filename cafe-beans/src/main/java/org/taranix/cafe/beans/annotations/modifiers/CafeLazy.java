@@ -0,0 +1,17 @@
+package org.taranix.cafe.beans.annotations.modifiers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a singleton class to be instantiated on first use instead of during context initialization.
+ * Classes with {@link org.taranix.cafe.beans.annotations.methods.CafeHandler} methods are always
+ * instantiated upfront, so their handlers are registered before any event is sent.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@CafeModifier
+public @interface CafeLazy {
+}
@@ -4,13 +4,47 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
 import org.taranix.cafe.beans.annotations.methods.CafeHandler;
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
-import java.util.*;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 /**
- * Runtime event bus backed by a {@link WeakHashMap} of registered listeners.
+ * Runtime event bus dispatching events to the {@link CafeHandler} methods of registered listeners.
  * Listeners are held weakly — they are automatically removed when no strong reference exists.
+ * <p>
+ * Handlers are indexed by event type when a listener is registered, each with a {@link MethodHandle} created once
+ * per listener class. The index holds immutable arrays replaced on {@link #register(Object)} and
+ * {@link #unregister(Object)} (copy-on-write), so sending an event is a lock-free lookup of the handlers of its
+ * type, without copying the listeners or inspecting annotations.
  *
  * <h2>Registering a listener</h2>
  * Call {@link #register(Object)} on any object. EventHub scans all methods
@@ -32,6 +66,20 @@ import java.util.*;
  *       only listeners that are instances of the given {@code targetType} are considered.</li>
  * </ol>
  *
+ * <h2>Asynchronous delivery</h2>
+ * Handlers marked {@code @CafeHandler(async = true)} receive events on the hub's executor
+ * ({@link ForkJoinPool#commonPool()} unless set with {@link #setExecutor(Executor)}), and {@link #sendAsync(CafeEvent)}
+ * delivers an event to all its handlers that way. Asynchronous events are queued per listener, so a listener
+ * receives them one at a time and in the order sent. With {@code @CafeHandler(coalesce = true)}, an event equal to
+ * one still queued for the same handler is merged into it. Deliveries the executor rejects, e.g. once it is shut
+ * down, fail without being retried and are counted as handler failures; they never fail the sending of the event.
+ *
+ * <h2>Listener lifecycle</h2>
+ * Listeners that are no longer used should be {@link #unregister(Object) unregistered} explicitly, e.g. when a
+ * component is disposed. Handlers of listeners collected by the GC are purged using a reference queue on the next
+ * {@link #register(Object)}, {@link #unregister(Object)} or {@link #purge()}, never while sending events.
+ * {@link #getStatistics()} reports the listener count, dispatch latency and handler failures.
+ *
  * <h2>Example</h2>
  * <pre>{@code
  * // event
@@ -56,69 +104,375 @@ public class EventHub {
 
     private static final Logger log = LoggerFactory.getLogger(EventHub.class);
 
-    private final WeakHashMap<Object, List<Method>> listeners = new WeakHashMap<>();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * (Object listener, Object event) -> void
+     */
+    private static final MethodType HANDLER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final Handler[] NO_HANDLERS = new Handler[0];
+
+    /**
+     * Handler methods per listener class, discovered once.
+     */
+    private static final ClassValue<List<HandlerMethod>> HANDLER_METHODS = new ClassValue<>() {
+        @Override
+        protected List<HandlerMethod> computeValue(Class<?> type) {
+            return discoverHandlers(type);
+        }
+    };
+
+    private volatile Executor executor = ForkJoinPool.commonPool();
+
+    /**
+     * Every registered listener. Guarded by {@code this}.
+     */
+    private final WeakHashMap<Object, Listener> listeners = new WeakHashMap<>();
+
+    /**
+     * Listeners collected by the GC, whose handlers are still indexed.
+     */
+    private final ReferenceQueue<Object> collectedListeners = new ReferenceQueue<>();
+
+    /**
+     * Handlers per event type, in registration order. Arrays are never modified, only replaced under {@code this}.
+     */
+    private final Map<Class<?>, Handler[]> handlersByEventType = new ConcurrentHashMap<>();
+
+    private final LongAdder dispatchedEvents = new LongAdder();
+
+    private final LongAdder handlerInvocations = new LongAdder();
+
+    private final LongAdder handlerFailures = new LongAdder();
+
+    private final LongAdder totalDispatchNanos = new LongAdder();
+
+    private final LongAccumulator maxDispatchNanos = new LongAccumulator(Math::max, 0);
 
     public synchronized void register(Object listener) {
-        listeners.put(listener, discoverHandlers(listener));
+        purge();
+        Listener registered = new Listener(listener);
+        Listener previous = listeners.put(listener, registered);
+        if (previous != null) {
+            previous.clear();
+            removeHandlers(previous.handlers);
+        }
+        addHandlers(registered.handlers);
     }
 
     public synchronized void unregister(Object listener) {
-        listeners.remove(listener);
+        purge();
+        Listener removed = listeners.remove(listener);
+        if (removed != null) {
+            removed.clear();
+            removeHandlers(removed.handlers);
+        }
+    }
+
+    /**
+     * Removes the handlers of listeners collected by the GC.
+     *
+     * @return the number of purged listeners
+     */
+    public synchronized int purge() {
+        int purged = 0;
+        Reference<?> collected;
+        while ((collected = collectedListeners.poll()) != null) {
+            removeHandlers(((Listener) collected).handlers);
+            purged++;
+        }
+        if (purged > 0) {
+            log.debug("Purged handlers of {} collected listeners", purged);
+        }
+        return purged;
+    }
+
+    /**
+     * Returns the counters of this hub, after purging collected listeners.
+     */
+    public EventHubStatistics getStatistics() {
+        int listenerCount;
+        synchronized (this) {
+            purge();
+            listenerCount = listeners.size();
+        }
+        return new EventHubStatistics(listenerCount, dispatchedEvents.sum(), handlerInvocations.sum(),
+                handlerFailures.sum(), Duration.ofNanos(totalDispatchNanos.sum()),
+                Duration.ofNanos(maxDispatchNanos.get()));
+    }
+
+    /**
+     * Sets the executor delivering asynchronous events, e.g. {@code Executors.newVirtualThreadPerTaskExecutor()}
+     * on Java 21+.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
     }
 
     public void send(CafeEvent event) {
-        snapshot().forEach((listener, methods) ->
-                methods.forEach(method -> tryInvoke(listener, method, event)));
+        long sentAt = System.nanoTime();
+        dispatchedEvents.increment();
+        for (Handler handler : handlers(event)) {
+            Object listener = handler.listener.get();
+            if (listener != null) {
+                handler.deliver(listener, event, sentAt);
+            }
+        }
     }
 
     public void send(CafeEvent event, Class<?> targetType) {
-        snapshot().entrySet().stream()
-                .filter(e -> targetType.isInstance(e.getKey()))
-                .forEach(e -> e.getValue().forEach(method -> tryInvoke(e.getKey(), method, event)));
+        long sentAt = System.nanoTime();
+        dispatchedEvents.increment();
+        for (Handler handler : handlers(event)) {
+            Object listener = handler.listener.get();
+            if (targetType.isInstance(listener)) {
+                handler.deliver(listener, event, sentAt);
+            }
+        }
     }
 
     public void send(CafeEvent event, Object targetInstance) {
-        List<Method> found = snapshot().get(targetInstance);
-        List<Method> methods = found != null ? new ArrayList<>(found) : null;
-        if (methods != null) {
-            methods.forEach(method -> tryInvoke(targetInstance, method, event));
+        long sentAt = System.nanoTime();
+        dispatchedEvents.increment();
+        for (Handler handler : handlers(event)) {
+            Object listener = handler.listener.get();
+            if (listener != null && (listener == targetInstance || listener.equals(targetInstance))) {
+                handler.deliver(listener, event, sentAt);
+            }
         }
     }
 
-    private synchronized Map<Object, List<Method>> snapshot() {
-        return new LinkedHashMap<>(listeners);
+    /**
+     * Delivers the event to all its handlers on the hub's executor and returns without waiting for them.
+     *
+     * @return a future completed once every handler ran, exceptionally if any handler failed
+     */
+    public CompletableFuture<Void> sendAsync(CafeEvent event) {
+        long sentAt = System.nanoTime();
+        dispatchedEvents.increment();
+        Handler[] handlers = handlers(event);
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>(handlers.length);
+        for (Handler handler : handlers) {
+            Object listener = handler.listener.get();
+            if (listener != null) {
+                deliveries.add(handler.enqueue(listener, event, sentAt));
+            }
+        }
+        return CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new));
+    }
+
+    private Handler[] handlers(CafeEvent event) {
+        return handlersByEventType.getOrDefault(event.getClass(), NO_HANDLERS);
+    }
+
+    private void addHandlers(List<Handler> handlers) {
+        handlers.stream()
+                .collect(Collectors.groupingBy(handler -> handler.method.eventType, LinkedHashMap::new, Collectors.toList()))
+                .forEach((eventType, added) -> handlersByEventType.merge(eventType, added.toArray(Handler[]::new),
+                        (current, additional) -> {
+                            Handler[] result = Arrays.copyOf(current, current.length + additional.length);
+                            System.arraycopy(additional, 0, result, current.length, additional.length);
+                            return result;
+                        }));
+    }
+
+    /**
+     * Removes the given handlers, and the handlers of collected listeners of the same event types.
+     */
+    private void removeHandlers(List<Handler> handlers) {
+        Set<Handler> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+        removed.addAll(handlers);
+        handlers.stream()
+                .map(handler -> handler.method.eventType)
+                .distinct()
+                .forEach(eventType -> handlersByEventType.computeIfPresent(eventType, (type, current) -> {
+                    Handler[] remaining = Arrays.stream(current)
+                            .filter(handler -> !removed.contains(handler) && handler.listener.get() != null)
+                            .toArray(Handler[]::new);
+                    return remaining.length == 0 ? null : remaining;
+                }));
     }
 
-    private List<Method> discoverHandlers(Object listener) {
-        List<Method> handlers = new ArrayList<>();
-        Class<?> clazz = listener.getClass();
+    private static List<HandlerMethod> discoverHandlers(Class<?> listenerClass) {
+        List<HandlerMethod> handlers = new ArrayList<>();
+        Class<?> clazz = listenerClass;
         while (clazz != null && clazz != Object.class) {
             for (Method method : clazz.getDeclaredMethods()) {
-                if (method.isAnnotationPresent(CafeHandler.class)) {
-                    method.setAccessible(true);
-                    handlers.add(method);
+                // only methods with a single parameter can match an event
+                CafeHandler annotation = method.getAnnotation(CafeHandler.class);
+                if (annotation != null && method.getParameterCount() == 1) {
+                    handlers.add(new HandlerMethod(method, method.getParameterTypes()[0], handlerHandle(method),
+                            annotation.async() || annotation.coalesce(), annotation.coalesce()));
                 }
             }
             clazz = clazz.getSuperclass();
         }
-        return handlers;
+        return List.copyOf(handlers);
     }
 
-    private void tryInvoke(Object listener, Method method, CafeEvent event) {
-        if (!matches(method, event)) return;
+    private static MethodHandle handlerHandle(Method method) {
         try {
-            method.invoke(listener, event);
-        } catch (Exception ex) {
-            log.error("Handler {}.{} failed during dispatch",
-                    listener.getClass().getSimpleName(), method.getName(), ex);
+            method.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(HANDLER_TYPE);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionUtilsException("Couldn't access handler %s of class %s: %s"
+                    .formatted(method.getName(), method.getDeclaringClass().getName(), e.getMessage()), e);
         }
     }
 
-    private boolean matches(Method method, CafeEvent event) {
-        CafeHandler ann = method.getAnnotation(CafeHandler.class);
-        if (ann == null) return false;
-        Class<?>[] params = method.getParameterTypes();
-        return params.length == 1
-                && params[0].equals(event.getClass());
+    /**
+     * A handler method of a listener class, matching events of exactly {@code eventType}.
+     */
+    private record HandlerMethod(Method method, Class<?> eventType, MethodHandle handle, boolean async,
+                                 boolean coalesce) {
+    }
+
+    /**
+     * A handler method of a registered listener.
+     */
+    private record Handler(Listener listener, HandlerMethod method) {
+
+        void deliver(Object target, CafeEvent event, long sentAt) {
+            if (method.async) {
+                enqueue(target, event, sentAt);
+            } else {
+                listener.invoke(method, target, event, sentAt);
+            }
+        }
+
+        CompletableFuture<Void> enqueue(Object target, CafeEvent event, long sentAt) {
+            CompletableFuture<Void> future = new CompletableFuture<>();
+            if (!method.coalesce) {
+                listener.execute(new Delivery(method, target, event, sentAt, future, null));
+                return future;
+            }
+            PendingEvent pendingEvent = new PendingEvent(method, event);
+            CompletableFuture<Void> pending = listener.pending.putIfAbsent(pendingEvent, future);
+            if (pending != null) {
+                log.trace("Event {} merged into a pending delivery to {}", event, method.method.getName());
+                return pending;
+            }
+            listener.execute(new Delivery(method, target, event, sentAt, future, pendingEvent));
+            return future;
+        }
+    }
+
+    /**
+     * An asynchronous delivery queued for a listener.
+     *
+     * @param pendingEvent the key of the delivery among the pending events of a coalescing handler, or null
+     */
+    private record Delivery(HandlerMethod method, Object target, CafeEvent event, long sentAt,
+                            CompletableFuture<Void> future, PendingEvent pendingEvent) {
+    }
+
+    /**
+     * An event waiting for delivery to a coalescing handler; equal events are merged.
+     */
+    private record PendingEvent(HandlerMethod method, Object event) {
+    }
+
+    /**
+     * A registered listener, referenced weakly so the handles of its handlers are not bound to it. Runs its
+     * asynchronous deliveries one at a time, in the order queued, on the hub's executor.
+     */
+    private final class Listener extends WeakReference<Object> {
+
+        private final List<Handler> handlers;
+
+        private final Queue<Delivery> deliveries = new ConcurrentLinkedQueue<>();
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private final Map<PendingEvent, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+
+        Listener(Object listener) {
+            super(listener, collectedListeners);
+            this.handlers = HANDLER_METHODS.get(listener.getClass()).stream()
+                    .map(handlerMethod -> new Handler(this, handlerMethod))
+                    .toList();
+        }
+
+        void execute(Delivery delivery) {
+            deliveries.add(delivery);
+            schedule();
+        }
+
+        void run(Delivery delivery) {
+            if (delivery.pendingEvent != null) {
+                // removed before the handler runs, so events sent meanwhile are delivered again
+                pending.remove(delivery.pendingEvent);
+            }
+            Throwable failure = invoke(delivery.method, delivery.target, delivery.event, delivery.sentAt);
+            if (failure == null) {
+                delivery.future.complete(null);
+            } else {
+                delivery.future.completeExceptionally(failure);
+            }
+        }
+
+        void reject(Delivery delivery, RejectedExecutionException e) {
+            if (delivery.pendingEvent != null) {
+                pending.remove(delivery.pendingEvent, delivery.future);
+            }
+            handlerFailures.increment();
+            log.error("Delivery of {} to handler {}.{} rejected by the executor: {}", delivery.event,
+                    delivery.target.getClass().getSimpleName(), delivery.method.method.getName(), e.toString());
+            delivery.future.completeExceptionally(e);
+        }
+
+        /**
+         * @return the exception thrown by the handler, or null
+         */
+        Throwable invoke(HandlerMethod method, Object target, CafeEvent event, long sentAt) {
+            Throwable failure = null;
+            try {
+                method.handle.invokeExact(target, (Object) event);
+            } catch (Throwable ex) {
+                handlerFailures.increment();
+                log.error("Handler {}.{} failed during dispatch",
+                        target.getClass().getSimpleName(), method.method.getName(), ex);
+                failure = ex;
+            }
+            long latency = System.nanoTime() - sentAt;
+            handlerInvocations.increment();
+            totalDispatchNanos.add(latency);
+            maxDispatchNanos.accumulate(latency);
+            return failure;
+        }
+
+        private void schedule() {
+            while (!deliveries.isEmpty() && scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                    return;
+                } catch (RejectedExecutionException e) {
+                    // no drain will run: fail the queued deliveries instead of leaving their futures pending
+                    Delivery delivery;
+                    while ((delivery = deliveries.poll()) != null) {
+                        reject(delivery, e);
+                    }
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Delivery delivery;
+                while ((delivery = deliveries.poll()) != null) {
+                    run(delivery);
+                }
+            } finally {
+                scheduled.set(false);
+            }
+            // a delivery queued after the last poll but before the flag was cleared
+            schedule();
+        }
     }
 }
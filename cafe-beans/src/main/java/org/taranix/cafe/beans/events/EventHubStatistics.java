@@ -0,0 +1,21 @@
+package org.taranix.cafe.beans.events;
+
+import java.time.Duration;
+
+/**
+ * Counters of an {@link EventHub}, as returned by {@link EventHub#getStatistics()}.
+ *
+ * @param listeners          registered listeners not yet collected
+ * @param dispatchedEvents   events sent
+ * @param handlerInvocations handler invocations, including failed ones
+ * @param handlerFailures    handler invocations that threw an exception
+ * @param totalDispatchTime  sum of the times from sending an event until a handler returned
+ * @param maxDispatchTime    longest time from sending an event until a handler returned
+ */
+public record EventHubStatistics(int listeners, long dispatchedEvents, long handlerInvocations, long handlerFailures,
+                                 Duration totalDispatchTime, Duration maxDispatchTime) {
+
+    public Duration averageDispatchTime() {
+        return handlerInvocations == 0 ? Duration.ZERO : totalDispatchTime.dividedBy(handlerInvocations);
+    }
+}
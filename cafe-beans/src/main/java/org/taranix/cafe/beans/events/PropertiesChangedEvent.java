@@ -0,0 +1,14 @@
+package org.taranix.cafe.beans.events;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+/**
+ * Sent through the {@link EventHub} when reloaded properties files changed the value of some properties.
+ * Refreshable properties are injected again before the event is sent.
+ *
+ * @param changedKeys properties added, removed or set to another value
+ * @param files       the reloaded files
+ */
+public record PropertiesChangedEvent(Set<String> changedKeys, Set<Path> files) implements CafeEvent {
+}
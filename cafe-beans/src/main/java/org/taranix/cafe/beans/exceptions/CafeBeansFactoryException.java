@@ -4,4 +4,8 @@ public class CafeBeansFactoryException extends CafeException {
     public CafeBeansFactoryException(final String message) {
         super(message);
     }
+
+    public CafeBeansFactoryException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
 }
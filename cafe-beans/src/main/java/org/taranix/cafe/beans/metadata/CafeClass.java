@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.ToString;
 import org.taranix.cafe.beans.annotations.base.CafeHandlerType;
 import org.taranix.cafe.beans.annotations.base.CafeWiringType;
+import org.taranix.cafe.beans.annotations.modifiers.CafeLazy;
 import org.taranix.cafe.beans.exceptions.CafeClassMetadataException;
 import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
@@ -36,6 +37,8 @@ public class CafeClass {
     @EqualsAndHashCode.Include
     private final Class<?> rootClass;
 
+    private final BeanTypeKey rootClassTypeKey;
+
     /**
      * An unmodifiable set of all members (fields, constructor, methods) relevant to the container.
      */
@@ -72,6 +75,7 @@ public class CafeClass {
      */
     protected CafeClass(final Class<?> rootClass) {
         this.rootClass = Objects.requireNonNull(rootClass, "Root class cannot be null");
+        this.rootClassTypeKey = BeanTypeKey.from(rootClass);
 
         Set<CafeMember> tempMembers = new HashSet<>();
         CafeConstructor foundConstructor = null;
@@ -214,7 +218,7 @@ public class CafeClass {
     public CafeMethod getMethod(String methodName, BeanTypeKey... requiredTypes) {
         return methods.stream()
                 .filter(cafeMethodMetadata -> cafeMethodMetadata.getMethod().getName().equals(methodName))
-                .filter(cafeMethodMetadata -> Arrays.equals(cafeMethodMetadata.getMethodParameterTypeKeys(), requiredTypes))
+                .filter(cafeMethodMetadata -> cafeMethodMetadata.getParameterTypeKeys().equals(Arrays.asList(requiredTypes)))
                 .findFirst()
                 .orElse(null);
     }
@@ -226,7 +230,7 @@ public class CafeClass {
      * @return The type key of the root class.
      */
     public BeanTypeKey getRootClassTypeKey() {
-        return BeanTypeKey.from(rootClass);
+        return rootClassTypeKey;
     }
 
     /**
@@ -276,6 +280,25 @@ public class CafeClass {
         return CafeAnnotationUtils.isSingleton(rootClass);
     }
 
+    /**
+     * Checks if the bean defined by this metadata is marked with {@link CafeLazy}, to be instantiated on first use.
+     *
+     * @return {@code true} if the root class is annotated with {@link CafeLazy}.
+     */
+    public boolean isLazy() {
+        return rootClass.isAnnotationPresent(CafeLazy.class);
+    }
+
+    /**
+     * Checks if any method of this class handles events.
+     *
+     * @return {@code true} if a method carries an annotation marked by {@link CafeHandlerType}.
+     */
+    public boolean hasHandlerMethods() {
+        return methods.stream()
+                .anyMatch(method -> !method.getAnnotationTypesMarkedBy(CafeHandlerType.class).isEmpty());
+    }
+
     /**
      * Checks if the root class implements or is assignable from the given class/interface.
      *
@@ -2,6 +2,9 @@ package org.taranix.cafe.beans.metadata;
 
 import java.util.Objects;
 
+/**
+ * Creates {@link CafeClass} metadata. The factory is stateless and may be called concurrently.
+ */
 public class CafeClassFactory {
 
     public static CafeClass create(Class<?> aClass) {
@@ -8,6 +8,7 @@ import org.taranix.cafe.beans.repositories.typekeys.PropertyTypeKey;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Member;
 import java.lang.reflect.Type;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -23,12 +24,17 @@ public class CafeConstructor extends CafeMember {
 
     private final Constructor<?> constructor;
 
+    private final Set<BeanTypeKey> providedTypeKeys;
+    private final List<BeanTypeKey> requiredTypeKeys;
+
     /**
-     * Constructs a descriptor for the given constructor.
+     * Constructs a descriptor for the given constructor. Its type keys are computed immediately.
      */
     CafeConstructor(final Constructor<?> constructor, CafeClass cafeClass) {
-        super(cafeClass);
+        super(cafeClass, constructor);
         this.constructor = constructor;
+        this.providedTypeKeys = calculateProvidedTypeKeys();
+        this.requiredTypeKeys = calculateRequiredTypeKeys();
     }
 
     @Override
@@ -46,6 +52,10 @@ public class CafeConstructor extends CafeMember {
      */
     @Override
     public Set<BeanTypeKey> getProvidedTypeKeys() {
+        return providedTypeKeys;
+    }
+
+    private Set<BeanTypeKey> calculateProvidedTypeKeys() {
         Set<BeanTypeKey> result = new HashSet<>();
         Class<?> declaringClass = getConstructor().getDeclaringClass();
 
@@ -54,7 +64,7 @@ public class CafeConstructor extends CafeMember {
         result.addAll(CafeReflectionUtils.getAllSuperTypes(declaringClass).stream()
                 .map(BeanTypeKey::from)
                 .collect(Collectors.toSet()));
-        return result;
+        return Collections.unmodifiableSet(result);
     }
 
     /**
@@ -63,6 +73,10 @@ public class CafeConstructor extends CafeMember {
      */
     @Override
     public List<BeanTypeKey> getRequiredTypeKeys() {
+        return requiredTypeKeys;
+    }
+
+    private List<BeanTypeKey> calculateRequiredTypeKeys() {
         List<Type> parameterTypes = CafeReflectionUtils.determineConstructorParameterTypes(getConstructor());
         return parameterTypes.stream()
                 .map(BeanTypeKey::from)
@@ -78,5 +92,10 @@ public class CafeConstructor extends CafeMember {
         return List.of();
     }
 
-
-}
\ No newline at end of file
+    /**
+     * Creates an instance through the cached accessor of the constructor.
+     */
+    public Object newInstance(Object... args) {
+        return getAccessor(invoker -> invoker.constructorAccessor(constructor)).access(null, args);
+    }
+}
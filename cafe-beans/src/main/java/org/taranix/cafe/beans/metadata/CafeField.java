@@ -24,12 +24,19 @@ public class CafeField extends CafeMember {
 
     private final Field field;
 
+    private final BeanTypeKey fieldTypeKey;
+    private final List<BeanTypeKey> requiredTypeKeys;
+    private final List<PropertyTypeKey> requiredPropertyTypeKeys;
+
     /**
-     * Constructs a descriptor for the given field.
+     * Constructs a descriptor for the given field. Its type keys are computed immediately.
      */
     CafeField(final Field field, CafeClass cafeClass) {
-        super(cafeClass);
+        super(cafeClass, field);
         this.field = field;
+        this.fieldTypeKey = calculateFieldTypeKey();
+        this.requiredTypeKeys = calculateRequiredTypeKeys();
+        this.requiredPropertyTypeKeys = calculateRequiredPropertyTypeKeys();
     }
 
     @Override
@@ -54,6 +61,10 @@ public class CafeField extends CafeMember {
      */
     @Override
     public List<BeanTypeKey> getRequiredTypeKeys() {
+        return requiredTypeKeys;
+    }
+
+    private List<BeanTypeKey> calculateRequiredTypeKeys() {
         List<BeanTypeKey> result = new ArrayList<>();
 
         // Dependency on owner class instance for non-static fields
@@ -63,10 +74,10 @@ public class CafeField extends CafeMember {
 
         // Dependency on a bean for @CafeInject
         if (hasAnnotation(CafeInject.class)) {
-            result.add(getFieldTypeKey());
+            result.add(fieldTypeKey);
         }
 
-        return result;
+        return List.copyOf(result);
     }
 
     /**
@@ -74,6 +85,10 @@ public class CafeField extends CafeMember {
      */
     @Override
     public List<PropertyTypeKey> getRequiredPropertyTypeKeys() {
+        return requiredPropertyTypeKeys;
+    }
+
+    private List<PropertyTypeKey> calculateRequiredPropertyTypeKeys() {
         if (hasAnnotation(CafeProperty.class)) {
             String propertyName = getAnnotation(CafeProperty.class).name();
             return List.of(PropertyTypeKey.from(propertyName));
@@ -85,9 +100,20 @@ public class CafeField extends CafeMember {
      * Retrieves the BeanTypeKey representing the type and optional identifier of the field.
      */
     public BeanTypeKey getFieldTypeKey() {
+        return fieldTypeKey;
+    }
+
+    private BeanTypeKey calculateFieldTypeKey() {
         String memberIdentifier = CafeAnnotationUtils.getMemberName(getField());
         // Resolves the actual generic type if necessary
         Type fieldType = CafeReflectionUtils.determineFieldType(getField(), getParent().getRootClass());
         return BeanTypeKey.from(fieldType, memberIdentifier);
     }
-}
\ No newline at end of file
+
+    /**
+     * Sets the field of the given instance through the cached accessor of the field.
+     */
+    public void setValue(Object instance, Object value) {
+        getAccessor(invoker -> invoker.setterAccessor(field)).access(instance, value);
+    }
+}
@@ -4,13 +4,17 @@ import lombok.Getter;
 import org.taranix.cafe.beans.annotations.base.CafeHandlerType;
 import org.taranix.cafe.beans.annotations.base.CafeWiringType;
 import org.taranix.cafe.beans.annotations.modifiers.CafeModifier;
+import org.taranix.cafe.beans.reflection.CafeAccessor;
 import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
+import org.taranix.cafe.beans.reflection.CafeInvoker;
+import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 import org.taranix.cafe.beans.repositories.typekeys.PropertyTypeKey;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -25,8 +29,35 @@ public abstract class CafeMember {
     @Getter
     private final CafeClass cafeClass;
 
-    protected CafeMember(CafeClass cafeClass) {
+    private final AnnotatedElement annotatedElement;
+
+    /**
+     * Annotations and their marker subsets, read once: they are queried repeatedly by registries,
+     * validators and resolvers.
+     */
+    private final Set<Annotation> annotations;
+    private final Set<Class<? extends Annotation>> annotationModifiers;
+    private final Set<Class<? extends Annotation>> annotationLifecycleMarkers;
+    private final boolean singleton;
+
+    /**
+     * Accessor calling this member, with the invoker that created it, so replacing the invoker recreates it.
+     */
+    private volatile InvokerAccessor invokerAccessor;
+
+    /**
+     * @param cafeClass The class owning the member.
+     * @param member    The reflective member (Field, Method, or Constructor).
+     */
+    protected CafeMember(CafeClass cafeClass, Member member) {
         this.cafeClass = cafeClass;
+        this.annotatedElement = (AnnotatedElement) member;
+        this.annotations = Set.of(annotatedElement.getAnnotations());
+        this.annotationModifiers = typesMarkedBy(annotations, CafeModifier.class);
+        Set<Class<? extends Annotation>> lifecycleMarkers = new HashSet<>(typesMarkedBy(annotations, CafeWiringType.class));
+        lifecycleMarkers.addAll(typesMarkedBy(annotations, CafeHandlerType.class));
+        this.annotationLifecycleMarkers = Collections.unmodifiableSet(lifecycleMarkers);
+        this.singleton = CafeAnnotationUtils.isSingleton(member);
     }
 
     /**
@@ -37,17 +68,16 @@ public abstract class CafeMember {
      */
     protected AnnotatedElement getAnnotatedElement() {
         // Constructor annotations are read directly from the constructor element.
-        return (AnnotatedElement) getMember();
+        return annotatedElement;
     }
 
     /**
      * Retrieves all annotations present on the underlying reflective element.
      *
-     * @return A Collection of annotations, or an empty Set if none are present.
+     * @return An unmodifiable Collection of annotations, or an empty Set if none are present.
      */
     public Collection<Annotation> getAnnotations() {
-        return Arrays.stream(getAnnotatedElement().getAnnotations())
-                .collect(Collectors.toSet());
+        return annotations;
     }
 
     /**
@@ -55,9 +85,7 @@ public abstract class CafeMember {
      * This is useful for identifying primary/qualifier types for bean resolution.
      */
     public final Set<Class<? extends Annotation>> getAnnotationLifecycleMarkers() {
-        Set<Class<? extends Annotation>> result = new HashSet<>(getAnnotationTypesMarkedBy(CafeWiringType.class));
-        result.addAll(getAnnotationTypesMarkedBy(CafeHandlerType.class));
-        return result;
+        return annotationLifecycleMarkers;
     }
 
     /**
@@ -65,7 +93,7 @@ public abstract class CafeMember {
      * This uses the CafeAnnotationUtils to check for meta-annotations extending {@link CafeModifier}.
      */
     public final Set<Class<? extends Annotation>> getAnnotationModifiers() {
-        return getAnnotationTypesMarkedBy(CafeModifier.class);
+        return annotationModifiers;
     }
 
     /**
@@ -103,6 +131,20 @@ public abstract class CafeMember {
         return getMember().getDeclaringClass();
     }
 
+    /**
+     * Returns the accessor calling this member, created on first use by the current
+     * {@link CafeReflectionUtils#getInvoker() invoker}.
+     */
+    protected final CafeAccessor getAccessor(Function<CafeInvoker, CafeAccessor> accessorFactory) {
+        CafeInvoker invoker = CafeReflectionUtils.getInvoker();
+        InvokerAccessor current = invokerAccessor;
+        if (current == null || current.invoker() != invoker) {
+            current = new InvokerAccessor(invoker, accessorFactory.apply(invoker));
+            invokerAccessor = current;
+        }
+        return current.accessor();
+    }
+
     /**
      * Returns the underlying reflective member (Field, Method, or Constructor).
      */
@@ -175,7 +217,7 @@ public abstract class CafeMember {
      * Uses CafeAnnotationUtils to check for scope annotations on the member.
      */
     public boolean isSingleton() {
-        return CafeAnnotationUtils.isSingleton(getMember());
+        return singleton;
     }
 
     /**
@@ -185,14 +227,18 @@ public abstract class CafeMember {
      * @return A set of annotation classes that carry the marker.
      */
     public Set<Class<? extends Annotation>> getAnnotationTypesMarkedBy(Class<? extends Annotation> markerType) {
-        return Arrays.stream(getAnnotatedElement().getAnnotations())
+        return typesMarkedBy(annotations, markerType);
+    }
+
+    private static Set<Class<? extends Annotation>> typesMarkedBy(Set<Annotation> annotations, Class<? extends Annotation> markerType) {
+        return annotations.stream()
                 .filter(annotation -> CafeAnnotationUtils.isAnnotationMarkedBy(annotation, markerType))
                 .map(Annotation::annotationType)
-                .collect(Collectors.toSet());
+                .collect(Collectors.toUnmodifiableSet());
     }
 
     public Annotation[] getAnnotationsMarkedBy(Class<? extends Annotation> markerType) {
-        return Arrays.stream(getAnnotatedElement().getAnnotations())
+        return annotations.stream()
                 .filter(annotation -> CafeAnnotationUtils.isAnnotationMarkedBy(annotation, markerType))
                 .toArray(Annotation[]::new);
     }
@@ -219,4 +265,7 @@ public abstract class CafeMember {
                 : "Method";
         return "(" + memberType + ") " + getParent().getRootClass().getCanonicalName() + ":" + getMember().getName();
     }
-}
\ No newline at end of file
+
+    private record InvokerAccessor(CafeInvoker invoker, CafeAccessor accessor) {
+    }
+}
@@ -6,9 +6,12 @@ import org.taranix.cafe.beans.repositories.registry.ClassDependencyRegistry;
 import org.taranix.cafe.beans.repositories.registry.MemberDependencyResolverRegistry;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,6 +32,15 @@ public class CafeMetadataRegistry {
 
     private final Map<Class<?>, CafeClass> classMetadataMap;
 
+    private final Set<CafeMember> allMembers;
+
+    /**
+     * Provider members indexed by each of their provided type keys, built once at construction.
+     */
+    private final Map<BeanTypeKey, Set<CafeMember>> anyTypeProviders;
+    private final Map<BeanTypeKey, Set<CafeMember>> singletonProviders;
+    private final Map<BeanTypeKey, Set<CafeMember>> prototypeProviders;
+
     private CafeMetadataRegistry(
             Set<CafeClass> cafeClassMetadata,
             MemberDependencyResolverRegistry memberDependencyRegistry,
@@ -40,6 +52,25 @@ public class CafeMetadataRegistry {
 
         this.classMetadataMap = this.cafeClassMetadata.stream()
                 .collect(Collectors.toUnmodifiableMap(CafeClass::getRootClass, Function.identity()));
+
+        this.allMembers = this.cafeClassMetadata.stream()
+                .flatMap(cd -> cd.getMembers().stream())
+                .collect(Collectors.toUnmodifiableSet());
+
+        this.anyTypeProviders = indexProviders(allMembers);
+        this.singletonProviders = indexProviders(allMembers.stream().filter(CafeMember::isSingleton).toList());
+        this.prototypeProviders = indexProviders(allMembers.stream().filter(CafeMember::isPrototype).toList());
+    }
+
+    private static Map<BeanTypeKey, Set<CafeMember>> indexProviders(Collection<CafeMember> members) {
+        Map<BeanTypeKey, Set<CafeMember>> index = new HashMap<>();
+        for (CafeMember member : members) {
+            for (BeanTypeKey typeKey : member.getProvidedTypeKeys()) {
+                index.computeIfAbsent(typeKey, key -> new HashSet<>()).add(member);
+            }
+        }
+        index.replaceAll((typeKey, providers) -> Set.copyOf(providers));
+        return Map.copyOf(index);
     }
 
     public static Builder builder() {
@@ -47,27 +78,19 @@ public class CafeMetadataRegistry {
     }
 
     public Set<CafeMember> allMembers() {
-        return cafeClassMetadata.stream()
-                .flatMap(cd -> cd.getMembers().stream())
-                .collect(Collectors.toUnmodifiableSet());
+        return allMembers;
     }
 
     public Set<CafeMember> findAnyTypeProviders(BeanTypeKey typeKey) {
-        return allMembers().stream()
-                .filter(member -> member.getProvidedTypeKeys().contains(typeKey))
-                .collect(Collectors.toUnmodifiableSet());
+        return anyTypeProviders.getOrDefault(typeKey, Set.of());
     }
 
     public Set<CafeMember> findSingletonProviders(BeanTypeKey typeKey) {
-        return findAnyTypeProviders(typeKey).stream()
-                .filter(CafeMember::isSingleton)
-                .collect(Collectors.toUnmodifiableSet());
+        return singletonProviders.getOrDefault(typeKey, Set.of());
     }
 
     public Set<CafeMember> findPrototypeProviders(BeanTypeKey typeKey) {
-        return findAnyTypeProviders(typeKey).stream()
-                .filter(CafeMember::isPrototype)
-                .collect(Collectors.toUnmodifiableSet());
+        return prototypeProviders.getOrDefault(typeKey, Set.of());
     }
 
     /**
@@ -87,6 +110,7 @@ public class CafeMetadataRegistry {
 
     public static class Builder {
         private final Set<Class<?>> classSet = new HashSet<>();
+        private ForkJoinPool forkJoinPool;
 
         public Builder withClass(Class<?> aClass) {
             classSet.add(aClass);
@@ -98,11 +122,25 @@ public class CafeMetadataRegistry {
             return this;
         }
 
+        /**
+         * Enables parallel creation of the class metadata on the given pool.
+         * Metadata is created sequentially when no pool is set (the default).
+         *
+         * @param forkJoinPool The pool running the metadata creation, or null for sequential creation.
+         */
+        public Builder withForkJoinPool(ForkJoinPool forkJoinPool) {
+            this.forkJoinPool = forkJoinPool;
+            return this;
+        }
+
         public CafeMetadataRegistry build() {
             // 1. Create Metadata objects
-            Set<CafeClass> cafeClassSet = classSet.stream()
-                    .map(CafeClassFactory::create)
-                    .collect(Collectors.toSet());
+            Set<CafeClass> cafeClassSet = forkJoinPool == null
+                    ? classSet.stream().map(CafeClassFactory::create).collect(Collectors.toSet())
+                    // A parallel stream started from within a pool task runs on that pool
+                    : forkJoinPool.submit(() -> classSet.parallelStream()
+                            .map(CafeClassFactory::create)
+                            .collect(Collectors.toSet())).join();
 
             // 2. Build Dependency Graphs (Logic moved here from Registry constructor)
             MemberDependencyResolverRegistry memberRegistry = MemberDependencyResolverRegistry.from(cafeClassSet);
@@ -24,12 +24,21 @@ public class CafeMethod extends CafeMember {
 
     private final Method method;
 
+    private final BeanTypeKey methodReturnTypeKey;
+    private final List<BeanTypeKey> parameterTypeKeys;
+    private final Set<BeanTypeKey> providedTypeKeys;
+    private final List<BeanTypeKey> requiredTypeKeys;
+
     /**
-     * Constructs a descriptor for the given method.
+     * Constructs a descriptor for the given method. Its type keys are computed immediately.
      */
     CafeMethod(final Method method, CafeClass cafeClass) {
-        super(cafeClass);
+        super(cafeClass, method);
         this.method = method;
+        this.methodReturnTypeKey = calculateMethodReturnTypeKey();
+        this.parameterTypeKeys = calculateParameterTypeKeys();
+        this.providedTypeKeys = calculateProvidedTypeKeys();
+        this.requiredTypeKeys = calculateRequiredTypeKeys();
     }
 
     @Override
@@ -43,11 +52,15 @@ public class CafeMethod extends CafeMember {
      */
     @Override
     public Set<BeanTypeKey> getProvidedTypeKeys() {
+        return providedTypeKeys;
+    }
+
+    private Set<BeanTypeKey> calculateProvidedTypeKeys() {
         // A method can only provide one bean (its return value)
         if (!CafeAnnotationUtils.hasAnnotationMarker(getMethod(), CafeWiringType.class)) {
             return Set.of();
         }
-        return Set.of(getMethodReturnTypeKey());
+        return Set.of(methodReturnTypeKey);
     }
 
     /**
@@ -59,6 +72,10 @@ public class CafeMethod extends CafeMember {
      */
     @Override
     public List<BeanTypeKey> getRequiredTypeKeys() {
+        return requiredTypeKeys;
+    }
+
+    private List<BeanTypeKey> calculateRequiredTypeKeys() {
         if (!CafeAnnotationUtils.hasAnnotationMarker(getMethod(), CafeWiringType.class)) {
             return List.of();
         }
@@ -72,8 +89,8 @@ public class CafeMethod extends CafeMember {
 
         // Add all parameter types as bean dependencies
 
-        result.addAll(Arrays.stream(getMethodParameterTypeKeys()).toList());
-        return result;
+        result.addAll(parameterTypeKeys);
+        return List.copyOf(result);
     }
 
     /**
@@ -102,16 +119,40 @@ public class CafeMethod extends CafeMember {
      * Retrieves the BeanTypeKey representing the return type and optional identifier of the method.
      */
     public BeanTypeKey getMethodReturnTypeKey() {
+        return methodReturnTypeKey;
+    }
+
+    private BeanTypeKey calculateMethodReturnTypeKey() {
         String memberIdentifier = CafeAnnotationUtils.getMemberName(getMethod());
         // Resolves the actual generic return type if necessary
         Type methodReturnType = CafeReflectionUtils.determineMethodReturnType(getMethod(), getParent().getRootClass());
         return BeanTypeKey.from(methodReturnType, memberIdentifier);
     }
 
+    /**
+     * Returns the keys of the method parameters. The returned array is a copy, see {@link #getParameterTypeKeys()}.
+     */
     public BeanTypeKey[] getMethodParameterTypeKeys() {
+        return parameterTypeKeys.toArray(BeanTypeKey[]::new);
+    }
+
+    /**
+     * Returns the unmodifiable list of the keys of the method parameters.
+     */
+    public List<BeanTypeKey> getParameterTypeKeys() {
+        return parameterTypeKeys;
+    }
+
+    private List<BeanTypeKey> calculateParameterTypeKeys() {
         return Arrays.stream(CafeReflectionUtils.determineMethodParameterTypes(getMethod(), getParentRootClass()))
                 .map(BeanTypeKey::from)
-                .toArray(BeanTypeKey[]::new);
+                .toList();
     }
 
-}
\ No newline at end of file
+    /**
+     * Invokes the method on the given instance through the cached accessor of the method.
+     */
+    public Object invoke(Object instance, Object... args) {
+        return getAccessor(invoker -> invoker.methodAccessor(method)).access(instance, args);
+    }
+}
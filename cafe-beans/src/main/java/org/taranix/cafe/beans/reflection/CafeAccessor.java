@@ -0,0 +1,20 @@
+package org.taranix.cafe.beans.reflection;
+
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
+
+/**
+ * Reusable call of one constructor, method or field setter, created by a {@link CafeInvoker}.
+ */
+@FunctionalInterface
+public interface CafeAccessor {
+
+    /**
+     * Calls the member.
+     *
+     * @param target Object owning the method or field; ignored by constructors and static members.
+     * @param args   Constructor or method arguments, or the single value of a field.
+     * @return The created instance, the method result, or null for void methods and fields.
+     * @throws ReflectionUtilsException if the call fails or the member throws an exception.
+     */
+    Object access(Object target, Object... args);
+}
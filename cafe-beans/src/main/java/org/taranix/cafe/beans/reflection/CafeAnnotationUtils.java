@@ -10,15 +10,26 @@ import org.taranix.cafe.beans.annotations.modifiers.CafeName;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
  * Utility class for common reflection and annotation operations within the Cafe framework.
  * Handles scope resolution, member naming, and meta-annotation (marker) detection.
+ * <p>
+ * All methods are thread-safe. Marker checks are cached per annotation type in a {@link ClassValue},
+ * so concurrent metadata creation does not walk the same meta-annotation hierarchy again.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class CafeAnnotationUtils {
 
+    private static final ClassValue<Map<Class<? extends Annotation>, Boolean>> markedByCache = new ClassValue<>() {
+        @Override
+        protected Map<Class<? extends Annotation>, Boolean> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     // --- Annotation Presence & Retrieval ---
 
     /**
@@ -160,11 +171,12 @@ public class CafeAnnotationUtils {
      * @return true if the annotation is extended by the marker.
      */
     public static boolean isAnnotationMarkedBy(Annotation annotation, Class<? extends Annotation> otherAnnotationClass) {
-        return isAnnotationMarkedBy(annotation.annotationType(), otherAnnotationClass, new HashSet<>());
+        return isAnnotationMarkedBy(annotation.annotationType(), otherAnnotationClass);
     }
 
     public static boolean isAnnotationMarkedBy(Class<? extends Annotation> annotationType, Class<? extends Annotation> otherAnnotationClass) {
-        return isAnnotationMarkedBy(annotationType, otherAnnotationClass, new HashSet<>());
+        return markedByCache.get(annotationType)
+                .computeIfAbsent(otherAnnotationClass, marker -> isAnnotationMarkedBy(annotationType, marker, new HashSet<>()));
     }
 
     private static boolean isAnnotationMarkedBy(Class<? extends Annotation> annotationType,
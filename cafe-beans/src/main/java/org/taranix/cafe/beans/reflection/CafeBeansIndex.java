@@ -0,0 +1,91 @@
+package org.taranix.cafe.beans.reflection;
+
+import lombok.extern.slf4j.Slf4j;
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Build-time index of Cafe bean classes, written by the {@code cafe-beans-processor} annotation processor
+ * to {@value #LOCATION}. Every line holds the binary name of one top-level class carrying a
+ * {@link org.taranix.cafe.beans.annotations.base.CafeWiringType} marker; lines starting with {@code #} are comments.
+ * <p>
+ * All index files visible to the class loader (one per jar or output directory) are merged.
+ */
+@Slf4j
+public class CafeBeansIndex {
+
+    public static final String LOCATION = "META-INF/cafe/beans.idx";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    private final Set<String> classNames;
+
+    private CafeBeansIndex(Set<String> classNames) {
+        this.classNames = Collections.unmodifiableSet(classNames);
+    }
+
+    /**
+     * Reads and merges all index files visible to the given class loader.
+     *
+     * @param classLoader The class loader used to look up index resources.
+     * @return The merged index, empty when no index file is present.
+     * @throws ReflectionUtilsException if an index file can not be read.
+     */
+    public static CafeBeansIndex load(ClassLoader classLoader) {
+        Set<String> result = new TreeSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                log.debug("Reading beans index {}", url);
+                try (InputStream is = url.openStream()) {
+                    result.addAll(read(is));
+                }
+            }
+        } catch (IOException e) {
+            throw new ReflectionUtilsException("Failed to read beans index '%s': %s".formatted(LOCATION, e.getMessage()), e);
+        }
+        return new CafeBeansIndex(result);
+    }
+
+    private static Set<String> read(InputStream is) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(is, StandardCharsets.UTF_8));
+        return reader.lines()
+                .map(String::trim)
+                .filter(line -> !line.isEmpty() && !line.startsWith(COMMENT_PREFIX))
+                .collect(Collectors.toSet());
+    }
+
+    public boolean isEmpty() {
+        return classNames.isEmpty();
+    }
+
+    public Set<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * Returns indexed class names located in the given package or any of its sub-packages,
+     * mirroring the recursive semantics of classpath scanning.
+     *
+     * @param lookupPackage The base package name.
+     * @return Matching binary class names.
+     */
+    public Set<String> getClassNames(String lookupPackage) {
+        String prefix = lookupPackage + ".";
+        return classNames.stream()
+                .filter(className -> className.startsWith(prefix))
+                .collect(Collectors.toSet());
+    }
+}
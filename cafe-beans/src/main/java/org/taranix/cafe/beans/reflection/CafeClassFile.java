@@ -0,0 +1,183 @@
+package org.taranix.cafe.beans.reflection;
+
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal view of a {@code .class} file: class name, super class, access flags and the types of its
+ * runtime-visible class annotations. It is read straight from the bytes, without loading the class,
+ * so classpath scanning can decide which classes are worth loading at all.
+ * <p>
+ * Only the constant pool and the class-level {@code RuntimeVisibleAnnotations} attribute are decoded;
+ * fields, methods and every other attribute are skipped.
+ */
+public record CafeClassFile(String className, String superClassName, int accessFlags, List<String> annotationTypeNames) {
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final String RECORD_CLASS_NAME = Record.class.getName();
+    private static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+
+    /**
+     * Parses the given class file bytes.
+     *
+     * @param bytes Content of a {@code .class} file.
+     * @return The parsed class file view.
+     * @throws ReflectionUtilsException if the bytes are not a valid class file.
+     */
+    public static CafeClassFile read(byte[] bytes) {
+        try {
+            return new Parser(bytes).parse();
+        } catch (BufferUnderflowException | IllegalArgumentException | IOException e) {
+            throw new ReflectionUtilsException("Invalid class file: %s".formatted(e.getMessage()), e);
+        }
+    }
+
+    public boolean isInterface() {
+        return (accessFlags & (ACC_INTERFACE | ACC_ANNOTATION)) != 0;
+    }
+
+    public boolean isRecord() {
+        return RECORD_CLASS_NAME.equals(superClassName);
+    }
+
+    private static final class Parser {
+        private final byte[] bytes;
+        private final ByteBuffer buffer;
+        private int[] utf8Offsets;
+        private int[] classNameIndexes;
+
+        private Parser(byte[] bytes) {
+            this.bytes = bytes;
+            this.buffer = ByteBuffer.wrap(bytes);
+        }
+
+        private CafeClassFile parse() throws IOException {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Wrong magic number");
+            }
+            buffer.position(buffer.position() + 4); // minor and major version
+            readConstantPool();
+
+            int accessFlags = u2();
+            String className = classNameAt(u2());
+            int superClassIndex = u2();
+            String superClassName = superClassIndex == 0 ? null : classNameAt(superClassIndex);
+            skip(u2() * 2); // interfaces
+            skipMembers(); // fields
+            skipMembers(); // methods
+
+            List<String> annotationTypeNames = new ArrayList<>();
+            int attributesCount = u2();
+            for (int i = 0; i < attributesCount; i++) {
+                String attributeName = utf8At(u2());
+                int length = buffer.getInt();
+                if (RUNTIME_VISIBLE_ANNOTATIONS.equals(attributeName)) {
+                    int annotationsCount = u2();
+                    for (int a = 0; a < annotationsCount; a++) {
+                        annotationTypeNames.add(descriptorToClassName(utf8At(u2())));
+                        skipElementValuePairs();
+                    }
+                } else {
+                    skip(length);
+                }
+            }
+            return new CafeClassFile(className, superClassName, accessFlags, List.copyOf(annotationTypeNames));
+        }
+
+        private void readConstantPool() {
+            int count = u2();
+            utf8Offsets = new int[count];
+            classNameIndexes = new int[count];
+            for (int i = 1; i < count; i++) {
+                int tag = buffer.get();
+                switch (tag) {
+                    case 1 -> { // Utf8
+                        utf8Offsets[i] = buffer.position();
+                        skip(u2());
+                    }
+                    case 7 -> classNameIndexes[i] = u2(); // Class
+                    case 8, 16, 19, 20 -> skip(2); // String, MethodType, Module, Package
+                    case 15 -> skip(3); // MethodHandle
+                    case 3, 4, 9, 10, 11, 12, 17, 18 -> skip(4); // Integer, Float, refs, NameAndType, (Invoke)Dynamic
+                    case 5, 6 -> { // Long, Double take two slots
+                        skip(8);
+                        i++;
+                    }
+                    default -> throw new IllegalArgumentException("Unknown constant pool tag " + tag);
+                }
+            }
+        }
+
+        private void skipMembers() {
+            int count = u2();
+            for (int i = 0; i < count; i++) {
+                skip(6); // access flags, name, descriptor
+                int attributesCount = u2();
+                for (int a = 0; a < attributesCount; a++) {
+                    skip(2);
+                    skip(buffer.getInt());
+                }
+            }
+        }
+
+        private void skipElementValuePairs() {
+            int pairs = u2();
+            for (int i = 0; i < pairs; i++) {
+                skip(2); // element name
+                skipElementValue();
+            }
+        }
+
+        private void skipElementValue() {
+            char tag = (char) buffer.get();
+            switch (tag) {
+                case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 's', 'c' -> skip(2);
+                case 'e' -> skip(4);
+                case '@' -> {
+                    skip(2);
+                    skipElementValuePairs();
+                }
+                case '[' -> {
+                    int values = u2();
+                    for (int i = 0; i < values; i++) {
+                        skipElementValue();
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unknown element value tag " + tag);
+            }
+        }
+
+        private String classNameAt(int index) throws IOException {
+            return utf8At(classNameIndexes[index]).replace('/', '.');
+        }
+
+        private String utf8At(int index) throws IOException {
+            int offset = utf8Offsets[index];
+            int length = ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+            // DataInputStream decodes the JVM's modified UTF-8 (length-prefixed)
+            return new DataInputStream(new ByteArrayInputStream(bytes, offset, length + 2)).readUTF();
+        }
+
+        private int u2() {
+            return buffer.getShort() & 0xFFFF;
+        }
+
+        private void skip(int length) {
+            buffer.position(buffer.position() + length);
+        }
+
+        private static String descriptorToClassName(String descriptor) {
+            // Lcom/example/Type; -> com.example.Type
+            return descriptor.substring(1, descriptor.length() - 1).replace('/', '.');
+        }
+    }
+}
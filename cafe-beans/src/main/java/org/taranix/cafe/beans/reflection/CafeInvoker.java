@@ -0,0 +1,38 @@
+package org.taranix.cafe.beans.reflection;
+
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Strategy used to call constructors and methods and to set fields of beans. Implementations handle private
+ * access and wrap every failure, including an exception thrown by the member, in a {@link ReflectionUtilsException}.
+ * <p>
+ * Accessors are meant to be created once per member and reused, see
+ * {@link org.taranix.cafe.beans.metadata.CafeMember}.
+ *
+ * @see ReflectionInvoker
+ * @see MethodHandleInvoker
+ */
+public interface CafeInvoker {
+
+    CafeAccessor constructorAccessor(Constructor<?> constructor);
+
+    CafeAccessor methodAccessor(Method method);
+
+    CafeAccessor setterAccessor(Field field);
+
+    default Object instantiate(Constructor<?> constructor, Object... args) {
+        return constructorAccessor(constructor).access(null, args);
+    }
+
+    default Object invoke(Method method, Object owner, Object... args) {
+        return methodAccessor(method).access(owner, args);
+    }
+
+    default void setFieldValue(Field field, Object fieldOwner, Object value) {
+        setterAccessor(field).access(fieldOwner, value);
+    }
+}
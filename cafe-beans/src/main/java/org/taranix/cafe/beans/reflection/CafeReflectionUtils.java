@@ -8,10 +8,13 @@ import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
 
 import java.io.IOException;
 import java.lang.reflect.*;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -79,6 +82,24 @@ public class CafeReflectionUtils {
 
     // --- Member Access and Invocation ---
 
+    private static volatile CafeInvoker invoker = new MethodHandleInvoker();
+
+    /**
+     * Returns the invoker used to set fields, invoke methods and instantiate classes.
+     * A {@link MethodHandleInvoker} is used by default.
+     */
+    public static CafeInvoker getInvoker() {
+        return invoker;
+    }
+
+    /**
+     * Replaces the invoker used to set fields, invoke methods and instantiate classes,
+     * e.g. with a {@link ReflectionInvoker}.
+     */
+    public static void setInvoker(CafeInvoker invoker) {
+        CafeReflectionUtils.invoker = Objects.requireNonNull(invoker, "Invoker cannot be null");
+    }
+
     /**
      * Sets the value of a field on a target object, handling private access.
      *
@@ -88,13 +109,7 @@ public class CafeReflectionUtils {
      * @throws ReflectionUtilsException if access fails.
      */
     public static void setFieldValue(Field field, Object fieldOwner, Object value) {
-        try {
-            field.setAccessible(true);
-            field.set(fieldOwner, value);
-        } catch (IllegalAccessException e) {
-            throw new ReflectionUtilsException("Couldn't set field %s value %s on object %s: %s"
-                    .formatted(field.getName(), value, fieldOwner.getClass().getName(), e.getMessage()));
-        }
+        invoker.setFieldValue(field, fieldOwner, value);
     }
 
     /**
@@ -104,21 +119,10 @@ public class CafeReflectionUtils {
      * @param owner  The object owning the method.
      * @param args   The arguments for the method.
      * @return The result of the method invocation.
-     * @throws ReflectionUtilsException if invocation fails (IllegalAccess or InvocationTarget exception).
+     * @throws ReflectionUtilsException if invocation fails (illegal access or exception thrown by the method).
      */
     public static Object getMethodValue(Method method, Object owner, Object... args) {
-        try {
-            method.setAccessible(true);
-            return method.invoke(owner, args);
-        } catch (IllegalAccessException e) {
-            throw new ReflectionUtilsException("Couldn't invoke method %s on object %s: Illegal access."
-                    .formatted(method.getName(), owner.getClass().getName()));
-        } catch (InvocationTargetException e) {
-            // Wrap the underlying exception if available
-            Throwable cause = e.getCause() != null ? e.getCause() : e;
-            throw new ReflectionUtilsException("Method %s on object %s threw an exception: %s"
-                    .formatted(method.getName(), owner.getClass().getName(), cause.getMessage()));
-        }
+        return invoker.invoke(method, owner, args);
     }
 
     /**
@@ -127,21 +131,10 @@ public class CafeReflectionUtils {
      * @param constructor The Constructor to use.
      * @param args        The arguments for the constructor.
      * @return The newly instantiated object.
-     * @throws ReflectionUtilsException if instantiation fails (Instantiation, IllegalAccess, or InvocationTarget exception).
+     * @throws ReflectionUtilsException if instantiation fails (illegal access or exception thrown by the constructor).
      */
     public static Object instantiate(Constructor<?> constructor, Object... args) {
-        try {
-            constructor.setAccessible(true);
-            return constructor.newInstance(args);
-        } catch (InstantiationException | IllegalAccessException e) {
-            throw new ReflectionUtilsException("Couldn't instantiate class %s: %s"
-                    .formatted(constructor.getDeclaringClass().getName(), e.getMessage()));
-        } catch (InvocationTargetException e) {
-            // Wrap the underlying exception if available
-            Throwable cause = e.getCause() != null ? e.getCause() : e;
-            throw new ReflectionUtilsException("Constructor for class %s threw an exception: %s"
-                    .formatted(constructor.getDeclaringClass().getName(), cause.getMessage()));
-        }
+        return invoker.instantiate(constructor, args);
     }
 
     // --- Hierarchy Scanning ---
@@ -221,6 +214,59 @@ public class CafeReflectionUtils {
     }
 
 
+    /**
+     * Scans a package recursively and returns the classes whose class file passes the given filter.
+     * The class files are read as bytes and only matching classes are loaded (without being initialized),
+     * so classes rejected by the filter never reach the ClassLoader.
+     *
+     * @param classLoader     The ClassLoader to use for lookup and loading.
+     * @param lookupPackage   The base package name (e.g., "com.mycompany.beans").
+     * @param classFileFilter Filter applied to the parsed class file before loading.
+     * @return A Stream of Class objects.
+     * @throws ReflectionUtilsException if class path scanning or reading a class file fails.
+     */
+    public static Stream<Class<?>> getClassesFromPackage(ClassLoader classLoader, String lookupPackage,
+                                                         Predicate<CafeClassFile> classFileFilter) {
+        try {
+            ClassPath classPath = ClassPath.from(classLoader);
+            List<String> matching = new ArrayList<>();
+            for (ClassPath.ClassInfo classInfo : classPath.getTopLevelClassesRecursive(lookupPackage)) {
+                CafeClassFile classFile = CafeClassFile.read(classInfo.asByteSource().read());
+                if (classFileFilter.test(classFile)) {
+                    matching.add(classInfo.getName());
+                }
+            }
+            return loadClasses(classLoader, matching);
+        } catch (IOException e) {
+            throw new ReflectionUtilsException("Failed to scan package '%s' for classes: %s"
+                    .formatted(lookupPackage, e.getMessage()));
+        }
+    }
+
+    /**
+     * Loads (without initializing) the named classes and returns the loadable concrete ones
+     * (excluding interfaces, records, etc.). Names that can not be loaded are skipped with a warning,
+     * so a stale entry does not break the scan.
+     *
+     * @param classLoader The ClassLoader to use for loading.
+     * @param classNames  Binary names of the classes to load.
+     * @return A Stream of Class objects.
+     */
+    public static Stream<Class<?>> loadClasses(ClassLoader classLoader, Collection<String> classNames) {
+        return classNames.stream()
+                .<Class<?>>map(className -> {
+                    try {
+                        return Class.forName(className, false, classLoader);
+                    } catch (ClassNotFoundException | LinkageError e) {
+                        log.warn("Couldn't load class {}: {}", className, e.getMessage());
+                        return null;
+                    }
+                })
+                .filter(Objects::nonNull)
+                .filter(clazz -> !clazz.isInterface() && !clazz.isRecord());
+    }
+
+
     /**
      * Returns a set of all supertypes (classes and interfaces) for a given class,
      * considering their full generic signatures.
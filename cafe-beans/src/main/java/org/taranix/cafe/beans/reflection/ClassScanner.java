@@ -1,31 +1,96 @@
 package org.taranix.cafe.beans.reflection;
 
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import org.taranix.cafe.beans.annotations.base.CafeWiringType;
 
+import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public class ClassScanner {
 
-    private static final ClassScanner classScanner = new ClassScanner();
+    private static final Map<ScanMode, ClassScanner> classScanners = new EnumMap<>(ScanMode.class);
+
+    static {
+        for (ScanMode scanMode : ScanMode.values()) {
+            classScanners.put(scanMode, new ClassScanner(scanMode));
+        }
+    }
+
+    @Getter
+    private final ScanMode scanMode;
+
+    private ClassScanner(ScanMode scanMode) {
+        this.scanMode = scanMode;
+    }
 
     public static ClassScanner getInstance() {
-        return classScanner;
+        return getInstance(ScanMode.CLASSPATH);
+    }
+
+    public static ClassScanner getInstance(ScanMode scanMode) {
+        return classScanners.get(Objects.requireNonNull(scanMode, "Scan mode cannot be null"));
     }
 
     public Set<Class<?>> scan(String... packages) {
+        return scan(CafeReflectionUtils.getDefault(), packages);
+    }
+
+    public Set<Class<?>> scan(ClassLoader classLoader, String... packages) {
         if (packages == null || packages.length == 0) {
             return Set.of();
         }
 
+        CafeBeansIndex index = scanMode == ScanMode.INDEX ? CafeBeansIndex.load(classLoader) : null;
+        Map<String, Boolean> markedAnnotations = new HashMap<>();
         return Arrays.stream(packages)
-                .flatMap(pkg -> CafeReflectionUtils.getAllClassesFromPackage(CafeReflectionUtils.getDefault(), pkg))
+                .flatMap(pkg -> findCandidates(classLoader, index, markedAnnotations, pkg))
                 .filter(aClass -> CafeAnnotationUtils.hasAnnotationMarker(aClass, CafeWiringType.class))
                 .collect(Collectors.toSet());
     }
 
+    private Stream<Class<?>> findCandidates(ClassLoader classLoader, CafeBeansIndex index,
+                                            Map<String, Boolean> markedAnnotations, String lookupPackage) {
+        if (scanMode == ScanMode.CLASSPATH) {
+            return CafeReflectionUtils.getAllClassesFromPackage(classLoader, lookupPackage);
+        }
+        if (index != null) {
+            Set<String> indexed = index.getClassNames(lookupPackage);
+            if (!indexed.isEmpty()) {
+                log.debug("Using beans index for package {} ({} classes)", lookupPackage, indexed.size());
+                return CafeReflectionUtils.loadClasses(classLoader, indexed);
+            }
+            log.debug("No indexed classes for package {}, scanning class files", lookupPackage);
+        }
+        return CafeReflectionUtils.getClassesFromPackage(classLoader, lookupPackage,
+                classFile -> !classFile.isInterface() && !classFile.isRecord()
+                        && classFile.annotationTypeNames().stream()
+                        .anyMatch(name -> markedAnnotations.computeIfAbsent(name, n -> isWiringAnnotation(classLoader, n))));
+    }
+
+    /**
+     * Loads only the annotation type (shared by many classes) to check it for the {@link CafeWiringType} marker.
+     */
+    private boolean isWiringAnnotation(ClassLoader classLoader, String annotationName) {
+        if (annotationName.startsWith("java.") || annotationName.startsWith("javax.")) {
+            return false;
+        }
+        try {
+            Class<?> annotationType = Class.forName(annotationName, false, classLoader);
+            return annotationType.isAnnotation()
+                    && CafeAnnotationUtils.isAnnotationMarkedBy(annotationType.asSubclass(Annotation.class), CafeWiringType.class);
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.trace("Annotation {} is not loadable: {}", annotationName, e.getMessage());
+            return false;
+        }
+    }
+
 }
@@ -0,0 +1,136 @@
+package org.taranix.cafe.beans.reflection;
+
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Invoker calling members through {@link MethodHandle}s. The handle of a member is created once, with access checks
+ * done at that point, and adapted to a uniform {@code (Object target, Object[] args) -> Object} shape, so a call is
+ * a single {@code invokeExact}.
+ * <p>
+ * Accessors are cached per declaring class in a {@link ClassValue}, so one-off calls through
+ * {@link CafeReflectionUtils} reuse them too, without keeping unloaded classes alive.
+ */
+public final class MethodHandleInvoker implements CafeInvoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final ClassValue<Map<Member, CafeAccessor>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<Member, CafeAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    @Override
+    public CafeAccessor constructorAccessor(Constructor<?> constructor) {
+        return cached(constructor, member -> {
+            MethodHandle handle = MethodHandles.dropArguments(
+                    spread(constructorHandle(constructor), constructor.getParameterCount()), 0, Object.class);
+            return (target, args) -> {
+                try {
+                    return (Object) handle.invokeExact(target, args);
+                } catch (Throwable e) {
+                    throw new ReflectionUtilsException("Constructor for class %s threw an exception: %s"
+                            .formatted(constructor.getDeclaringClass().getName(), e.getMessage()), e);
+                }
+            };
+        });
+    }
+
+    @Override
+    public CafeAccessor methodAccessor(Method method) {
+        return cached(method, member -> {
+            MethodHandle handle = spread(methodHandle(method), method.getParameterCount());
+            return (owner, args) -> {
+                try {
+                    return (Object) handle.invokeExact(owner, args);
+                } catch (Throwable e) {
+                    throw new ReflectionUtilsException("Method %s on object %s threw an exception: %s"
+                            .formatted(method.getName(), owner.getClass().getName(), e.getMessage()), e);
+                }
+            };
+        });
+    }
+
+    @Override
+    public CafeAccessor setterAccessor(Field field) {
+        return cached(field, member -> {
+            MethodHandle handle = setterHandle(field);
+            return (fieldOwner, args) -> {
+                try {
+                    handle.invokeExact(fieldOwner, args[0]);
+                    return null;
+                } catch (Throwable e) {
+                    throw new ReflectionUtilsException("Couldn't set field %s value %s on object %s: %s"
+                            .formatted(field.getName(), args[0], fieldOwner.getClass().getName(), e.getMessage()), e);
+                }
+            };
+        });
+    }
+
+    private static CafeAccessor cached(Member member, Function<Member, CafeAccessor> factory) {
+        return ACCESSORS.get(member.getDeclaringClass()).computeIfAbsent(member, factory);
+    }
+
+    private static MethodHandle spread(MethodHandle handle, int parameterCount) {
+        return handle.asType(handle.type().generic())
+                .asSpreader(Object[].class, parameterCount);
+    }
+
+    /**
+     * (args...) -> instance
+     */
+    private static MethodHandle constructorHandle(Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+            return LOOKUP.unreflectConstructor(constructor).asFixedArity();
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionUtilsException("Couldn't instantiate class %s: %s"
+                    .formatted(constructor.getDeclaringClass().getName(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * (owner, args...) -> result, the owner being ignored by static methods
+     */
+    private static MethodHandle methodHandle(Method method) {
+        try {
+            method.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflect(method).asFixedArity();
+            return Modifier.isStatic(method.getModifiers())
+                    ? MethodHandles.dropArguments(handle, 0, Object.class)
+                    : handle;
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionUtilsException("Couldn't invoke method %s of class %s: %s"
+                    .formatted(method.getName(), method.getDeclaringClass().getName(), e.getMessage()), e);
+        }
+    }
+
+    /**
+     * (Object owner, Object value) -> void, the owner being ignored by static fields
+     */
+    private static MethodHandle setterHandle(Field field) {
+        try {
+            field.setAccessible(true);
+            MethodHandle handle = LOOKUP.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle.asType(handle.type().generic().changeReturnType(void.class));
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new ReflectionUtilsException("Couldn't set field %s of class %s: %s"
+                    .formatted(field.getName(), field.getDeclaringClass().getName(), e.getMessage()), e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.taranix.cafe.beans.reflection;
+
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Invoker using core reflection: {@link Constructor#newInstance}, {@link Method#invoke} and {@link Field#set}.
+ */
+public final class ReflectionInvoker implements CafeInvoker {
+
+    @Override
+    public CafeAccessor constructorAccessor(Constructor<?> constructor) {
+        return (target, args) -> {
+            try {
+                constructor.setAccessible(true);
+                return constructor.newInstance(args);
+            } catch (InstantiationException | IllegalAccessException e) {
+                throw new ReflectionUtilsException("Couldn't instantiate class %s: %s"
+                        .formatted(constructor.getDeclaringClass().getName(), e.getMessage()));
+            } catch (InvocationTargetException e) {
+                // Wrap the underlying exception if available
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                throw new ReflectionUtilsException("Constructor for class %s threw an exception: %s"
+                        .formatted(constructor.getDeclaringClass().getName(), cause.getMessage()));
+            }
+        };
+    }
+
+    @Override
+    public CafeAccessor methodAccessor(Method method) {
+        return (owner, args) -> {
+            try {
+                method.setAccessible(true);
+                return method.invoke(owner, args);
+            } catch (IllegalAccessException e) {
+                throw new ReflectionUtilsException("Couldn't invoke method %s on object %s: Illegal access."
+                        .formatted(method.getName(), owner.getClass().getName()));
+            } catch (InvocationTargetException e) {
+                // Wrap the underlying exception if available
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                throw new ReflectionUtilsException("Method %s on object %s threw an exception: %s"
+                        .formatted(method.getName(), owner.getClass().getName(), cause.getMessage()));
+            }
+        };
+    }
+
+    @Override
+    public CafeAccessor setterAccessor(Field field) {
+        return (fieldOwner, args) -> {
+            try {
+                field.setAccessible(true);
+                field.set(fieldOwner, args[0]);
+                return null;
+            } catch (IllegalAccessException e) {
+                throw new ReflectionUtilsException("Couldn't set field %s value %s on object %s: %s"
+                        .formatted(field.getName(), args[0], fieldOwner.getClass().getName(), e.getMessage()));
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package org.taranix.cafe.beans.reflection;
+
+/**
+ * Strategy used by {@link ClassScanner} to discover bean classes.
+ */
+public enum ScanMode {
+    /**
+     * Loads every top-level class of the scanned packages and checks it for Cafe markers.
+     */
+    CLASSPATH,
+    /**
+     * Reads the annotations of every class file of the scanned packages from its bytes and loads only
+     * classes carrying Cafe markers. Classes that are not beans are never loaded.
+     */
+    BYTECODE,
+    /**
+     * Loads only the classes listed in the build-time {@link CafeBeansIndex}. Packages without any
+     * indexed class fall back to {@link #BYTECODE} scanning.
+     */
+    INDEX
+}
@@ -0,0 +1,68 @@
+package org.taranix.cafe.beans.repositories;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe view of a {@link Repository}: every call is synchronized on this view, and keys are returned
+ * as snapshots, so they can be iterated while other threads keep adding beans.
+ *
+ * @param <TKey>   Repository key type.
+ * @param <TValue> Repository value type.
+ */
+public class SynchronizedRepository<TKey, TValue> implements Repository<TKey, TValue> {
+
+    private final Repository<TKey, TValue> repository;
+
+    public SynchronizedRepository(Repository<TKey, TValue> repository) {
+        this.repository = Objects.requireNonNull(repository, "Repository cannot be null");
+    }
+
+    @Override
+    public synchronized TValue getOne(TKey key) {
+        return repository.getOne(key);
+    }
+
+    @Override
+    public synchronized boolean contains(TKey key) {
+        return repository.contains(key);
+    }
+
+    @Override
+    public synchronized Collection<TValue> getMany(TKey key) {
+        return List.copyOf(repository.getMany(key));
+    }
+
+    @Override
+    public synchronized void set(TKey typeKey, TValue bean) {
+        repository.set(typeKey, bean);
+    }
+
+    @Override
+    public synchronized void clear() {
+        repository.clear();
+    }
+
+    @Override
+    public synchronized Collection<TKey> getKeys() {
+        return List.copyOf(repository.getKeys());
+    }
+
+    @Override
+    public synchronized void unSet(TKey typeKey) {
+        repository.unSet(typeKey);
+    }
+
+    @Override
+    public synchronized Stream<TKey> getKeys(Function<TKey, Boolean> filter) {
+        return repository.getKeys(filter).toList().stream();
+    }
+
+    @Override
+    public synchronized <TKey2> Stream<TKey2> getKeys(Class<TKey2> key) {
+        return repository.getKeys(key).toList().stream();
+    }
+}
@@ -14,49 +14,53 @@ public class BeansRepository extends HashMapRepository<TypeKey, BeanRepositoryEn
 
     @Override
     public BeanRepositoryEntry getOne(TypeKey typeKey) {
-        if (contains(typeKey)) {
-            Collection<BeanRepositoryEntry> instances = getMany(typeKey);
-            if (instances.size() == 1) {
-                return instances.stream()
-                        .findFirst()
-                        .orElse(null);
-            } else {
-                return instances.stream()
-                        .filter(BeanRepositoryEntry::isPrimary)
-                        .findFirst()
-                        .orElseThrow(() -> new BeansRepositoryException("Couldn't determine which entry to return : %s"
-                                .formatted(instances.stream().map(BeanRepositoryEntry::getValue).toList())));
-            }
-        }
-        throw new BeansRepositoryException("No instance of " + typeKey);
+        return selectOne(typeKey, getMany(typeKey));
     }
 
+    /**
+     * Validation and insertion are done atomically, so concurrent writers can't add two primary entries
+     * or two entries of the same source.
+     */
     @Override
-    public void set(TypeKey typeKey, BeanRepositoryEntry entry) {
+    public synchronized void set(TypeKey typeKey, BeanRepositoryEntry entry) {
         validate(typeKey);
-        validate(typeKey, entry);
-        if (havingNoEntryWithSameSource(typeKey, entry)) {
+        Collection<BeanRepositoryEntry> existing = getMany(typeKey);
+        validate(typeKey, entry, existing);
+        if (havingNoEntryWithSameSource(existing, entry)) {
             super.set(typeKey, entry);
         } else {
             log.warn("Entry with source {} already exists", entry.getSource());
         }
     }
 
+    static BeanRepositoryEntry selectOne(TypeKey typeKey, Collection<BeanRepositoryEntry> instances) {
+        if (instances.isEmpty()) {
+            throw new BeansRepositoryException("No instance of " + typeKey);
+        }
+        if (instances.size() == 1) {
+            return instances.iterator().next();
+        }
+        return instances.stream()
+                .filter(BeanRepositoryEntry::isPrimary)
+                .findFirst()
+                .orElseThrow(() -> new BeansRepositoryException("Couldn't determine which entry to return : %s"
+                        .formatted(instances.stream().map(BeanRepositoryEntry::getValue).toList())));
+    }
 
-    private void validate(TypeKey typeKey, BeanRepositoryEntry entry) {
+    static void validate(TypeKey typeKey, BeanRepositoryEntry entry, Collection<BeanRepositoryEntry> existing) {
         //double primary validation
-        if (entry.isPrimary() && getMany(typeKey).stream().anyMatch(BeanRepositoryEntry::isPrimary)) {
+        if (entry.isPrimary() && existing.stream().anyMatch(BeanRepositoryEntry::isPrimary)) {
             throw new BeansRepositoryException("There are already a primary bean for  %s".formatted(typeKey));
         }
     }
 
-    private boolean havingNoEntryWithSameSource(TypeKey typeKey, BeanRepositoryEntry value) {
-        return Objects.isNull(value.getSource()) || getMany(typeKey).stream()
+    static boolean havingNoEntryWithSameSource(Collection<BeanRepositoryEntry> existing, BeanRepositoryEntry value) {
+        return Objects.isNull(value.getSource()) || existing.stream()
                 .noneMatch(beanRepositoryEntry -> Objects.equals(beanRepositoryEntry.getSource(), value.getSource()));
     }
 
 
-    private void validate(final TypeKey typeKey) {
+    static void validate(final TypeKey typeKey) {
         if (CafeReflectionUtils.isGenericType(typeKey.getType())) {
             throw new BeansRepositoryException("Generic type are not allowed : %s".formatted(typeKey));
         }
@@ -0,0 +1,87 @@
+package org.taranix.cafe.beans.repositories.beans;
+
+import lombok.extern.slf4j.Slf4j;
+import org.taranix.cafe.beans.repositories.Repository;
+import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe beans repository for contexts used from many threads (parallel instantiation, event handlers,
+ * shell commands). It follows the same rules as {@link BeansRepository}.
+ * <p>
+ * Entries of a key are kept in an immutable set replaced on every write, so reads take no lock and
+ * {@link #getMany(TypeKey)} returns that set without copying. Writes go through
+ * {@link ConcurrentHashMap#compute}, which locks only the bin of the key, and validate the primary
+ * and same-source rules atomically with the insertion.
+ */
+@Slf4j
+public class ConcurrentBeansRepository implements Repository<TypeKey, BeanRepositoryEntry> {
+
+    private final ConcurrentHashMap<TypeKey, Set<BeanRepositoryEntry>> mappings = new ConcurrentHashMap<>();
+
+    @Override
+    public BeanRepositoryEntry getOne(TypeKey typeKey) {
+        return BeansRepository.selectOne(typeKey, getMany(typeKey));
+    }
+
+    @Override
+    public boolean contains(TypeKey typeKey) {
+        return mappings.containsKey(typeKey);
+    }
+
+    @Override
+    public Collection<BeanRepositoryEntry> getMany(TypeKey typeKey) {
+        return mappings.getOrDefault(typeKey, Set.of());
+    }
+
+    @Override
+    public void set(TypeKey typeKey, BeanRepositoryEntry entry) {
+        BeansRepository.validate(typeKey);
+        mappings.compute(typeKey, (key, existing) -> {
+            Set<BeanRepositoryEntry> entries = existing == null ? Set.of() : existing;
+            BeansRepository.validate(key, entry, entries);
+            if (!BeansRepository.havingNoEntryWithSameSource(entries, entry)) {
+                log.warn("Entry with source {} already exists", entry.getSource());
+                return existing;
+            }
+            Set<BeanRepositoryEntry> updated = new HashSet<>(entries);
+            updated.add(entry);
+            return Collections.unmodifiableSet(updated);
+        });
+    }
+
+    @Override
+    public void clear() {
+        mappings.clear();
+    }
+
+    @Override
+    public Collection<TypeKey> getKeys() {
+        return Collections.unmodifiableSet(mappings.keySet());
+    }
+
+    @Override
+    public void unSet(TypeKey typeKey) {
+        mappings.remove(typeKey);
+    }
+
+    @Override
+    public Stream<TypeKey> getKeys(Function<TypeKey, Boolean> filter) {
+        return mappings.keySet().stream()
+                .filter(filter::apply);
+    }
+
+    @Override
+    public <TKeyType> Stream<TKeyType> getKeys(Class<TKeyType> typeClass) {
+        return mappings.keySet().stream()
+                .filter(typeClass::isInstance)
+                .map(typeClass::cast);
+    }
+}
@@ -3,48 +3,140 @@ package org.taranix.cafe.beans.repositories.registry;
 import lombok.extern.slf4j.Slf4j;
 import org.taranix.cafe.beans.repositories.HashMapRepository;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
 abstract class AbstractDependencyRegistry<TValue> extends HashMapRepository<TValue, TValue> {
 
-
+    /**
+     * Returns all values taking part in any dependency cycle.
+     */
     public Collection<TValue> cycleSet() {
+        Set<TValue> result = new HashSet<>();
+        cyclicComponents().forEach(result::addAll);
+        return result;
+    }
 
-        for (TValue startingPoint : getKeys()) {
-            Set<TValue> path = traverse(startingPoint, startingPoint);
-            if (!path.isEmpty()) {
-                return path;
-            }
+    /**
+     * Returns one shortest cycle per strongly connected component of the dependency graph. Each path starts and
+     * ends with the same value (e.g. {@code [A, B, C, A]} for A depending on B, B on C and C on A).
+     * Overlapping cycles form a single component, of which only one cycle is reported; {@link #cycleSet()}
+     * returns every value taking part in a cycle.
+     */
+    public List<List<TValue>> cycles() {
+        List<List<TValue>> result = new ArrayList<>();
+        for (Set<TValue> component : cyclicComponents()) {
+            result.add(cyclePath(component));
         }
-        return Set.of();
+        return result;
     }
 
-    private Set<TValue> traverse(final TValue startingPoint, final TValue current) {
-        Set<TValue> result = new HashSet<>();
-        log.trace("Traverse start:{}, current={}", startingPoint, current);
-        Collection<TValue> successors = getMany(current);
-        log.trace("Successors {}", successors);
-        //Found cycle
-        if (successors.contains(startingPoint)) {
-            return Set.of(current);
-        }
+    /**
+     * Finds strongly connected components of the dependency graph with Tarjan's algorithm in O(V+E).
+     * Recursion is replaced by an explicit stack, so deep dependency chains do not overflow the call stack.
+     * Only components forming a cycle (more than one value, or a value depending on itself) are returned.
+     */
+    private List<Set<TValue>> cyclicComponents() {
+        Map<TValue, Integer> indexes = new HashMap<>();
+        Map<TValue, Integer> lowLinks = new HashMap<>();
+        Deque<TValue> componentStack = new ArrayDeque<>();
+        Set<TValue> onComponentStack = new HashSet<>();
+        Deque<Visit<TValue>> callStack = new ArrayDeque<>();
+        List<Set<TValue>> result = new ArrayList<>();
 
-        //No cycle and end of path
-        if (successors.isEmpty()) {
-            return Set.of();
-        }
+        for (TValue root : new ArrayList<>(getKeys())) {
+            if (indexes.containsKey(root)) {
+                continue;
+            }
+            callStack.push(visit(root, indexes, lowLinks, componentStack, onComponentStack));
+
+            while (!callStack.isEmpty()) {
+                Visit<TValue> current = callStack.peek();
+                if (current.successors().hasNext()) {
+                    TValue successor = current.successors().next();
+                    if (!indexes.containsKey(successor)) {
+                        callStack.push(visit(successor, indexes, lowLinks, componentStack, onComponentStack));
+                    } else if (onComponentStack.contains(successor)) {
+                        lowLinks.merge(current.value(), indexes.get(successor), Math::min);
+                    }
+                    continue;
+                }
 
-        for (TValue successor : successors) {
-            result.addAll(traverse(startingPoint, successor));
+                callStack.pop();
+                TValue value = current.value();
+                if (!callStack.isEmpty()) {
+                    lowLinks.merge(callStack.peek().value(), lowLinks.get(value), Math::min);
+                }
+                if (lowLinks.get(value).equals(indexes.get(value))) {
+                    Set<TValue> component = new LinkedHashSet<>();
+                    TValue member;
+                    do {
+                        member = componentStack.pop();
+                        onComponentStack.remove(member);
+                        component.add(member);
+                    } while (!member.equals(value));
+
+                    if (component.size() > 1 || getMany(value).contains(value)) {
+                        log.trace("Cycle found: {}", component);
+                        result.add(component);
+                    }
+                }
+            }
         }
+        return result;
+    }
+
+    private Visit<TValue> visit(TValue value, Map<TValue, Integer> indexes, Map<TValue, Integer> lowLinks,
+                                Deque<TValue> componentStack, Set<TValue> onComponentStack) {
+        int index = indexes.size();
+        indexes.put(value, index);
+        lowLinks.put(value, index);
+        componentStack.push(value);
+        onComponentStack.add(value);
+        return new Visit<>(value, getMany(value).iterator());
+    }
+
+    /**
+     * Finds the shortest path within the component leading from its first value back to itself (BFS).
+     */
+    private List<TValue> cyclePath(Set<TValue> component) {
+        TValue start = component.iterator().next();
+        Map<TValue, TValue> predecessors = new HashMap<>();
+        Deque<TValue> queue = new ArrayDeque<>();
+        queue.add(start);
 
-        if (!result.isEmpty()) {
-            result.add(current);
+        while (!queue.isEmpty()) {
+            TValue current = queue.poll();
+            for (TValue successor : getMany(current)) {
+                if (successor.equals(start)) {
+                    List<TValue> path = new ArrayList<>();
+                    path.add(start);
+                    for (TValue step = current; !step.equals(start); step = predecessors.get(step)) {
+                        path.add(0, step);
+                    }
+                    path.add(0, start);
+                    return path;
+                }
+                if (component.contains(successor) && !predecessors.containsKey(successor)) {
+                    predecessors.put(successor, current);
+                    queue.add(successor);
+                }
+            }
         }
+        // Not reachable for a strongly connected component
+        return new ArrayList<>(component);
+    }
 
-        return result;
+    private record Visit<TValue>(TValue value, Iterator<TValue> successors) {
     }
 }
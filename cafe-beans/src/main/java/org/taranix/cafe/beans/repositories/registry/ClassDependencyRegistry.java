@@ -10,11 +10,11 @@ public class ClassDependencyRegistry extends AbstractDependencyRegistry<CafeClas
 
     public static ClassDependencyRegistry from(Set<CafeClass> cafeClassMetadata) {
         ClassDependencyRegistry classDependencyRegistry = new ClassDependencyRegistry();
+        ProvidedTypeIndex<CafeClass> providedTypeIndex = new ProvidedTypeIndex<>(cafeClassMetadata, CafeClass::getProvidedTypes);
 
         for (CafeClass cafeClass : cafeClassMetadata) {
-            cafeClassMetadata.stream()
-                    .filter(item -> !item.equals(cafeClass))
-                    .filter(provider -> containsAtLeastOneElement(cafeClass.getRequiredTypes(), provider.getProvidedTypes()))
+            providedTypeIndex.matchingAny(cafeClass.getRequiredTypes()).stream()
+                    .filter(provider -> !provider.equals(cafeClass))
                     .forEach(provider -> classDependencyRegistry.set(cafeClass, provider));
         }
         return classDependencyRegistry;
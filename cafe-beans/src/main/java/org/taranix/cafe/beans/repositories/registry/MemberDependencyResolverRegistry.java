@@ -6,18 +6,28 @@ import org.taranix.cafe.beans.metadata.CafeMember;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
 public class MemberDependencyResolverRegistry extends AbstractDependencyRegistry<CafeMember> {
 
+    /**
+     * Required type keys matched by no provider, per requiring member, recorded while the registry is built.
+     */
+    private final Map<CafeMember, List<BeanTypeKey>> unprovidedTypeKeys = new HashMap<>();
 
     /**
      * Factory method to build the dependency registry from a set of class definitions.
-     * It iterates over all members and finds the providers for each dependency required by a member.
+     * It iterates over all members and finds the providers for each dependency required by a member
+     * in an index of the provided types, so the registry is built in a single pass over the members.
      *
      * @param cafeClassMetadata A set of all defined classes and their metadata.
      * @return A fully populated MemberDependencyResolverRegistry instance.
@@ -25,6 +35,10 @@ public class MemberDependencyResolverRegistry extends AbstractDependencyRegistry
     public static MemberDependencyResolverRegistry from(Set<CafeClass> cafeClassMetadata) {
         MemberDependencyResolverRegistry result = new MemberDependencyResolverRegistry();
         Set<CafeMember> allMembers = allMembers(cafeClassMetadata);
+        // Members that don't provide any type (e.g., simple fields without @Cafe annotations) are not indexed
+        ProvidedTypeIndex<CafeMember> providedTypeIndex = new ProvidedTypeIndex<>(allMembers.stream()
+                .filter(member -> !member.getProvidedTypeKeys().isEmpty())
+                .toList(), CafeMember::getProvidedTypeKeys);
 
         // Iterate through every member that might require dependencies
         for (CafeMember analyzingMember : allMembers) {
@@ -32,7 +46,10 @@ public class MemberDependencyResolverRegistry extends AbstractDependencyRegistry
             for (BeanTypeKey requiredTypeKey : analyzingMember.getRequiredTypeKeys()) {
 
                 // Find all members that can provide the currently required type key
-                Set<CafeMember> matchedProviders = getProviders(allMembers, analyzingMember, requiredTypeKey);
+                Set<CafeMember> matchedProviders = getProviders(providedTypeIndex, analyzingMember, requiredTypeKey);
+                if (matchedProviders.isEmpty()) {
+                    result.unprovidedTypeKeys.computeIfAbsent(analyzingMember, member -> new ArrayList<>()).add(requiredTypeKey);
+                }
 
                 // Register the dependency relationship (analyzingMember requires provider)
                 matchedProviders.forEach(provider ->
@@ -44,26 +61,23 @@ public class MemberDependencyResolverRegistry extends AbstractDependencyRegistry
     }
 
     /**
-     * Filters the set of all members to find those that can satisfy the given dependency requirement.
+     * Finds the members that can satisfy the given dependency requirement.
      *
-     * @param allMembers      A set of all available members in the system.
-     * @param targetMember    The member currently requiring the dependency.
-     * @param requiredTypeKey The specific type key required by the target member.
+     * @param providedTypeIndex Index of all providing members by their provided types.
+     * @param targetMember      The member currently requiring the dependency.
+     * @param requiredTypeKey   The specific type key required by the target member.
      * @return A Set of CafeMemberInfo that are valid providers for the required type.
      */
-    private static Set<CafeMember> getProviders(final Set<CafeMember> allMembers,
+    private static Set<CafeMember> getProviders(final ProvidedTypeIndex<CafeMember> providedTypeIndex,
                                                 final CafeMember targetMember,
                                                 final BeanTypeKey requiredTypeKey) {
-        return allMembers.stream()
-                // 1. Exclude members that don't provide any type (e.g., simple fields without @Cafe annotations)
-                .filter(providerMember -> !providerMember.getProvidedTypeKeys().isEmpty())
+        // 1. Find providers that actually match the required type key (including generics)
+        return providedTypeIndex.matching(requiredTypeKey).stream()
                 // 2. Exclude the member itself to prevent self-referencing dependencies
                 .filter(providerMember -> !providerMember.equals(targetMember))
                 // 3. Exclude constructors as providers if they belong to the same class as the target member.
                 // This prevents circular self-injection within a single class's construction.
                 .filter(providerMember -> !(targetMember.isConstructor() && targetMember.isBelongToTheSameClass(providerMember)))
-                // 4. Filter for providers that actually match the required type key (including generics)
-                .filter(providerMember -> BeanTypeKey.isMatchByTypeOrGenericType(requiredTypeKey, providerMember.getProvidedTypeKeys()))
                 .collect(Collectors.toSet());
     }
 
@@ -106,6 +120,14 @@ public class MemberDependencyResolverRegistry extends AbstractDependencyRegistry
         return new HashSet<>(getMany(target));
     }
 
+    /**
+     * Returns the required type keys no member provides, per requiring member, in the order of
+     * {@link CafeMember#getRequiredTypeKeys()}. Such keys can only be satisfied by beans added to the repository.
+     */
+    public Map<CafeMember, List<BeanTypeKey>> unprovidedTypeKeys() {
+        return Collections.unmodifiableMap(unprovidedTypeKeys);
+    }
+
     /**
      * Retrieves a unique set of all BeanTypeKeys provided by all registered providers of the target member.
      *
@@ -0,0 +1,62 @@
+package org.taranix.cafe.beans.repositories.registry;
+
+import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Index of providers by each of their provided {@link BeanTypeKey}s. Finds the providers matching a required
+ * key with the same rules as {@link BeanTypeKey#isMatchByTypeOrGenericType(BeanTypeKey, Set)}, but without
+ * comparing the key against every provider.
+ *
+ * @param <T> The provider type (class or member metadata).
+ */
+class ProvidedTypeIndex<T> {
+
+    private final Map<BeanTypeKey, Set<T>> providersByTypeKey = new HashMap<>();
+    private final int providersCount;
+
+    ProvidedTypeIndex(Collection<T> providers, Function<T, Set<BeanTypeKey>> providedTypeKeys) {
+        this.providersCount = providers.size();
+        for (T provider : providers) {
+            for (BeanTypeKey typeKey : providedTypeKeys.apply(provider)) {
+                providersByTypeKey.computeIfAbsent(typeKey, key -> new HashSet<>()).add(provider);
+            }
+        }
+    }
+
+    /**
+     * Returns all providers matching the required key directly, or through the element key of an array
+     * or collection key.
+     */
+    Set<T> matching(BeanTypeKey requiredTypeKey) {
+        Set<T> result = new HashSet<>();
+        BeanTypeKey typeKey = requiredTypeKey;
+        while (typeKey != null) {
+            Set<T> providers = providersByTypeKey.getOrDefault(typeKey, Set.of());
+            result.addAll(providers);
+            if (providers.size() == providersCount) {
+                // No provider is left to be matched by the element key
+                break;
+            }
+            typeKey = typeKey.getElementTypeKey();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the providers matching any of the required keys.
+     */
+    Set<T> matchingAny(Collection<BeanTypeKey> requiredTypeKeys) {
+        Set<T> result = new HashSet<>();
+        for (BeanTypeKey requiredTypeKey : requiredTypeKeys) {
+            result.addAll(matching(requiredTypeKey));
+        }
+        return result;
+    }
+}
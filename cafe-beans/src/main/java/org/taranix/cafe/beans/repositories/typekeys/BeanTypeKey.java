@@ -1,74 +1,107 @@
 package org.taranix.cafe.beans.repositories.typekeys;
 
+import com.google.common.collect.MapMaker;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.TypeUtils;
 import org.taranix.cafe.beans.exceptions.BeanTypeKeyException;
 import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 
+import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
-import java.util.Arrays;
+import java.lang.reflect.WildcardType;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-
-public class BeanTypeKey extends AbstractTypeKey {
-
-    public BeanTypeKey(Type type, String typeIdentifier) {
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Key of a bean in the repository: its type and optional identifier.
+ * <p>
+ * Keys are canonical: every factory method returns the same instance for the same identifier and
+ * structurally equal type, whatever {@link ParameterizedType} implementation describes it. The hash is
+ * computed once, when the key is interned, and equality is identity, so repository lookups do not walk
+ * type graphs.
+ * <p>
+ * Interned keys are weakly referenced: a key no longer used is collected, so keys of classes of a discarded
+ * class loader, or built with per-call identifiers, don't pin them. A key created again afterwards is a new
+ * instance, which nothing can compare with the collected one.
+ */
+public final class BeanTypeKey extends AbstractTypeKey {
+
+    private static final ConcurrentMap<Shape, BeanTypeKey> INTERNED = new MapMaker().weakValues().makeMap();
+
+    private final int hash;
+
+    private BeanTypeKey(Type type, String typeIdentifier, int hash) {
         super(type, typeIdentifier);
+        this.hash = hash;
     }
 
     public static BeanTypeKey from(Type type) {
-        return new BeanTypeKey(type, StringUtils.EMPTY);
+        return from(type, StringUtils.EMPTY);
     }
 
 
     public static BeanTypeKey from(Type type, String typeIdentifier) {
-        return new BeanTypeKey(type, typeIdentifier);
+        Shape shape = Shape.of(type, typeIdentifier);
+        BeanTypeKey key = INTERNED.get(shape);
+        if (key != null) {
+            return key;
+        }
+        return INTERNED.computeIfAbsent(shape, s -> new BeanTypeKey(type, typeIdentifier, s.hashCode()));
     }
 
+    /**
+     * Returns the key of the class parameterized with the given type arguments. An already interned key is
+     * found without creating the {@link ParameterizedType}.
+     */
     public static BeanTypeKey from(Class<?> cls, String typeIdentifier, Type... typeArguments) {
-        return new BeanTypeKey(TypeUtils.parameterize(cls, typeArguments), typeIdentifier);
+        BeanTypeKey key = INTERNED.get(new Shape(typeIdentifier, cls, typeArguments, true));
+        if (key != null) {
+            return key;
+        }
+        return from(TypeUtils.parameterize(cls, typeArguments), typeIdentifier);
     }
 
     public static BeanTypeKey from(Class<?> cls, Type... typeArguments) {
-        return new BeanTypeKey(TypeUtils.parameterize(cls, typeArguments), StringUtils.EMPTY);
+        return from(cls, StringUtils.EMPTY, typeArguments);
     }
 
 
     public static boolean isMatchByTypeOrGenericType(final BeanTypeKey requiredTypeKey, Set<BeanTypeKey> providedTypeKeys) {
         if (!providedTypeKeys.contains(requiredTypeKey)) {
-            if (requiredTypeKey.isArray()) {
-                Class<?> arrayType = ((Class<?>) requiredTypeKey.getType()).getComponentType();
-                return isMatchByTypeOrGenericType(BeanTypeKey.from(arrayType, requiredTypeKey.getTypeIdentifier()), providedTypeKeys);
-            }
-
-            if (requiredTypeKey.isCollection()) {
-                if (requiredTypeKey.getType() instanceof Class<?>) {
-                    throw new BeanTypeKeyException("Collection without Parameter is not support : %s".formatted(requiredTypeKey.getType()));
-                }
-                Type[] argumentTypes = ((ParameterizedType) requiredTypeKey.getType()).getActualTypeArguments();
-                if (argumentTypes.length == 1) {
-                    return isMatchByTypeOrGenericType(BeanTypeKey.from(argumentTypes[0], requiredTypeKey.getTypeIdentifier()), providedTypeKeys);
-                }
-                throw new BeanTypeKeyException("Collection should have one argument type : %s".formatted(requiredTypeKey.getType()));
+            BeanTypeKey elementTypeKey = requiredTypeKey.getElementTypeKey();
+            if (elementTypeKey != null) {
+                return isMatchByTypeOrGenericType(elementTypeKey, providedTypeKeys);
             }
         }
         return providedTypeKeys.contains(requiredTypeKey);
     }
 
-    private static boolean areEqualsByContent(ParameterizedType pt1, ParameterizedType pt2) {
-        if (!pt1.getRawType().equals(pt2.getRawType()) || pt1.getActualTypeArguments().length != pt2.getActualTypeArguments().length) {
-            return false;
+    /**
+     * Returns the key of the elements for array and collection keys (with the same identifier),
+     * or null for any other key. Arrays and collections are matched by their elements.
+     *
+     * @throws BeanTypeKeyException if the key is a raw collection or a collection with more than one type argument.
+     */
+    public BeanTypeKey getElementTypeKey() {
+        if (isArray()) {
+            return BeanTypeKey.from(getArrayComponentType(), getTypeIdentifier());
         }
 
-        for (int i = 0; i < pt1.getActualTypeArguments().length; i++) {
-            if (!pt1.getActualTypeArguments()[i].equals(pt2.getActualTypeArguments()[i])) {
-                return false;
+        if (isCollection()) {
+            if (getType() instanceof Class<?>) {
+                throw new BeanTypeKeyException("Collection without Parameter is not support : %s".formatted(getType()));
+            }
+            Type[] argumentTypes = ((ParameterizedType) getType()).getActualTypeArguments();
+            if (argumentTypes.length == 1) {
+                return BeanTypeKey.from(argumentTypes[0], getTypeIdentifier());
             }
+            throw new BeanTypeKeyException("Collection should have one argument type : %s".formatted(getType()));
         }
-        return true;
+        return null;
     }
 
     public Type[] getActualParameters() {
@@ -136,28 +169,97 @@ public class BeanTypeKey extends AbstractTypeKey {
 
     @Override
     public int hashCode() {
-        if (isParametrizedType()) {
-            return Objects.hash(getTypeIdentifier(),
-                    ((ParameterizedType) getType()).getRawType(),
-                    Arrays.hashCode(((ParameterizedType) getType()).getActualTypeArguments())
-            );
-        }
-
-        return Objects.hash(getTypeIdentifier(), getType());
+        return hash;
     }
 
     @Override
     public boolean equals(final Object obj) {
-        if (obj instanceof BeanTypeKey comparable) {
-            if (isParametrizedType() && comparable.isParametrizedType()) {
-                return Objects.equals(getTypeIdentifier(), comparable.getTypeIdentifier())
-                        && areEqualsByContent((ParameterizedType) getType(), (ParameterizedType) comparable.getType());
+        return this == obj;
+    }
+
+    /**
+     * Content of a key compared structurally: parameterized types are compared by raw type and type
+     * arguments (recursively), so keys of equal types built by different {@link ParameterizedType}
+     * implementations are interned once.
+     */
+    private record Shape(String typeIdentifier, Type type, Type[] typeArguments, boolean parameterized) {
+
+        private static final Type[] NO_ARGUMENTS = new Type[0];
+
+        static Shape of(Type type, String typeIdentifier) {
+            if (type instanceof ParameterizedType parameterizedType) {
+                return new Shape(typeIdentifier, parameterizedType.getRawType(), parameterizedType.getActualTypeArguments(), true);
             }
-            return Objects.equals(getTypeIdentifier(), comparable.getTypeIdentifier())
-                    && Objects.equals(getType(), comparable.getType());
+            return new Shape(typeIdentifier, type, NO_ARGUMENTS, false);
         }
-        return false;
-    }
 
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Shape other
+                    && parameterized == other.parameterized
+                    && Objects.equals(typeIdentifier, other.typeIdentifier)
+                    && sameType(type, other.type)
+                    && sameTypes(typeArguments, other.typeArguments);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Objects.hashCode(typeIdentifier) + typeHash(type)) + typesHash(typeArguments);
+        }
 
+        private static boolean sameTypes(Type[] types, Type[] others) {
+            if (types.length != others.length) {
+                return false;
+            }
+            for (int i = 0; i < types.length; i++) {
+                if (!sameType(types[i], others[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static boolean sameType(Type type, Type other) {
+            if (type == other) {
+                return true;
+            }
+            if (type == null || other == null) {
+                return false;
+            }
+            if (type instanceof ParameterizedType pt && other instanceof ParameterizedType otherPt) {
+                return sameType(pt.getRawType(), otherPt.getRawType())
+                        && sameType(pt.getOwnerType(), otherPt.getOwnerType())
+                        && sameTypes(pt.getActualTypeArguments(), otherPt.getActualTypeArguments());
+            }
+            if (type instanceof WildcardType wt && other instanceof WildcardType otherWt) {
+                return sameTypes(wt.getUpperBounds(), otherWt.getUpperBounds())
+                        && sameTypes(wt.getLowerBounds(), otherWt.getLowerBounds());
+            }
+            if (type instanceof GenericArrayType gat && other instanceof GenericArrayType otherGat) {
+                return sameType(gat.getGenericComponentType(), otherGat.getGenericComponentType());
+            }
+            return type.equals(other);
+        }
+
+        private static int typesHash(Type[] types) {
+            int result = 1;
+            for (Type type : types) {
+                result = 31 * result + typeHash(type);
+            }
+            return result;
+        }
+
+        private static int typeHash(Type type) {
+            if (type instanceof ParameterizedType pt) {
+                return 31 * typeHash(pt.getRawType()) + typesHash(pt.getActualTypeArguments());
+            }
+            if (type instanceof WildcardType wt) {
+                return 31 * typesHash(wt.getUpperBounds()) + typesHash(wt.getLowerBounds());
+            }
+            if (type instanceof GenericArrayType gat) {
+                return 31 * typeHash(gat.getGenericComponentType()) + 1;
+            }
+            return Objects.hashCode(type);
+        }
+    }
 }
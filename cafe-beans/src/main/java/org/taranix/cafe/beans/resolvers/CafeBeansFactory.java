@@ -3,17 +3,21 @@ package org.taranix.cafe.beans.resolvers;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.taranix.cafe.beans.annotations.modifiers.CafeLazy;
 import org.taranix.cafe.beans.annotations.modifiers.CafePrimary;
 import org.taranix.cafe.beans.exceptions.CafeBeansContextException;
+import org.taranix.cafe.beans.exceptions.CafeBeansFactoryException;
 import org.taranix.cafe.beans.metadata.CafeClass;
 import org.taranix.cafe.beans.metadata.CafeMember;
 import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
 import org.taranix.cafe.beans.metadata.CafeMethod;
 import org.taranix.cafe.beans.repositories.Repository;
+import org.taranix.cafe.beans.repositories.SynchronizedRepository;
 import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
+import org.taranix.cafe.beans.repositories.beans.ConcurrentBeansRepository;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
-import org.taranix.cafe.beans.repositories.typekeys.PropertyTypeKey;
 import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
+import org.taranix.cafe.beans.services.CafeContextSnapshot;
 import org.taranix.cafe.beans.services.CafeOrderedBeansService;
 import org.taranix.cafe.beans.validation.CafeValidationResultFormatter;
 import org.taranix.cafe.beans.validation.CafeValidationService;
@@ -21,8 +25,15 @@ import org.taranix.cafe.beans.validation.ValidationResult;
 
 import java.lang.reflect.Executable;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -41,23 +52,239 @@ public final class CafeBeansFactory {
 
     @Getter
     private final CafeResolvers resolvers;
+
+    @Getter
     private final CafeOrderedBeansService orderedBeansService;
 
+    /**
+     * Executor instantiating independent singletons concurrently, or null for sequential instantiation.
+     */
+    private final Executor executor;
+
+    /**
+     * Repository entries indexed by the constructor or method that produced them, so checking
+     * whether a provider already ran does not scan the repository.
+     */
+    private final Map<Executable, BeanRepositoryEntry> entriesBySource = new ConcurrentHashMap<>();
+
+    /**
+     * Instantiates singletons on first use instead of in {@link #resolveAllBeans()}, as if every class was
+     * marked with {@link CafeLazy}.
+     */
+    private final boolean lazy;
+
+    /**
+     * Singleton classes deferred by {@link #resolveAllBeans()}, with their position in the dependency order, so a
+     * lookup resolves the pending providers of a type in the same order as eager initialization would.
+     */
+    private final Map<CafeClass, Integer> deferredClasses = new ConcurrentHashMap<>();
+
+    /**
+     * Deferred classes not instantiated yet.
+     */
+    private final Set<CafeClass> pendingClasses = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Deferred classes being resolved. Lookups from other threads wait for the whole resolution, so they never see
+     * a singleton whose constructor returned but whose fields are not injected yet.
+     */
+    private final Map<CafeClass, Resolution> resolvingClasses = new ConcurrentHashMap<>();
+
+    /**
+     * Application properties, set by the context once loaded.
+     */
+    private volatile CafePropertyStore propertyStore = CafePropertyStore.empty();
+
     public CafeBeansFactory(Repository<TypeKey, BeanRepositoryEntry> repository, CafeValidationService cafeValidationService, CafeMetadataRegistry cafeMetadataRegistry, CafeResolvers resolvers) {
-        this.repository = repository;
+        this(repository, cafeValidationService, cafeMetadataRegistry, resolvers, null);
+    }
+
+    /**
+     * Creates a factory instantiating singletons of the same dependency layer concurrently on the given executor.
+     * The repository is then accessed through a {@link SynchronizedRepository}, unless it is already thread-safe
+     * ({@link ConcurrentBeansRepository}).
+     */
+    public CafeBeansFactory(Repository<TypeKey, BeanRepositoryEntry> repository, CafeValidationService cafeValidationService, CafeMetadataRegistry cafeMetadataRegistry, CafeResolvers resolvers, Executor executor) {
+        this(repository, cafeValidationService, cafeMetadataRegistry, resolvers, executor, false);
+    }
+
+    /**
+     * Creates a factory which, when {@code lazy} is set, instantiates singletons on first lookup rather than in
+     * {@link #resolveAllBeans()}. Validation still covers all classes upfront.
+     */
+    public CafeBeansFactory(Repository<TypeKey, BeanRepositoryEntry> repository, CafeValidationService cafeValidationService, CafeMetadataRegistry cafeMetadataRegistry, CafeResolvers resolvers, Executor executor, boolean lazy) {
+        this.repository = executor == null || repository instanceof SynchronizedRepository<TypeKey, BeanRepositoryEntry>
+                || repository instanceof ConcurrentBeansRepository
+                ? repository
+                : new SynchronizedRepository<>(repository);
         this.cafeValidationService = cafeValidationService;
         this.cafeMetadataRegistry = cafeMetadataRegistry;
         this.resolvers = resolvers;
+        this.executor = executor;
+        this.lazy = lazy;
         this.orderedBeansService = CafeOrderedBeansService.from(cafeMetadataRegistry);
-
+        this.repository.getKeys().forEach(typeKey -> this.repository.getMany(typeKey).forEach(this::index));
     }
 
     public void resolveAllBeans() {
-        validate();
-        orderedBeansService.orderedClasses()
-                .stream()
-                .filter(cafeClass -> !cafeClass.isPrototype())
-                .forEach(this::resolveClass);
+        resolveAllBeans(null);
+    }
+
+    /**
+     * Resolves all beans reusing the artifacts of a snapshot taken by an earlier startup of the same context:
+     * validation is skipped, and the resolvers and dependency order are taken from the snapshot instead of being
+     * computed. The caller checks that the snapshot matches the classpath and the repository.
+     *
+     * @param snapshot validated snapshot of this context, or null to resolve from scratch
+     */
+    public void resolveAllBeans(CafeContextSnapshot snapshot) {
+        if (snapshot == null) {
+            validate();
+            resolvers.freeze(cafeMetadataRegistry);
+        } else {
+            log.debug("Skipping validation, context restored from snapshot");
+            resolvers.freeze(cafeMetadataRegistry, snapshot.getResolverAssignments());
+            orderedBeansService.restoreClassLayers(snapshot.getClassLayers());
+        }
+        List<CafeClass> orderedClasses = orderedBeansService.orderedClasses();
+        for (int i = 0; i < orderedClasses.size(); i++) {
+            CafeClass cafeClass = orderedClasses.get(i);
+            if (!cafeClass.isPrototype() && isDeferred(cafeClass)) {
+                deferredClasses.put(cafeClass, i);
+                pendingClasses.add(cafeClass);
+            }
+        }
+        log.debug("{} singleton classes deferred to first use", pendingClasses.size());
+
+        if (executor == null) {
+            orderedClasses.stream()
+                    .filter(cafeClass -> !cafeClass.isPrototype() && !pendingClasses.contains(cafeClass))
+                    .forEach(this::resolveClass);
+            return;
+        }
+        orderedBeansService.classLayers()
+                .forEach(layer -> resolveConcurrently(layer.stream()
+                        .filter(cafeClass -> !cafeClass.isPrototype() && !pendingClasses.contains(cafeClass))
+                        .toList()));
+    }
+
+    /**
+     * Classes with event handlers stay eager, so the handlers are registered before any event is sent, and so do
+     * classes whose resolver does not support lazy resolution.
+     */
+    private boolean isDeferred(CafeClass cafeClass) {
+        return (lazy || cafeClass.isLazy())
+                && cafeClass.getConstructor() != null
+                && !cafeClass.hasHandlerMethods()
+                && resolvers.findClassResolver(cafeClass).isLazyResolvable();
+    }
+
+    /**
+     * Instantiates the pending singleton classes providing the given type, in dependency order. Lookups call it
+     * before reading the repository, and collection injection with the element type, so a type is never read while
+     * only some of its singleton providers exist.
+     * It does nothing outside lazy mode, or once every deferred class has been instantiated.
+     *
+     * @param typeKey type about to be looked up
+     */
+    public void resolveDeferred(BeanTypeKey typeKey) {
+        // pending first: a class is registered as resolving before it leaves the pending ones
+        if (pendingClasses.isEmpty() && resolvingClasses.isEmpty()) {
+            return;
+        }
+        cafeMetadataRegistry.findSingletonProviders(typeKey).stream()
+                .map(CafeMember::getParent)
+                .distinct()
+                .filter(cafeClass -> pendingClasses.contains(cafeClass) || resolvingClasses.containsKey(cafeClass))
+                .sorted(Comparator.comparing(deferredClasses::get))
+                .forEach(this::resolvePending);
+    }
+
+    private void resolvePending(CafeClass cafeClass) {
+        // registered before the class leaves the pending ones, so a concurrent lookup always finds one or the other
+        Resolution resolution = new Resolution(Thread.currentThread(), new CompletableFuture<>());
+        Resolution running = resolvingClasses.putIfAbsent(cafeClass, resolution);
+        if (running != null) {
+            running.await();
+            return;
+        }
+        try {
+            // removed first, so the lookups made while resolving the class do not resolve it again
+            if (pendingClasses.remove(cafeClass) && !hasBeenExecuted(cafeClass.getConstructor().getConstructor())) {
+                log.debug("Resolving deferred class {}", cafeClass.getRootClass());
+                resolveClass(cafeClass);
+            }
+            resolution.done().complete(null);
+        } catch (RuntimeException | Error e) {
+            resolution.done().completeExceptionally(e);
+            throw e;
+        } finally {
+            resolvingClasses.remove(cafeClass);
+        }
+    }
+
+    /**
+     * Resolution of a deferred class by the owner thread.
+     */
+    private record Resolution(Thread owner, CompletableFuture<Void> done) {
+
+        /**
+         * Waits until the class is resolved. The owner itself doesn't wait: its lookups made while resolving the
+         * class see the instance as it is.
+         */
+        void await() {
+            if (owner == Thread.currentThread()) {
+                return;
+            }
+            try {
+                done.join();
+            } catch (CompletionException e) {
+                throw asRuntimeException(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Resolves classes of one dependency layer concurrently and waits for all of them. When several classes fail,
+     * the failure of the first class in the layer order is thrown, with the other failures suppressed, so the
+     * reported error does not depend on thread scheduling.
+     */
+    private void resolveConcurrently(List<CafeClass> layer) {
+        if (layer.size() < 2) {
+            layer.forEach(this::resolveClass);
+            return;
+        }
+        log.debug("Resolving {} classes concurrently", layer.size());
+        List<CompletableFuture<Void>> futures = layer.stream()
+                .map(cafeClass -> CompletableFuture.runAsync(() -> resolveClass(cafeClass), executor))
+                .toList();
+
+        RuntimeException failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                RuntimeException cause = asRuntimeException(e.getCause());
+                if (failure == null) {
+                    failure = cause;
+                } else {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static RuntimeException asRuntimeException(Throwable throwable) {
+        if (throwable instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (throwable instanceof Error error) {
+            throw error;
+        }
+        return new CafeBeansFactoryException("Couldn't resolve bean: %s".formatted(throwable.getMessage()), throwable);
     }
 
     private void validate() {
@@ -83,9 +310,7 @@ public final class CafeBeansFactory {
     }
 
     public boolean hasBeenExecuted(Executable executable) {
-        return repository.getKeys().stream()
-                .anyMatch(typeKey -> repository.getMany(typeKey).stream()
-                        .anyMatch(beanRepositoryEntry -> executable.equals(beanRepositoryEntry.getSource())));
+        return entriesBySource.containsKey(executable);
     }
 
 
@@ -94,7 +319,7 @@ public final class CafeBeansFactory {
     }
 
     public void persist(TypeKey typeKey, Object resolved, Executable source) {
-        repository.set(typeKey, BeanRepositoryEntry.builder()
+        set(typeKey, BeanRepositoryEntry.builder()
                 .source(source)
                 .value(resolved)
                 .build());
@@ -106,7 +331,7 @@ public final class CafeBeansFactory {
         }
 
         member.getProvidedTypeKeys().forEach(typeKey ->
-                repository.set(typeKey, BeanRepositoryEntry.builder()
+                set(typeKey, BeanRepositoryEntry.builder()
                         .source(source)
                         .value(resolved)
                         .primary(member.getAnnotationModifiers().contains(CafePrimary.class))
@@ -114,8 +339,30 @@ public final class CafeBeansFactory {
 
     }
 
+    private void set(TypeKey typeKey, BeanRepositoryEntry entry) {
+        repository.set(typeKey, entry);
+        index(entry);
+    }
+
+    /**
+     * The repository keeps the first entry of a source, so does the index.
+     */
+    private void index(BeanRepositoryEntry entry) {
+        if (entry.getSource() != null) {
+            entriesBySource.putIfAbsent(entry.getSource(), entry);
+        }
+    }
+
     public Object getProperty(String key) {
-        return repository.getOne(PropertyTypeKey.from(key)).getValue();
+        return propertyStore.get(key);
+    }
+
+    public CafePropertyStore getPropertyStore() {
+        return propertyStore;
+    }
+
+    public void setPropertyStore(CafePropertyStore propertyStore) {
+        this.propertyStore = Objects.requireNonNull(propertyStore);
     }
 
     public boolean isResolved(BeanTypeKey typeKey) {
@@ -123,9 +370,7 @@ public final class CafeBeansFactory {
     }
 
     public boolean isMethodResolved(CafeMethod methodInfo) {
-        return repository.getMany(methodInfo.getMethodReturnTypeKey())
-                .stream()
-                .anyMatch(beanRepositoryEntry -> beanRepositoryEntry.getSource().equals(methodInfo.getMethod()));
+        return entriesBySource.containsKey(methodInfo.getMethod());
     }
 
     /**
@@ -136,6 +381,7 @@ public final class CafeBeansFactory {
      * @return instance of the Bean (it can be Class or ParametrizedType instance)
      */
     public Object getBean(BeanTypeKey typeKey) {
+        resolveDeferred(typeKey);
         if (isResolved(typeKey)) {
             return getResolved(typeKey);
         }
@@ -153,14 +399,12 @@ public final class CafeBeansFactory {
     }
 
     public Object getResolved(CafeMethod methodInfo) {
-        return repository.getMany(methodInfo.getMethodReturnTypeKey()).stream()
-                .filter(beanRepositoryEntry -> beanRepositoryEntry.getSource().equals(methodInfo.getMethod()))
-                .map(BeanRepositoryEntry::getValue)
-                .findFirst()
-                .orElse(null);
+        BeanRepositoryEntry entry = entriesBySource.get(methodInfo.getMethod());
+        return entry == null ? null : entry.getValue();
     }
 
     public Object getBeanOrNull(BeanTypeKey typeKey) {
+        resolveDeferred(typeKey);
         if (isResolved(typeKey)) {
             return getResolved(typeKey);
         }
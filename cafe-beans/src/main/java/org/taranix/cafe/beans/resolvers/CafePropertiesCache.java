@@ -0,0 +1,328 @@
+package org.taranix.cafe.beans.resolvers;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Merged properties of the cacheable {@link PropertySource}s saved in binary form, so that a startup whose
+ * property files did not change reads them back instead of parsing YAML again.
+ * <p>
+ * The cache is keyed by the fingerprints of the sources. Values keep their type (strings, numbers, booleans,
+ * dates, binary, lists and maps); a YAML section, whose map holds the values of its dotted child properties, is
+ * stored as the names of its children and rebuilt from them, or restored as a {@link YamlSection} with lazy
+ * sections. Properties with values of other types are not cached.
+ * <p>
+ * Like {@link org.taranix.cafe.beans.services.CafeContextSnapshot}, the file is read at once into a heap buffer
+ * and replaced atomically when written. A missing, stale or unreadable cache is never an error: the
+ * sources are then read and the cache rewritten.
+ */
+@Slf4j
+public final class CafePropertiesCache {
+
+    private static final int MAGIC = 0xCAFE9809;
+
+    private static final int VERSION = 1;
+
+    private static final byte NULL = 0;
+    private static final byte STRING = 1;
+    private static final byte INTEGER = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte BOOLEAN = 5;
+    private static final byte BIG_INTEGER = 6;
+    private static final byte DATE = 7;
+    private static final byte BINARY = 8;
+    private static final byte LIST = 9;
+    private static final byte MAP = 10;
+    private static final byte SECTION = 11;
+
+    private CafePropertiesCache() {
+    }
+
+    /**
+     * Reads the properties stored in the given file.
+     *
+     * @param fingerprint      fingerprint of the current sources
+     * @param lazyYamlSections whether sections are restored as {@link YamlSection}s instead of maps
+     * @return the properties, or null when the file is missing, unreadable or was written for other sources
+     */
+    public static Map<Object, Object> load(Path file, String fingerprint, boolean lazyYamlSections) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = read(channel);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.warn("Ignoring properties cache {}: unknown format", file);
+                return null;
+            }
+            if (!readString(buffer).equals(fingerprint)) {
+                log.debug("Ignoring properties cache {}: properties files changed", file);
+                return null;
+            }
+            int count = readCount(buffer);
+            Map<Object, Object> properties = new HashMap<>(count * 4 / 3 + 1);
+            Map<String, List<String>> sections = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = readString(buffer);
+                if (buffer.get() == SECTION) {
+                    sections.put(key, readStrings(buffer));
+                } else {
+                    buffer.position(buffer.position() - 1);
+                    properties.put(key, readValue(buffer));
+                }
+            }
+            if (lazyYamlSections) {
+                sections.forEach((key, children) -> properties.put(key, new YamlSection(children)));
+            } else {
+                sections.keySet().forEach(key -> section(key, sections, properties));
+            }
+            log.debug("Properties cache {} restored: {} properties", file, properties.size());
+            return properties;
+        } catch (NoSuchFileException e) {
+            log.debug("No properties cache {}", file);
+            return null;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | ArithmeticException e) {
+            log.warn("Ignoring unreadable properties cache {}: {}", file, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the properties to the given file, replacing it atomically where the file system allows it.
+     * Failures are logged, properties do not need their cache to load.
+     */
+    public static void write(Path file, String fingerprint, Map<?, ?> properties) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    writeString(out, fingerprint);
+                    out.writeInt(properties.size());
+                    for (Map.Entry<?, ?> property : properties.entrySet()) {
+                        String key = property.getKey().toString();
+                        writeString(out, key);
+                        if (isSection(key, property.getValue(), properties)) {
+                            out.writeByte(SECTION);
+                            writeStrings(out, children(property.getValue()));
+                        } else {
+                            writeValue(out, property.getValue());
+                        }
+                    }
+                }
+                try {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            log.debug("Properties cache written to {}", file);
+        } catch (IllegalArgumentException e) {
+            log.debug("Properties not cached: {}", e.getMessage());
+        } catch (IOException e) {
+            log.warn("Couldn't write properties cache {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Whether the value is the map of a YAML section: every entry is also a property, under the dotted name of the
+     * section and the entry key.
+     */
+    private static boolean isSection(String key, Object value, Map<?, ?> properties) {
+        if (value instanceof YamlSection) {
+            return true;
+        }
+        if (!(value instanceof Map<?, ?> map)) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!(entry.getKey() instanceof String child)) {
+                return false;
+            }
+            Object property = properties.get(key + "." + child);
+            if (property != entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> children(Object section) {
+        if (section instanceof YamlSection yamlSection) {
+            return yamlSection.children();
+        }
+        return ((Map<?, ?>) section).keySet().stream()
+                .map(String.class::cast)
+                .toList();
+    }
+
+    private static Map<Object, Object> section(String key, Map<String, List<String>> sections, Map<Object, Object> properties) {
+        Object existing = properties.get(key);
+        if (existing instanceof Map<?, ?>) {
+            @SuppressWarnings("unchecked")
+            Map<Object, Object> map = (Map<Object, Object>) existing;
+            return map;
+        }
+        Map<Object, Object> map = new LinkedHashMap<>();
+        for (String child : sections.get(key)) {
+            String childKey = key + "." + child;
+            map.put(child, sections.containsKey(childKey)
+                    ? section(childKey, sections, properties)
+                    : properties.get(childKey));
+        }
+        properties.put(key, map);
+        return map;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String string) {
+            out.writeByte(STRING);
+            writeString(out, string);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(INTEGER);
+            out.writeInt(integer);
+        } else if (value instanceof Long number) {
+            out.writeByte(LONG);
+            out.writeLong(number);
+        } else if (value instanceof Double number) {
+            out.writeByte(DOUBLE);
+            out.writeDouble(number);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean(bool);
+        } else if (value instanceof BigInteger number) {
+            out.writeByte(BIG_INTEGER);
+            writeString(out, number.toString());
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(DATE);
+            out.writeLong(((Date) value).getTime());
+        } else if (value instanceof byte[] bytes) {
+            out.writeByte(BINARY);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } else if (value instanceof List<?> list) {
+            out.writeByte(LIST);
+            out.writeInt(list.size());
+            for (Object element : list) {
+                writeValue(out, element);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            out.writeByte(MAP);
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(out, entry.getKey());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("unsupported value type " + value.getClass().getName());
+        }
+    }
+
+    private static Object readValue(ByteBuffer buffer) {
+        byte type = buffer.get();
+        return switch (type) {
+            case NULL -> null;
+            case STRING -> readString(buffer);
+            case INTEGER -> buffer.getInt();
+            case LONG -> buffer.getLong();
+            case DOUBLE -> buffer.getDouble();
+            case BOOLEAN -> buffer.get() != 0;
+            case BIG_INTEGER -> new BigInteger(readString(buffer));
+            case DATE -> new Date(buffer.getLong());
+            case BINARY -> {
+                byte[] bytes = new byte[readCount(buffer)];
+                buffer.get(bytes);
+                yield bytes;
+            }
+            case LIST -> {
+                int size = readCount(buffer);
+                List<Object> list = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(buffer));
+                }
+                yield list;
+            }
+            case MAP -> {
+                int size = readCount(buffer);
+                Map<Object, Object> map = new LinkedHashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(buffer), readValue(buffer));
+                }
+                yield map;
+            }
+            default -> throw new IllegalArgumentException("corrupted value type " + type);
+        };
+    }
+
+    /**
+     * Reads the whole file into a heap buffer.
+     */
+    private static ByteBuffer read(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // until the end of the file
+        }
+        return buffer.flip();
+    }
+
+    private static int readCount(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("corrupted size " + count);
+        }
+        return count;
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[readCount(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int count = readCount(buffer);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(readString(buffer));
+        }
+        return strings;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+}
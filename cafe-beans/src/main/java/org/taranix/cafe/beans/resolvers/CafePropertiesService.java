@@ -1,26 +1,32 @@
 package org.taranix.cafe.beans.resolvers;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import lombok.Getter;
-import org.taranix.cafe.beans.exceptions.CafePropertiesContextException;
+import lombok.extern.slf4j.Slf4j;
 import org.taranix.cafe.beans.repositories.Repository;
 import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
 import org.taranix.cafe.beans.repositories.beans.BeansRepository;
 import org.taranix.cafe.beans.repositories.typekeys.PropertyTypeKey;
 import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
-import org.yaml.snakeyaml.Yaml;
 
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.Set;
 
 
+@Slf4j
 public class CafePropertiesService {
 
     public static final String BASE_PROPERTIES_FILENAME = "application";
@@ -30,17 +36,68 @@ public class CafePropertiesService {
     public static final String YML_EXTENSION = ".yml";
     public static final String YAML_EXTENSION = ".yaml";
 
+    /**
+     * System property and environment variable ({@code CAFE_PROFILES_ACTIVE}) listing the active profiles,
+     * comma separated, when none are given to {@link #defaultSources}.
+     */
+    public static final String PROFILES_PROPERTY = "cafe.profiles.active";
+
+    /**
+     * Merged properties, replaced as a whole on {@link #reload(Path)}; never modified once published.
+     */
     @Getter
-    private final Properties properties;
+    private volatile Properties properties;
+
+    private final Path workingDirectory;
+
+    private final Repository<TypeKey, BeanRepositoryEntry> repository;
+
+    /**
+     * Cacheable sources, read one by one and merged in order.
+     */
+    private final List<PropertySource> cacheableSources;
+
+    /**
+     * Sources read on every load, applied to the merged properties of the cacheable ones.
+     */
+    private final List<PropertySource> overridingSources;
 
-    private final ClassLoader classLoader;
+    /**
+     * Properties of every cacheable source, kept so a changed source is read again on its own. Null while the
+     * properties come from the cache, the sources are then read on the first reload.
+     */
+    private Map<PropertySource, Properties> sourceProperties;
 
-    private CafePropertiesService(Repository<TypeKey, BeanRepositoryEntry> repository, ClassLoader classLoader) {
-        properties = new Properties();
-        this.classLoader = classLoader;
-        loadFromClassPath();
-        loadFromWorkingDirectory();
-        loadIntoRepository(repository);
+    private Map<Object, Object> cachedProperties;
+
+    @Getter
+    private volatile CafePropertyStore propertyStore;
+
+    private CafePropertiesService(Repository<TypeKey, BeanRepositoryEntry> repository, Path workingDirectory,
+                                  List<PropertySource> sources, Path cacheFile, boolean lazyYamlSections) {
+        this.workingDirectory = workingDirectory;
+        this.repository = repository;
+        this.cacheableSources = sources.stream()
+                .filter(PropertySource::isCacheable)
+                .toList();
+        this.overridingSources = sources.stream()
+                .filter(source -> !source.isCacheable())
+                .toList();
+        String fingerprint = cacheFile == null ? null : fingerprint();
+        if (fingerprint != null) {
+            cachedProperties = CafePropertiesCache.load(cacheFile, fingerprint, lazyYamlSections);
+        }
+        if (cachedProperties == null) {
+            loadSources();
+            if (fingerprint != null) {
+                Properties merged = new Properties();
+                sourceProperties.values().forEach(merged::putAll);
+                CafePropertiesCache.write(cacheFile, fingerprint, merged);
+            }
+        }
+        properties = merge();
+        loadIntoRepository(properties, properties.keySet());
+        propertyStore = new CafePropertyStore(properties);
     }
 
     public static CafePropertiesService load(BeansRepository repository) {
@@ -48,104 +105,192 @@ public class CafePropertiesService {
     }
 
     public static CafePropertiesService load(Repository<TypeKey, BeanRepositoryEntry> repository, ClassLoader classLoader) {
-        return new CafePropertiesService(repository, classLoader);
+        return load(repository, classLoader, Paths.get(".").toAbsolutePath());
     }
 
-    private void loadFromClassPath() {
-        properties.putAll(loadProperties(getInputStreamFromClassLoader(BASE_PROPERTIES_FILENAME + PROPERTIES_EXTENSION)));
-        properties.putAll(loadYaml(getInputStreamFromClassLoader(BASE_PROPERTIES_FILENAME + YAML_EXTENSION)));
-        properties.putAll(loadYaml(getInputStreamFromClassLoader(BASE_PROPERTIES_FILENAME + YML_EXTENSION)));
-        properties.putAll(loadProperties(getInputStreamFromClassLoader(TEST_PROPERTIES_FILENAME + PROPERTIES_EXTENSION)));
-        properties.putAll(loadYaml(getInputStreamFromClassLoader(TEST_PROPERTIES_FILENAME + YAML_EXTENSION)));
-        properties.putAll(loadYaml(getInputStreamFromClassLoader(TEST_PROPERTIES_FILENAME + YML_EXTENSION)));
+    public static CafePropertiesService load(Repository<TypeKey, BeanRepositoryEntry> repository, ClassLoader classLoader, Path workingDirectory) {
+        return load(repository, classLoader, workingDirectory, false);
     }
 
-    private void loadFromWorkingDirectory() {
-        properties.putAll(loadProperties(getInputStreamFromPath(BASE_PROPERTIES_FILENAME + PROPERTIES_EXTENSION)));
-        properties.putAll(loadYaml(getInputStreamFromPath(BASE_PROPERTIES_FILENAME + YAML_EXTENSION)));
-        properties.putAll(loadYaml(getInputStreamFromPath(BASE_PROPERTIES_FILENAME + YML_EXTENSION)));
+    /**
+     * Loads the properties, storing nested YAML mappings as {@link YamlSection}s when {@code lazyYamlSections}
+     * is set. Their maps are then built by the {@link CafePropertyStore} only when requested, which saves memory
+     * and time with large YAML files of which few sections are used.
+     */
+    public static CafePropertiesService load(Repository<TypeKey, BeanRepositoryEntry> repository, ClassLoader classLoader, Path workingDirectory,
+                                             boolean lazyYamlSections) {
+        return load(repository, workingDirectory, defaultSources(classLoader, workingDirectory, List.of(), lazyYamlSections),
+                null, lazyYamlSections);
     }
 
-    private void loadIntoRepository(Repository<TypeKey, BeanRepositoryEntry> repository) {
-        for (Map.Entry<Object, Object> entry : properties.entrySet()) {
-            if (entry.getValue() instanceof Collection<?>) {
-                ((Collection<?>) entry.getValue()).forEach(v ->
-                        repository.set(PropertyTypeKey.from(entry.getKey().toString())
-                                , BeanRepositoryEntry.builder()
-                                        .value(v)
-                                        .build()));
-            } else {
-                repository.set(PropertyTypeKey.from(entry.getKey().toString())
-                        , BeanRepositoryEntry.builder()
-                                .value(entry.getValue())
-                                .build());
-            }
-        }
+    /**
+     * Loads the properties of the given sources, the later ones overriding the earlier ones.
+     *
+     * @param workingDirectory directory of the properties files, see {@link #getCurrentPath()}
+     * @param cacheFile        file caching the merged properties of the cacheable sources, see
+     *                         {@link CafePropertiesCache}; null to read the sources on every load
+     * @param lazyYamlSections whether sections read from the cache are restored as {@link YamlSection}s, as the
+     *                         sources then store them
+     */
+    public static CafePropertiesService load(Repository<TypeKey, BeanRepositoryEntry> repository, Path workingDirectory,
+                                             List<PropertySource> sources, Path cacheFile, boolean lazyYamlSections) {
+        return new CafePropertiesService(repository, workingDirectory, sources, cacheFile, lazyYamlSections);
     }
 
-    private Properties loadProperties(InputStream is) {
-        if (Objects.nonNull(is)) {
-            Properties props = new Properties();
-            try {
-                props.load(is);
-                return props;
-            } catch (IOException e) {
-                throw new CafePropertiesContextException(e.getMessage());
-            }
+    /**
+     * The sources read by default, by increasing precedence:
+     * <ol>
+     *     <li>{@code application} and {@code application-test} of the classpath</li>
+     *     <li>{@code application-{profile}} of the classpath, for every active profile</li>
+     *     <li>{@code application} of the working directory</li>
+     *     <li>{@code application-{profile}} of the working directory, for every active profile</li>
+     *     <li>environment variables, see {@link EnvironmentPropertySource}</li>
+     *     <li>system properties, see {@link SystemPropertySource}</li>
+     * </ol>
+     * Every source reads the {@code .properties}, {@code .yaml} and {@code .yml} file of its name.
+     *
+     * @param profiles active profiles, in increasing precedence; when empty, the profiles listed by the
+     *                 {@value #PROFILES_PROPERTY} system property or the {@code CAFE_PROFILES_ACTIVE}
+     *                 environment variable
+     */
+    public static List<PropertySource> defaultSources(ClassLoader classLoader, Path workingDirectory, List<String> profiles,
+                                                      boolean lazyYamlSections) {
+        List<String> activeProfiles = profiles.isEmpty() ? activeProfiles() : profiles;
+        List<PropertySource> sources = new ArrayList<>();
+        sources.add(new ClassPathPropertySource(classLoader, BASE_PROPERTIES_FILENAME, lazyYamlSections));
+        sources.add(new ClassPathPropertySource(classLoader, TEST_PROPERTIES_FILENAME, lazyYamlSections));
+        activeProfiles.forEach(profile -> sources.add(
+                new ClassPathPropertySource(classLoader, BASE_PROPERTIES_FILENAME + "-" + profile, lazyYamlSections)));
+        sources.add(new FilePropertySource(workingDirectory, BASE_PROPERTIES_FILENAME, lazyYamlSections));
+        activeProfiles.forEach(profile -> sources.add(
+                new FilePropertySource(workingDirectory, BASE_PROPERTIES_FILENAME + "-" + profile, lazyYamlSections)));
+        sources.add(new EnvironmentPropertySource());
+        sources.add(new SystemPropertySource());
+        return sources;
+    }
+
+    private static List<String> activeProfiles() {
+        String profiles = System.getProperty(PROFILES_PROPERTY);
+        if (profiles == null) {
+            profiles = System.getenv(EnvironmentPropertySource.variableName(PROFILES_PROPERTY));
+        }
+        if (profiles == null) {
+            return List.of();
         }
-        return new Properties();
+        return Arrays.stream(profiles.split(","))
+                .map(String::trim)
+                .filter(profile -> !profile.isEmpty())
+                .toList();
     }
 
-    private InputStream getInputStreamFromClassLoader(String resource) {
-        return classLoader.getResourceAsStream(resource);
+    /**
+     * Files read by the sources, changed ones can be passed to {@link #reload(Path)}.
+     */
+    public Set<Path> getFiles() {
+        Set<Path> files = new LinkedHashSet<>();
+        cacheableSources.forEach(source -> files.addAll(source.getFiles()));
+        return files;
     }
 
-    private Properties loadYaml(InputStream inputStream) {
-        if (inputStream != null) {
-            Yaml yaml = new Yaml();
-            Map<String, Object> yamlProperties = yaml.load(inputStream);
-            if (yamlProperties != null) {
-                Properties result = new Properties();
-                result.putAll(flatten(yamlProperties));
-                return result;
+    /**
+     * Reads the sources of the given file again and merges them with the other sources, which are not read again
+     * unless the properties came from the cache.
+     * <p>
+     * The new properties and property store are built aside and then published at once, so readers see either the
+     * previous or the new ones. Changed properties are also replaced in the repository, which must be thread-safe
+     * when beans are looked up meanwhile, e.g. a
+     * {@link org.taranix.cafe.beans.repositories.SynchronizedRepository}.
+     *
+     * @return keys of the properties added, removed or set to another value
+     */
+    public synchronized Set<String> reload(Path file) {
+        List<PropertySource> changedSources = cacheableSources.stream()
+                .filter(source -> source.getFiles().contains(file))
+                .toList();
+        if (changedSources.isEmpty()) {
+            return Set.of();
+        }
+        if (sourceProperties == null) {
+            loadSources();
+            cachedProperties = null;
+        } else {
+            changedSources.forEach(source -> sourceProperties.put(source, load(source)));
+        }
+        Properties previous = properties;
+        Properties merged = merge();
+        Set<String> changedKeys = new HashSet<>();
+        previous.forEach((key, value) -> {
+            if (!Objects.equals(value, merged.get(key))) {
+                changedKeys.add(key.toString());
             }
+        });
+        merged.keySet().stream()
+                .filter(key -> !previous.containsKey(key))
+                .forEach(key -> changedKeys.add(key.toString()));
+        if (!changedKeys.isEmpty()) {
+            CafePropertyStore mergedStore = new CafePropertyStore(merged);
+            changedKeys.forEach(key -> repository.unSet(PropertyTypeKey.from(key)));
+            loadIntoRepository(merged, changedKeys.stream()
+                    .filter(merged::containsKey)
+                    .toList());
+            properties = merged;
+            propertyStore = mergedStore;
         }
-        return new Properties();
+        return changedKeys;
     }
 
-    private Properties flatten(Map<String, Object> map) {
-        return flatten(null, map);
+    private String fingerprint() {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (PropertySource source : cacheableSources) {
+            hasher.putString(source.getName(), StandardCharsets.UTF_8);
+            hasher.putString(source.getFingerprint(), StandardCharsets.UTF_8);
+        }
+        return hasher.hash().toString();
     }
 
-    private Properties flatten(String propertyNameChunk, Map<String, Object> map) {
-        Properties result = new Properties();
+    private void loadSources() {
+        sourceProperties = new LinkedHashMap<>();
+        cacheableSources.forEach(source -> sourceProperties.put(source, load(source)));
+    }
 
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            String propertyName = propertyNameChunk != null ? propertyNameChunk + "." + entry.getKey() : entry.getKey();
-            Object value = map.get(entry.getKey());
-            result.put(propertyName, value);
+    private static Properties load(PropertySource source) {
+        Properties sourceProperties = new Properties();
+        source.load(sourceProperties);
+        log.debug("Loaded {} properties from {}", sourceProperties.size(), source.getName());
+        return sourceProperties;
+    }
 
-            if (value instanceof Map<?, ?>) {
-                result.putAll(flatten(propertyName, (Map<String, Object>) value));
-            }
+    private Properties merge() {
+        Properties merged = new Properties();
+        if (sourceProperties != null) {
+            sourceProperties.values().forEach(merged::putAll);
+        } else {
+            merged.putAll(cachedProperties);
         }
-        return result;
+        overridingSources.forEach(source -> source.load(merged));
+        return merged;
     }
 
-    private InputStream getInputStreamFromPath(String resource) {
-        Path path = Paths.get(getCurrentPath().toString(), resource);
-        if (Files.exists(path)) {
-            try {
-                return Files.newInputStream(path, StandardOpenOption.READ);
-            } catch (IOException e) {
-                throw new CafePropertiesContextException(e.getMessage());
+    private void loadIntoRepository(Properties properties, Collection<?> keys) {
+        for (Object key : keys) {
+            Object value = properties.get(key);
+            if (value instanceof Collection<?>) {
+                ((Collection<?>) value).forEach(v ->
+                        repository.set(PropertyTypeKey.from(key.toString())
+                                , BeanRepositoryEntry.builder()
+                                        .value(v)
+                                        .build()));
+            } else {
+                repository.set(PropertyTypeKey.from(key.toString())
+                        , BeanRepositoryEntry.builder()
+                                .value(value)
+                                .build());
             }
         }
-        return null;
     }
 
     public Path getCurrentPath() {
-        return Paths.get(".").toAbsolutePath();
+        return workingDirectory;
     }
 
 }
@@ -0,0 +1,135 @@
+package org.taranix.cafe.beans.resolvers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.taranix.cafe.beans.events.PropertiesChangedEvent;
+import org.taranix.cafe.beans.exceptions.CafePropertiesContextException;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Watches the properties files read by the sources of a {@link CafePropertiesService} (see
+ * {@link PropertySource#getFiles()}) and reloads the changed ones through {@link CafePropertiesService#reload(Path)}.
+ * <p>
+ * Reloads are debounced: files are reloaded once no watched file changed for the given delay, so an editor saving a
+ * file in several writes causes one reload. Watching and reloading run on a daemon thread of the watcher, and the
+ * listener is called there when some properties changed. Properties files of the classpath are not watched.
+ */
+@Slf4j
+public class CafePropertiesWatcher implements AutoCloseable {
+
+    private final CafePropertiesService propertiesService;
+
+    private final long debounceNanos;
+
+    private final Consumer<PropertiesChangedEvent> listener;
+
+    private final WatchService watchService;
+
+    private final Thread thread;
+
+    private CafePropertiesWatcher(CafePropertiesService propertiesService, Duration debounce,
+                                  Consumer<PropertiesChangedEvent> listener) throws IOException {
+        this.propertiesService = propertiesService;
+        this.debounceNanos = debounce.toNanos();
+        this.listener = listener;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        Set<Path> directories = new LinkedHashSet<>();
+        propertiesService.getFiles().forEach(file -> directories.add(file.getParent()));
+        for (Path directory : directories) {
+            directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        }
+        this.thread = new Thread(this::watch, "cafe-properties-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching the properties files of the service.
+     */
+    public static CafePropertiesWatcher start(CafePropertiesService propertiesService, Duration debounce,
+                                              Consumer<PropertiesChangedEvent> listener) {
+        try {
+            CafePropertiesWatcher watcher = new CafePropertiesWatcher(propertiesService, debounce, listener);
+            watcher.thread.start();
+            log.debug("Watching properties files {}", propertiesService.getFiles());
+            return watcher;
+        } catch (IOException e) {
+            throw new CafePropertiesContextException("Couldn't watch properties files in %s: %s"
+                    .formatted(propertiesService.getCurrentPath(), e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            log.warn("Couldn't close properties watcher: {}", e.toString());
+        }
+    }
+
+    private void watch() {
+        Set<Path> files = propertiesService.getFiles();
+        Set<Path> changedFiles = new LinkedHashSet<>();
+        // moved only by changes of watched files, not by other files of their directories
+        long deadline = 0;
+        try {
+            while (true) {
+                WatchKey key;
+                if (changedFiles.isEmpty()) {
+                    key = watchService.take();
+                } else {
+                    long remaining = deadline - System.nanoTime();
+                    key = remaining > 0 ? watchService.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                }
+                if (key == null) {
+                    // quiet for the debounce delay
+                    reload(changedFiles);
+                    changedFiles.clear();
+                    continue;
+                }
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path fileName && key.watchable() instanceof Path directory) {
+                        Path file = directory.resolve(fileName);
+                        if (files.contains(file)) {
+                            changedFiles.add(file);
+                            deadline = System.nanoTime() + debounceNanos;
+                        }
+                    }
+                }
+                key.reset();
+            }
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Properties watcher closed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void reload(Set<Path> files) {
+        try {
+            Set<String> changedKeys = new HashSet<>();
+            files.forEach(file -> changedKeys.addAll(propertiesService.reload(file)));
+            log.debug("Reloaded {}, changed properties: {}", files, changedKeys);
+            if (!changedKeys.isEmpty()) {
+                listener.accept(new PropertiesChangedEvent(Set.copyOf(changedKeys), Set.copyOf(files)));
+            }
+        } catch (RuntimeException e) {
+            // e.g. a file saved with a syntax error; the next change reloads it again
+            log.error("Couldn't reload properties files {}", files, e);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package org.taranix.cafe.beans.resolvers;
+
+import org.taranix.cafe.beans.exceptions.CafePropertiesContextException;
+
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Flattened application properties ({@code String -> value}), kept apart from the beans repository.
+ * <p>
+ * Values converted to an immutable target type (strings, primitives and their wrappers, big numbers,
+ * {@code java.time} values and enums) are cached per key and type, so injecting a property again, e.g. into every
+ * prototype instance, costs a map lookup. Values of other types, e.g. lists or arrays, are converted on every call,
+ * so that no two beans share a mutable value. The typed getters ({@link #getInt(String)}, {@link #getLong(String)}, {@link #getBoolean(String)},
+ * {@link #getDuration(String)}) accept both the typed values of YAML files and strings, and use the same cache.
+ */
+public class CafePropertyStore {
+
+    private static final CafePropertyStore EMPTY = new CafePropertyStore(Map.of());
+
+    /**
+     * Stands for a null converted value, which concurrent maps can't hold.
+     */
+    private static final Object NULL = new Object();
+
+    /**
+     * Target types whose values can be shared, besides primitives, enums and {@code java.time} values.
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Integer.class, Long.class, Short.class,
+            Byte.class, Double.class, Float.class, Boolean.class, Character.class, BigInteger.class, BigDecimal.class,
+            UUID.class);
+
+    private final Map<String, Object> values;
+
+    private final Map<Type, Map<String, Object>> convertedValues = new ConcurrentHashMap<>();
+
+    /**
+     * Maps of the {@link YamlSection}s requested so far.
+     */
+    private final Map<String, Map<Object, Object>> sections = new ConcurrentHashMap<>();
+
+    public CafePropertyStore(Map<?, ?> properties) {
+        Map<String, Object> copy = new HashMap<>();
+        properties.forEach((key, value) -> {
+            if (value != null) {
+                copy.put(key.toString(), value);
+            }
+        });
+        this.values = Collections.unmodifiableMap(copy);
+    }
+
+    public static CafePropertyStore empty() {
+        return EMPTY;
+    }
+
+    public boolean contains(String key) {
+        return values.containsKey(key);
+    }
+
+    public Set<String> getKeys() {
+        return values.keySet();
+    }
+
+    /**
+     * Returns the value as loaded, e.g. a {@link Map} or {@link java.util.List} for YAML sections and sequences.
+     * The map of a {@link YamlSection} is built on the first call.
+     */
+    public Object get(String key) {
+        Object value = values.get(key);
+        if (value == null) {
+            throw new CafePropertiesContextException("No property " + key);
+        }
+        return value instanceof YamlSection section ? section(key, section) : value;
+    }
+
+    private Map<Object, Object> section(String key, YamlSection section) {
+        Map<Object, Object> map = sections.get(key);
+        if (map == null) {
+            map = new LinkedHashMap<>();
+            for (String child : section.children()) {
+                String childKey = key + "." + child;
+                Object value = values.get(childKey);
+                map.put(child, value instanceof YamlSection childSection ? section(childKey, childSection) : value);
+            }
+            Map<Object, Object> existing = sections.putIfAbsent(key, map);
+            map = existing != null ? existing : map;
+        }
+        return map;
+    }
+
+    /**
+     * Returns the value converted to the target type, converting it on the first call only when the type is
+     * immutable.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Type targetType, Function<Object, ?> converter) {
+        if (!isImmutable(targetType)) {
+            return (T) convert(key, targetType, converter);
+        }
+        Map<String, Object> converted = convertedValues.get(targetType);
+        if (converted == null) {
+            converted = convertedValues.computeIfAbsent(targetType, type -> new ConcurrentHashMap<>());
+        }
+        Object value = converted.get(key);
+        if (value == null) {
+            value = convert(key, targetType, converter);
+            converted.putIfAbsent(key, value == null ? NULL : value);
+        }
+        return value == NULL ? null : (T) value;
+    }
+
+    private Object convert(String key, Type targetType, Function<Object, ?> converter) {
+        Object rawValue = get(key);
+        try {
+            return converter.apply(rawValue);
+        } catch (RuntimeException e) {
+            throw new CafePropertiesContextException("Couldn't convert property %s = '%s' to %s: %s"
+                    .formatted(key, rawValue, targetType.getTypeName(), e.getMessage()), e);
+        }
+    }
+
+    private static boolean isImmutable(Type type) {
+        return type instanceof Class<?> clazz && (clazz.isPrimitive() || clazz.isEnum()
+                || IMMUTABLE_TYPES.contains(clazz) || clazz.getPackageName().equals("java.time"));
+    }
+
+    public String getString(String key) {
+        return get(key, String.class, Object::toString);
+    }
+
+    public int getInt(String key) {
+        return this.<Integer>get(key, Integer.class, CafePropertyStore::toInteger);
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return contains(key) ? getInt(key) : defaultValue;
+    }
+
+    public long getLong(String key) {
+        return this.<Long>get(key, Long.class, CafePropertyStore::toLong);
+    }
+
+    public long getLong(String key, long defaultValue) {
+        return contains(key) ? getLong(key) : defaultValue;
+    }
+
+    public boolean getBoolean(String key) {
+        return this.<Boolean>get(key, Boolean.class, CafePropertyStore::toBoolean);
+    }
+
+    public boolean getBoolean(String key, boolean defaultValue) {
+        return contains(key) ? getBoolean(key) : defaultValue;
+    }
+
+    /**
+     * Reads an ISO-8601 duration ({@code PT30S}), a number with a unit ({@code 500ms}, {@code 30s}, {@code 5m},
+     * {@code 2h}, {@code 1d}) or a number of milliseconds.
+     */
+    public Duration getDuration(String key) {
+        return get(key, Duration.class, CafePropertyStore::toDuration);
+    }
+
+    public Duration getDuration(String key, Duration defaultValue) {
+        return contains(key) ? getDuration(key) : defaultValue;
+    }
+
+    private static Integer toInteger(Object value) {
+        if (value instanceof Number number) {
+            return Math.toIntExact(number.longValue());
+        }
+        return Integer.parseInt(value.toString().trim());
+    }
+
+    private static Long toLong(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return Long.parseLong(value.toString().trim());
+    }
+
+    private static Boolean toBoolean(Object value) {
+        if (value instanceof Boolean bool) {
+            return bool;
+        }
+        String text = value.toString().trim();
+        if ("true".equalsIgnoreCase(text)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(text)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("not a boolean");
+    }
+
+    private static Duration toDuration(Object value) {
+        if (value instanceof Duration duration) {
+            return duration;
+        }
+        if (value instanceof Number number) {
+            return Duration.ofMillis(number.longValue());
+        }
+        String text = value.toString().trim();
+        if (text.startsWith("P") || text.startsWith("p") || text.startsWith("-P")) {
+            try {
+                return Duration.parse(text);
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("not an ISO-8601 duration", e);
+            }
+        }
+        int unitStart = text.length();
+        while (unitStart > 0 && Character.isLetter(text.charAt(unitStart - 1))) {
+            unitStart--;
+        }
+        long amount = Long.parseLong(text.substring(0, unitStart).trim());
+        return switch (text.substring(unitStart).toLowerCase()) {
+            case "", "ms" -> Duration.ofMillis(amount);
+            case "s" -> Duration.ofSeconds(amount);
+            case "m" -> Duration.ofMinutes(amount);
+            case "h" -> Duration.ofHours(amount);
+            case "d" -> Duration.ofDays(amount);
+            default -> throw new IllegalArgumentException("unknown duration unit");
+        };
+    }
+}
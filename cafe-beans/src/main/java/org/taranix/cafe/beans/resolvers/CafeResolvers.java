@@ -6,6 +6,7 @@ import org.taranix.cafe.beans.metadata.*;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 import org.taranix.cafe.beans.resolvers.metadata.CafeClassResolver;
 import org.taranix.cafe.beans.resolvers.metadata.CafeProviderResolver;
+import org.taranix.cafe.beans.resolvers.metadata.CompiledClassResolver;
 import org.taranix.cafe.beans.resolvers.metadata.DefaultClassResolver;
 import org.taranix.cafe.beans.resolvers.metadata.DefaultProviderResolver;
 import org.taranix.cafe.beans.resolvers.metadata.constructor.CafeConstructorResolver;
@@ -26,50 +27,146 @@ import org.taranix.cafe.beans.resolvers.types.OptionalBeanTypeResolver;
 
 import lombok.extern.slf4j.Slf4j;
 
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * Registry of all resolvers used by {@link CafeBeansFactory}. Resolvers are kept in copy-on-write sets,
+ * so lookups are safe while singletons are resolved concurrently. The resolver chosen for a class, member or
+ * type key is cached, so steady-state lookups are a single map access.
+ */
 @Slf4j
 public class CafeResolvers {
 
     public static final String NO_RESOLVER_FOUND = "No resolver found for %s";
     public static final String TOO_MANY_RESOLVERS = "Too many resolvers for  %s";
-    private final Set<CafeProviderResolver> providerResolvers = new HashSet<>(List.of(
+    private final Set<CafeProviderResolver> providerResolvers = new CopyOnWriteArraySet<>(List.of(
             new DefaultProviderResolver()));
 
-    private final Set<CafeClassResolver> classResolvers = new HashSet<>(List.of(
-            new DefaultClassResolver()));
+    private final Set<CafeClassResolver> classResolvers;
 
-    private final Set<CafeConstructorResolver> constructorResolvers = new HashSet<>(List.of(
+    private final Set<CafeConstructorResolver> constructorResolvers = new CopyOnWriteArraySet<>(List.of(
             new SingletonConstructorResolver(),
             new PrototypeConstructorResolver()));
-    private final Set<CafeFieldResolver> fieldResolvers = new HashSet<>(List.of(
+    private final Set<CafeFieldResolver> fieldResolvers = new CopyOnWriteArraySet<>(List.of(
             new WireFieldResolver(),
             new PropertyResolver())
     );
 
-    private final Set<CafeMethodResolver> methodResolvers = new HashSet<>(List.of(
+    private final Set<CafeMethodResolver> methodResolvers = new CopyOnWriteArraySet<>(List.of(
             new PrototypeWireMethodResolver(),
             new SingletonWireMethodResolver(),
             new SingletonHandlerMethodResolver(CafeHandler.class))
     );
 
-    private final Set<CafeBeanTypeResolver> beanTypekeyResolvers = new HashSet<>(List.of(
+    private final Set<CafeBeanTypeResolver> beanTypekeyResolvers = new CopyOnWriteArraySet<>(List.of(
             new ClassBeanTypeResolver(),
             new ArrayBeanTypeResolver(),
             new CollectionBeanTypeResolver(),
             new OptionalBeanTypeResolver()));
 
-    public CafeMethodResolver findMethodResolver(CafeMethod methodDescriptor) {
-        Set<CafeMethodResolver> matched = findMethodResolvers(methodDescriptor);
-        if (matched.size() > 1) {
-            throw new CafeBeansFactoryException(TOO_MANY_RESOLVERS.formatted(methodDescriptor.getMember()));
+    public CafeResolvers() {
+        this(new DefaultClassResolver());
+    }
+
+    /**
+     * Creates resolvers using the given resolver for service classes instead of {@link DefaultClassResolver},
+     * e.g. a {@link CompiledClassResolver}.
+     */
+    public CafeResolvers(CafeClassResolver defaultClassResolver) {
+        this.classResolvers = new CopyOnWriteArraySet<>(List.of(defaultClassResolver));
+    }
+
+    /**
+     * Chosen resolver per descriptor. Resolvers decide only from the descriptor, so the choice is computed once
+     * and reused; the caches are filled eagerly by {@link #freeze(CafeMetadataRegistry)}.
+     */
+    private final Map<CafeClass, CafeClassResolver> classDispatch = new ConcurrentHashMap<>();
+    private final Map<CafeConstructor, CafeConstructorResolver> constructorDispatch = new ConcurrentHashMap<>();
+    private final Map<CafeField, CafeFieldResolver> fieldDispatch = new ConcurrentHashMap<>();
+    private final Map<CafeMethod, CafeMethodResolver> methodDispatch = new ConcurrentHashMap<>();
+    private final Map<BeanTypeKey, CafeBeanTypeResolver> beanTypekeyDispatch = new ConcurrentHashMap<>();
+
+    private volatile boolean frozen;
+
+    /**
+     * Freezes the resolver set and selects the resolver of every class, member and required type of the registry,
+     * so missing or ambiguous resolvers are reported before any bean is created and later lookups do no search.
+     *
+     * @throws CafeBeansFactoryException if a descriptor has no resolver or more than one.
+     */
+    public void freeze(CafeMetadataRegistry metadataRegistry) {
+        freeze(metadataRegistry, Map.of());
+    }
+
+    /**
+     * Freezes the resolver set like {@link #freeze(CafeMetadataRegistry)}, taking the resolver of a class or member
+     * from the given assignments (see {@link #getAssignments()}) when a single registered resolver has the assigned
+     * class name. Descriptors without a usable assignment are matched against all resolvers.
+     *
+     * @param assignments resolver class name per class or member, e.g. restored from a context snapshot
+     * @throws CafeBeansFactoryException if a descriptor has no resolver or more than one.
+     */
+    public void freeze(CafeMetadataRegistry metadataRegistry, Map<String, String> assignments) {
+        frozen = true;
+        for (CafeClass cafeClass : metadataRegistry.getCafeClassMetadata()) {
+            assign(classDispatch, classResolvers, cafeClass, assignments.get(assignmentKey(cafeClass)),
+                    this::findClassResolver);
+            assign(constructorDispatch, constructorResolvers, cafeClass.getConstructor(),
+                    assignments.get(assignmentKey(cafeClass.getConstructor())), this::findConstructorResolver);
+            cafeClass.getFields().forEach(field -> assign(fieldDispatch, fieldResolvers, field,
+                    assignments.get(assignmentKey(field)), this::findFieldResolver));
+            cafeClass.getMethods().forEach(method -> assign(methodDispatch, methodResolvers, method,
+                    assignments.get(assignmentKey(method)), this::findMethodResolver));
+            cafeClass.getRequiredTypes().forEach(this::findBeanTypekeyResolver);
         }
-        return matched.stream()
-                .findFirst()
-                .orElseThrow(() -> new CafeBeansFactoryException(NO_RESOLVER_FOUND.formatted(methodDescriptor.getMember())));
+        log.debug("Resolvers frozen: {} classes, {} constructors, {} fields, {} methods, {} types",
+                classDispatch.size(), constructorDispatch.size(), fieldDispatch.size(), methodDispatch.size(),
+                beanTypekeyDispatch.size());
+    }
+
+    /**
+     * Returns the class name of the resolver chosen for every class and member so far, keyed by
+     * {@link Class#toString()} for classes and {@link java.lang.reflect.Member#toString()} for members.
+     */
+    public Map<String, String> getAssignments() {
+        Map<String, String> assignments = new HashMap<>();
+        classDispatch.forEach((descriptor, resolver) -> assignments.put(assignmentKey(descriptor), resolver.getClass().getName()));
+        constructorDispatch.forEach((descriptor, resolver) -> assignments.put(assignmentKey(descriptor), resolver.getClass().getName()));
+        fieldDispatch.forEach((descriptor, resolver) -> assignments.put(assignmentKey(descriptor), resolver.getClass().getName()));
+        methodDispatch.forEach((descriptor, resolver) -> assignments.put(assignmentKey(descriptor), resolver.getClass().getName()));
+        return assignments;
+    }
+
+    private static String assignmentKey(CafeClass cafeClass) {
+        return cafeClass.getRootClass().toString();
+    }
+
+    private static String assignmentKey(CafeMember cafeMember) {
+        return cafeMember == null ? null : cafeMember.getMember().toString();
+    }
+
+    private static <D, R> void assign(Map<D, R> dispatch, Set<R> resolvers, D descriptor, String resolverClassName,
+                                      Function<D, R> finder) {
+        List<R> assigned = descriptor == null || resolverClassName == null ? List.of() : resolvers.stream()
+                .filter(resolver -> resolver.getClass().getName().equals(resolverClassName))
+                .toList();
+        if (assigned.size() == 1) {
+            dispatch.putIfAbsent(descriptor, assigned.get(0));
+        } else {
+            finder.apply(descriptor);
+        }
+    }
+
+    public CafeMethodResolver findMethodResolver(CafeMethod methodDescriptor) {
+        return methodDispatch.computeIfAbsent(methodDescriptor,
+                descriptor -> single(findMethodResolvers(descriptor), descriptor.getMember()));
     }
 
     private Set<CafeMethodResolver> findMethodResolvers(CafeMethod methodDescriptor) {
@@ -82,14 +179,8 @@ public class CafeResolvers {
     }
 
     public CafeClassResolver findClassResolver(CafeClass descriptor) {
-        Set<CafeClassResolver> matched = findClassResolvers(descriptor);
-        if (matched.size() > 1) {
-            throw new CafeBeansFactoryException(TOO_MANY_RESOLVERS.formatted(descriptor));
-        }
-
-        return matched.stream()
-                .findFirst()
-                .orElseThrow(() -> new CafeBeansFactoryException(NO_RESOLVER_FOUND.formatted(descriptor)));
+        return classDispatch.computeIfAbsent(descriptor,
+                cafeClass -> single(findClassResolvers(cafeClass), cafeClass));
     }
 
 
@@ -103,14 +194,8 @@ public class CafeResolvers {
     }
 
     public CafeConstructorResolver findConstructorResolver(CafeConstructor constructorDescriptor) {
-        Set<CafeConstructorResolver> matched = findConstructorResolvers(constructorDescriptor);
-        if (matched.size() > 1) {
-            throw new CafeBeansFactoryException(TOO_MANY_RESOLVERS.formatted(constructorDescriptor.getMember()));
-        }
-
-        return matched.stream()
-                .findFirst()
-                .orElseThrow(() -> new CafeBeansFactoryException(NO_RESOLVER_FOUND.formatted(constructorDescriptor.getMember())));
+        return constructorDispatch.computeIfAbsent(constructorDescriptor,
+                descriptor -> single(findConstructorResolvers(descriptor), descriptor.getMember()));
     }
 
     private Set<CafeConstructorResolver> findConstructorResolvers(CafeConstructor cafeAnnotationConstructorInfo) {
@@ -123,14 +208,8 @@ public class CafeResolvers {
     }
 
     public CafeFieldResolver findFieldResolver(CafeField fieldDescriptor) {
-        Set<CafeFieldResolver> matched = findFieldResolvers(fieldDescriptor);
-        if (matched.size() > 1) {
-            throw new CafeBeansFactoryException(TOO_MANY_RESOLVERS.formatted(fieldDescriptor.getMember()));
-        }
-
-        return matched.stream()
-                .findFirst()
-                .orElseThrow(() -> new CafeBeansFactoryException(NO_RESOLVER_FOUND.formatted(fieldDescriptor.getMember())));
+        return fieldDispatch.computeIfAbsent(fieldDescriptor,
+                descriptor -> single(findFieldResolvers(descriptor), descriptor.getMember()));
     }
 
     private Set<CafeFieldResolver> findFieldResolvers(CafeField fieldDescriptor) {
@@ -144,16 +223,18 @@ public class CafeResolvers {
     }
 
     public CafeBeanTypeResolver findBeanTypekeyResolver(BeanTypeKey typeKey) {
-        Set<CafeBeanTypeResolver> matched = beanTypekeyResolvers.stream()
-                .filter(cafeBeanTypekeyResolver -> cafeBeanTypekeyResolver.isApplicable(typeKey))
-                .collect(Collectors.toSet());
+        return beanTypekeyDispatch.computeIfAbsent(typeKey, key -> single(beanTypekeyResolvers.stream()
+                .filter(cafeBeanTypekeyResolver -> cafeBeanTypekeyResolver.isApplicable(key))
+                .collect(Collectors.toSet()), key));
+    }
 
+    private static <T> T single(Set<T> matched, Object descriptor) {
         if (matched.size() > 1) {
-            throw new CafeBeansFactoryException(TOO_MANY_RESOLVERS.formatted(typeKey));
+            throw new CafeBeansFactoryException(TOO_MANY_RESOLVERS.formatted(descriptor));
         }
         return matched.stream()
                 .findFirst()
-                .orElseThrow(() -> new CafeBeansFactoryException(NO_RESOLVER_FOUND.formatted(typeKey)));
+                .orElseThrow(() -> new CafeBeansFactoryException(NO_RESOLVER_FOUND.formatted(descriptor)));
     }
 
     public CafeProviderResolver findProviderResolver(CafeMember memberInfo) {
@@ -164,23 +245,34 @@ public class CafeResolvers {
     }
 
     public void add(CafeClassResolver... classResolvers) {
+        checkNotFrozen();
         this.classResolvers.addAll(Set.of(classResolvers));
     }
 
     public void add(CafeConstructorResolver... constructorResolvers) {
+        checkNotFrozen();
         this.constructorResolvers.addAll(Set.of(constructorResolvers));
     }
 
     public void add(CafeFieldResolver... fieldResolvers) {
+        checkNotFrozen();
         this.fieldResolvers.addAll(Set.of(fieldResolvers));
     }
 
     public void add(CafeMethodResolver... methodResolvers) {
+        checkNotFrozen();
         this.methodResolvers.addAll(Set.of(methodResolvers));
     }
 
     public void add(CafeBeanTypeResolver... cafeBeanTypeResolvers) {
+        checkNotFrozen();
         this.beanTypekeyResolvers.addAll(Set.of(cafeBeanTypeResolvers));
     }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new CafeBeansFactoryException("Resolvers can't be added once the beans factory is initialized");
+        }
+    }
 }
 
@@ -0,0 +1,259 @@
+package org.taranix.cafe.beans.resolvers;
+
+import org.taranix.cafe.beans.exceptions.CafePropertiesContextException;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Construct;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Flattens a YAML document into dotted property names while parsing it (SnakeYAML events), writing every
+ * property straight into the target map, without loading the document tree first.
+ * <p>
+ * A nested mapping is stored under its own name too, as a {@link LinkedHashMap} built once and shared with its
+ * parent. In lazy mode such mappings are only recorded as {@link YamlSection}s, and {@link CafePropertyStore}
+ * builds the map the first time the section is requested. Sequences are stored as lists, their elements are not
+ * flattened. Scalars get the same types as with {@link Yaml#load}, e.g. {@code 8080} is an {@link Integer};
+ * null values are not stored.
+ */
+public final class CafeYamlFlattener {
+
+    private final Map<Object, Object> target;
+
+    private final boolean lazy;
+
+    private final Resolver resolver = new Resolver();
+
+    private final ScalarConstructor constructor = new ScalarConstructor();
+
+    private final Map<String, Object> anchors = new HashMap<>();
+
+    private final Deque<Frame> frames = new ArrayDeque<>();
+
+    private CafeYamlFlattener(Map<Object, Object> target, boolean lazy) {
+        this.target = target;
+        this.lazy = lazy;
+    }
+
+    /**
+     * Flattens the YAML document read from the reader into the target map.
+     *
+     * @param lazy whether nested mappings are stored as {@link YamlSection}s instead of maps
+     */
+    public static void flatten(Reader reader, Map<Object, Object> target, boolean lazy) {
+        CafeYamlFlattener flattener = new CafeYamlFlattener(target, lazy);
+        try {
+            for (Event event : new Yaml().parse(reader)) {
+                flattener.accept(event);
+            }
+        } catch (YAMLException e) {
+            throw new CafePropertiesContextException("Couldn't parse YAML: " + e.getMessage(), e);
+        }
+    }
+
+    private void accept(Event event) {
+        switch (event.getEventId()) {
+            case MappingStart -> frames.push(startMapping(anchor(event)));
+            case SequenceStart -> frames.push(new Frame(null, null, new ArrayList<>(), null, anchor(event)));
+            case MappingEnd, SequenceEnd -> endCollection();
+            case Scalar -> scalar((ScalarEvent) event);
+            case Alias -> value(anchors.get(((AliasEvent) event).getAnchor()), false);
+            default -> {
+                // stream and document boundaries
+            }
+        }
+    }
+
+    private static String anchor(Event event) {
+        return ((CollectionStartEvent) event).getAnchor();
+    }
+
+    private Frame startMapping(String anchor) {
+        Frame parent = frames.peek();
+        if (parent == null) {
+            // the root mapping, its entries are the top-level properties
+            return new Frame("", null, null, null, null);
+        }
+        if (parent.path == null) {
+            // a mapping in a sequence, only a value
+            return new Frame(null, new LinkedHashMap<>(), null, null, anchor);
+        }
+        String path = parent.childPath(parent.key);
+        boolean buildMap = !lazy || anchor != null;
+        return new Frame(path, buildMap ? new LinkedHashMap<>() : null, null, lazy ? new ArrayList<>() : null, anchor);
+    }
+
+    private void endCollection() {
+        Frame frame = frames.pop();
+        Object value = frame.map != null ? frame.map : frame.list;
+        if (frame.anchor != null) {
+            anchors.put(frame.anchor, value);
+        }
+        if (frame.path != null && frame.path.isEmpty()) {
+            return;
+        }
+        if (value == null) {
+            value = new YamlSection(List.copyOf(frame.children));
+        }
+        value(value, frame.path != null);
+    }
+
+    private void scalar(ScalarEvent event) {
+        Tag tag = event.getTag() == null || "!".equals(event.getTag())
+                ? resolver.resolve(NodeId.scalar, event.getValue(), event.getImplicit().canOmitTagInPlainScalar())
+                : new Tag(event.getTag());
+        Object value;
+        if (Tag.STR.equals(tag)) {
+            value = event.getValue();
+        } else if (Tag.MERGE.equals(tag)) {
+            value = Merge.KEY;
+        } else {
+            value = constructor.construct(new ScalarNode(tag, event.getValue(), event.getStartMark(), event.getEndMark(),
+                    event.getScalarStyle()));
+        }
+        if (event.getAnchor() != null) {
+            anchors.put(event.getAnchor(), value);
+        }
+        value(value, false);
+    }
+
+    /**
+     * Passes a key or a value to the enclosing collection.
+     *
+     * @param flattened whether the value is a mapping whose entries were already written to the target
+     */
+    private void value(Object value, boolean flattened) {
+        Frame frame = frames.peek();
+        if (frame == null) {
+            return;
+        }
+        if (frame.list != null) {
+            frame.list.add(value);
+        } else if (!frame.hasKey) {
+            frame.key = value;
+            frame.hasKey = true;
+        } else {
+            frame.hasKey = false;
+            if (frame.key == Merge.KEY) {
+                merge(frame, value);
+            } else {
+                entry(frame, frame.key, value, flattened);
+            }
+        }
+    }
+
+    private void merge(Frame frame, Object value) {
+        if (value instanceof Map<?, ?> map) {
+            map.forEach((key, mergedValue) -> {
+                // explicit keys win over merged ones, as do the keys of earlier merged mappings
+                if (!frame.keys.contains(key)) {
+                    entry(frame, key, mergedValue, false);
+                }
+            });
+        } else if (value instanceof List<?> maps) {
+            maps.forEach(map -> merge(frame, map));
+        }
+    }
+
+    private void entry(Frame frame, Object key, Object value, boolean flattened) {
+        if (frame.map != null) {
+            frame.map.put(key, value);
+        }
+        boolean added = frame.keys.add(key);
+        if (frame.path == null) {
+            return;
+        }
+        if (frame.children != null && added) {
+            frame.children.add(String.valueOf(key));
+        }
+        String path = frame.childPath(key);
+        if (value != null) {
+            target.put(path, value);
+        }
+        if (!flattened && value instanceof Map<?, ?> map) {
+            flattenMap(path, map);
+        }
+    }
+
+    /**
+     * Writes the entries of a mapping known only as a value, e.g. an alias.
+     */
+    private void flattenMap(String path, Map<?, ?> map) {
+        map.forEach((key, value) -> {
+            String childPath = path + "." + key;
+            if (value != null) {
+                target.put(childPath, value);
+            }
+            if (value instanceof Map<?, ?> childMap) {
+                flattenMap(childPath, childMap);
+            }
+        });
+    }
+
+    private enum Merge {
+        KEY
+    }
+
+    /**
+     * An open mapping or sequence. A mapping has a {@code path} when it is reachable from the root through
+     * mappings only, its entries are then written to the target.
+     */
+    private static final class Frame {
+        private final String path;
+        private final Map<Object, Object> map;
+        private final List<Object> list;
+        private final List<String> children;
+        private final String anchor;
+        /**
+         * Keys set so far, explicitly or by a merge; a mapping has no map at the root or in lazy mode.
+         */
+        private final Set<Object> keys = new HashSet<>();
+        private Object key;
+        private boolean hasKey;
+
+        private Frame(String path, Map<Object, Object> map, List<Object> list, List<String> children, String anchor) {
+            this.path = path;
+            this.map = map;
+            this.list = list;
+            this.children = children;
+            this.anchor = anchor;
+        }
+
+        private String childPath(Object childKey) {
+            return path.isEmpty() ? String.valueOf(childKey) : path + "." + childKey;
+        }
+    }
+
+    private static final class ScalarConstructor extends SafeConstructor {
+
+        private ScalarConstructor() {
+            super(new LoaderOptions());
+        }
+
+        private Object construct(ScalarNode node) {
+            // constructObject would remember every node, scalars are never referenced again (see anchors)
+            Construct construct = yamlConstructors.get(node.getTag());
+            return construct != null ? construct.construct(node) : constructObject(node);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.taranix.cafe.beans.resolvers;
+
+import java.io.InputStream;
+
+/**
+ * Properties files of a base name found by a class loader, e.g. {@code application.yml} at the root of the
+ * classpath.
+ */
+public class ClassPathPropertySource extends ResourcePropertySource {
+
+    private final ClassLoader classLoader;
+
+    public ClassPathPropertySource(ClassLoader classLoader, String baseName, boolean lazyYamlSections) {
+        super(baseName, lazyYamlSections);
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public String getName() {
+        return "classpath:" + getBaseName();
+    }
+
+    @Override
+    protected InputStream open(String fileName) {
+        return classLoader.getResourceAsStream(fileName);
+    }
+}
@@ -0,0 +1,62 @@
+package org.taranix.cafe.beans.resolvers;
+
+import java.util.Map;
+
+/**
+ * Overrides properties with environment variables: {@code server.port} is replaced by the value of
+ * {@code SERVER_PORT} when that variable is set (upper case, dots and dashes written as underscores).
+ * Variables matching no property are ignored, so the environment adds no properties.
+ */
+public class EnvironmentPropertySource implements PropertySource {
+
+    private final Map<String, String> environment;
+
+    public EnvironmentPropertySource() {
+        this(System.getenv());
+    }
+
+    public EnvironmentPropertySource(Map<String, String> environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * Name of the environment variable overriding the given property.
+     */
+    public static String variableName(String propertyName) {
+        StringBuilder name = new StringBuilder(propertyName.length());
+        for (int i = 0; i < propertyName.length(); i++) {
+            char c = propertyName.charAt(i);
+            name.append(Character.isLetterOrDigit(c) ? Character.toUpperCase(c) : '_');
+        }
+        return name.toString();
+    }
+
+    @Override
+    public String getName() {
+        return "environment";
+    }
+
+    @Override
+    public void load(Map<Object, Object> target) {
+        if (environment.isEmpty()) {
+            return;
+        }
+        target.replaceAll((key, value) -> {
+            String variable = environment.get(variableName(key.toString()));
+            return variable != null ? variable : value;
+        });
+    }
+
+    /**
+     * The environment is read on every load.
+     */
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
+
+    @Override
+    public String getFingerprint() {
+        return null;
+    }
+}
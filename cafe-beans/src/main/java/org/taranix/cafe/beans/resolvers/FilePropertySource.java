@@ -0,0 +1,47 @@
+package org.taranix.cafe.beans.resolvers;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+
+/**
+ * Properties files of a base name in a directory, e.g. {@code application.yml} of the working directory.
+ */
+public class FilePropertySource extends ResourcePropertySource {
+
+    private final Path directory;
+
+    public FilePropertySource(Path directory, String baseName, boolean lazyYamlSections) {
+        super(baseName, lazyYamlSections);
+        this.directory = directory;
+    }
+
+    @Override
+    public String getName() {
+        return directory.resolve(getBaseName()).toString();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    protected InputStream open(String fileName) throws IOException {
+        try {
+            return Files.newInputStream(directory.resolve(fileName), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public Collection<Path> getFiles() {
+        return getFileNames().stream()
+                .map(directory::resolve)
+                .toList();
+    }
+}
@@ -0,0 +1,47 @@
+package org.taranix.cafe.beans.resolvers;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A source of application properties, e.g. the {@code application.yml} of the classpath or the environment.
+ * <p>
+ * {@link CafePropertiesService} reads its sources in order, a source overriding the properties of the sources
+ * before it. {@link #isCacheable() Cacheable} sources are read first and their merged properties may be cached on
+ * disk; the others, e.g. {@link EnvironmentPropertySource}, are applied afterwards on every load.
+ */
+public interface PropertySource {
+
+    /**
+     * Name of the source, shown in logs.
+     */
+    String getName();
+
+    /**
+     * Writes the properties of this source into the target, which holds the properties of the sources before it.
+     */
+    void load(Map<Object, Object> target);
+
+    /**
+     * Whether the properties of this source may be cached while its {@link #getFingerprint() fingerprint} is the
+     * same.
+     */
+    default boolean isCacheable() {
+        return true;
+    }
+
+    /**
+     * Describes the current content of a cacheable source, e.g. a hash of its files, so that cached properties
+     * are used only while no source changed.
+     */
+    String getFingerprint();
+
+    /**
+     * Files the source reads, which are watched when properties reload is enabled.
+     */
+    default Collection<Path> getFiles() {
+        return List.of();
+    }
+}
@@ -0,0 +1,92 @@
+package org.taranix.cafe.beans.resolvers;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import org.taranix.cafe.beans.exceptions.CafePropertiesContextException;
+import org.yaml.snakeyaml.reader.UnicodeReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Reads the {@code .properties}, {@code .yaml} and {@code .yml} files of a base name, e.g. {@code application},
+ * in that order. Missing files are skipped. YAML files are flattened by {@link CafeYamlFlattener}.
+ */
+public abstract class ResourcePropertySource implements PropertySource {
+
+    public static final List<String> EXTENSIONS = List.of(
+            CafePropertiesService.PROPERTIES_EXTENSION,
+            CafePropertiesService.YAML_EXTENSION,
+            CafePropertiesService.YML_EXTENSION);
+
+    private final String baseName;
+
+    private final boolean lazyYamlSections;
+
+    protected ResourcePropertySource(String baseName, boolean lazyYamlSections) {
+        this.baseName = baseName;
+        this.lazyYamlSections = lazyYamlSections;
+    }
+
+    /**
+     * Opens the given file of the source.
+     *
+     * @return the stream, or null when there is no such file
+     */
+    protected abstract InputStream open(String fileName) throws IOException;
+
+    public String getBaseName() {
+        return baseName;
+    }
+
+    public List<String> getFileNames() {
+        return EXTENSIONS.stream()
+                .map(extension -> baseName + extension)
+                .toList();
+    }
+
+    @Override
+    public void load(Map<Object, Object> target) {
+        for (String fileName : getFileNames()) {
+            try (InputStream inputStream = open(fileName)) {
+                if (inputStream == null) {
+                    continue;
+                }
+                if (fileName.endsWith(CafePropertiesService.PROPERTIES_EXTENSION)) {
+                    Properties properties = new Properties();
+                    properties.load(inputStream);
+                    target.putAll(properties);
+                } else {
+                    CafeYamlFlattener.flatten(new UnicodeReader(inputStream), target, lazyYamlSections);
+                }
+            } catch (IOException e) {
+                throw new CafePropertiesContextException("Couldn't read %s of %s: %s"
+                        .formatted(fileName, getName(), e.getMessage()), e);
+            }
+        }
+    }
+
+    /**
+     * Hash of the names and content of the existing files.
+     */
+    @Override
+    public String getFingerprint() {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        for (String fileName : getFileNames()) {
+            try (InputStream inputStream = open(fileName)) {
+                if (inputStream != null) {
+                    hasher.putString(fileName, StandardCharsets.UTF_8);
+                    hasher.putBytes(inputStream.readAllBytes());
+                }
+            } catch (IOException e) {
+                throw new CafePropertiesContextException("Couldn't read %s of %s: %s"
+                        .formatted(fileName, getName(), e.getMessage()), e);
+            }
+        }
+        return hasher.hash().toString();
+    }
+}
@@ -0,0 +1,47 @@
+package org.taranix.cafe.beans.resolvers;
+
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Overrides properties with the system properties of the same name, e.g. {@code -Dserver.port=9090}.
+ * System properties matching no property, such as {@code java.version}, are ignored.
+ */
+public class SystemPropertySource implements PropertySource {
+
+    private final Properties systemProperties;
+
+    public SystemPropertySource() {
+        this(System.getProperties());
+    }
+
+    public SystemPropertySource(Properties systemProperties) {
+        this.systemProperties = systemProperties;
+    }
+
+    @Override
+    public String getName() {
+        return "system properties";
+    }
+
+    @Override
+    public void load(Map<Object, Object> target) {
+        target.replaceAll((key, value) -> {
+            String property = systemProperties.getProperty(key.toString());
+            return property != null ? property : value;
+        });
+    }
+
+    /**
+     * System properties are read on every load.
+     */
+    @Override
+    public boolean isCacheable() {
+        return false;
+    }
+
+    @Override
+    public String getFingerprint() {
+        return null;
+    }
+}
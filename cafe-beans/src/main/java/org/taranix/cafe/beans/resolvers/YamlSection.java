@@ -0,0 +1,12 @@
+package org.taranix.cafe.beans.resolvers;
+
+import java.util.List;
+
+/**
+ * A YAML mapping flattened in lazy mode by {@link CafeYamlFlattener}: its entries are stored as properties of
+ * their own, and {@link CafePropertyStore} builds the map of the section when it is requested.
+ *
+ * @param children keys of the entries of the mapping, in document order
+ */
+public record YamlSection(List<String> children) {
+}
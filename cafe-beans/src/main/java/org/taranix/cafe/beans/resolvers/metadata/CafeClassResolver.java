@@ -12,4 +12,13 @@ public interface CafeClassResolver {
     boolean isApplicable(CafeClass cafeClass);
 
     boolean supports(Class<? extends Annotation> annotation);
+
+    /**
+     * Returns whether classes resolved by this resolver may be instantiated on first use in lazy mode.
+     * Resolvers registering beans that no class member provides must return false: such beans are only
+     * found once the class has been resolved.
+     */
+    default boolean isLazyResolvable() {
+        return true;
+    }
 }
@@ -0,0 +1,156 @@
+package org.taranix.cafe.beans.resolvers.metadata;
+
+import lombok.extern.slf4j.Slf4j;
+import org.taranix.cafe.beans.exceptions.ClassResolverException;
+import org.taranix.cafe.beans.metadata.CafeClass;
+import org.taranix.cafe.beans.metadata.CafeConstructor;
+import org.taranix.cafe.beans.metadata.CafeField;
+import org.taranix.cafe.beans.metadata.CafeMember;
+import org.taranix.cafe.beans.metadata.CafeMethod;
+import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
+import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
+import org.taranix.cafe.beans.resolvers.CafeResolvers;
+import org.taranix.cafe.beans.resolvers.metadata.constructor.CafeConstructorResolver;
+import org.taranix.cafe.beans.resolvers.metadata.constructor.PrototypeConstructorResolver;
+import org.taranix.cafe.beans.resolvers.metadata.field.CafeFieldResolver;
+import org.taranix.cafe.beans.resolvers.metadata.field.WireFieldResolver;
+import org.taranix.cafe.beans.resolvers.metadata.method.CafeMethodResolver;
+import org.taranix.cafe.beans.resolvers.types.CafeBeanTypeResolver;
+import org.taranix.cafe.beans.resolvers.types.ClassBeanTypeResolver;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Injection plan of one class, compiled from its metadata: resolvers of the constructor, fields and methods are
+ * selected and the type keys of their dependencies computed once. Creating a bean then runs the plan:
+ * <ul>
+ * <li>a prototype constructor is called directly, with arguments from pre-bound dependency suppliers,</li>
+ * <li>{@code @CafeInject} fields are set directly from pre-bound dependency suppliers,</li>
+ * <li>other members (singleton constructors, properties, methods) go to their pre-selected resolver.</li>
+ * </ul>
+ * A dependency provided only by the constructor of a prototype class is created by that class' compiled factory,
+ * without going through bean type and provider resolution.
+ */
+@Slf4j
+final class CompiledBeanFactory {
+
+    private final CafeClass cafeClass;
+    private final CafeBeansFactory beansFactory;
+    private final CafeConstructor constructor;
+    private final CafeConstructorResolver constructorResolver;
+    private final List<Supplier<Object>> constructorArguments;
+    private final List<FieldInjection> fieldInjections;
+    private final List<MethodCall> methodCalls;
+
+    private CompiledBeanFactory(CafeClass cafeClass, CafeBeansFactory beansFactory, CompiledClassResolver classResolver) {
+        CafeResolvers resolvers = beansFactory.getResolvers();
+        this.cafeClass = cafeClass;
+        this.beansFactory = beansFactory;
+        this.constructor = cafeClass.getConstructor();
+        this.constructorResolver = resolvers.findConstructorResolver(constructor);
+        this.constructorArguments = constructorResolver.getClass() == PrototypeConstructorResolver.class
+                ? constructor.getRequiredTypeKeys().stream()
+                .map(typeKey -> dependency(typeKey, beansFactory, classResolver))
+                .toList()
+                : null;
+        this.fieldInjections = cafeClass.getFields().stream()
+                .map(field -> {
+                    CafeFieldResolver fieldResolver = resolvers.findFieldResolver(field);
+                    Supplier<Object> value = fieldResolver.getClass() == WireFieldResolver.class
+                            ? dependency(field.getFieldTypeKey(), beansFactory, classResolver)
+                            : null;
+                    return new FieldInjection(field, fieldResolver, value);
+                })
+                .toList();
+        this.methodCalls = cafeClass.getMethods().stream()
+                .map(method -> new MethodCall(method, resolvers.findMethodResolver(method)))
+                .toList();
+    }
+
+    static CompiledBeanFactory compile(CafeClass cafeClass, CafeBeansFactory beansFactory, CompiledClassResolver classResolver) {
+        log.debug("Compiling factory of class :{}", cafeClass.getRootClass());
+        return new CompiledBeanFactory(cafeClass, beansFactory, classResolver);
+    }
+
+    Object create() {
+        Object instance = constructorArguments == null
+                ? constructorResolver.resolve(constructor, beansFactory)
+                : constructor.newInstance(arguments());
+
+        if (Objects.isNull(instance)) {
+            throw new ClassResolverException("Class couldn't be instantiated :" + cafeClass.getRootClass());
+        }
+        for (FieldInjection fieldInjection : fieldInjections) {
+            fieldInjection.inject(instance, beansFactory);
+        }
+        for (MethodCall methodCall : methodCalls) {
+            methodCall.resolver().resolve(instance, methodCall.method(), beansFactory);
+        }
+        return instance;
+    }
+
+    private Object[] arguments() {
+        Object[] arguments = new Object[constructorArguments.size()];
+        for (int i = 0; i < arguments.length; i++) {
+            arguments[i] = constructorArguments.get(i).get();
+        }
+        return arguments;
+    }
+
+    /**
+     * Supplier equivalent to {@link CafeBeansFactory#getBean(BeanTypeKey)} for a fixed type key.
+     */
+    private static Supplier<Object> dependency(BeanTypeKey typeKey, CafeBeansFactory beansFactory,
+                                               CompiledClassResolver classResolver) {
+        CafeBeanTypeResolver typeResolver = beansFactory.getResolvers().findBeanTypekeyResolver(typeKey);
+        CafeClass prototypeProvider = typeResolver.getClass() == ClassBeanTypeResolver.class
+                ? prototypeProvider(typeKey, beansFactory, classResolver)
+                : null;
+        if (prototypeProvider != null) {
+            return () -> beansFactory.isResolved(typeKey)
+                    ? beansFactory.getResolved(typeKey)
+                    : classResolver.factory(prototypeProvider, beansFactory).create();
+        }
+        return () -> {
+            beansFactory.resolveDeferred(typeKey);
+            return beansFactory.isResolved(typeKey)
+                    ? beansFactory.getResolved(typeKey)
+                    : typeResolver.resolve(typeKey, beansFactory);
+        };
+    }
+
+    /**
+     * Returns the prototype class whose constructor is the only provider of the type key, when that class is
+     * resolved by the given class resolver.
+     */
+    private static CafeClass prototypeProvider(BeanTypeKey typeKey, CafeBeansFactory beansFactory,
+                                               CompiledClassResolver classResolver) {
+        Set<CafeMember> providers = beansFactory.getCafeMetadataRegistry().findAnyTypeProviders(typeKey);
+        if (providers.size() != 1) {
+            return null;
+        }
+        CafeMember provider = providers.iterator().next();
+        if (!provider.isConstructor() || !provider.isPrototype()) {
+            return null;
+        }
+        CafeClass providerClass = provider.getParent();
+        return beansFactory.getResolvers().findClassResolver(providerClass) == classResolver ? providerClass : null;
+    }
+
+    private record FieldInjection(CafeField field, CafeFieldResolver resolver, Supplier<Object> value) {
+
+        void inject(Object instance, CafeBeansFactory beansFactory) {
+            if (value == null) {
+                resolver.resolve(instance, field, beansFactory);
+            } else {
+                field.setValue(instance, value.get());
+            }
+        }
+    }
+
+    private record MethodCall(CafeMethod method, CafeMethodResolver resolver) {
+    }
+}
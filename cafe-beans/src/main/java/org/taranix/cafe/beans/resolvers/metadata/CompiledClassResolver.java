@@ -0,0 +1,26 @@
+package org.taranix.cafe.beans.resolvers.metadata;
+
+import org.taranix.cafe.beans.metadata.CafeClass;
+import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Class resolver creating beans through a {@link CompiledBeanFactory} compiled once per class, instead of looking up
+ * resolvers and computing type keys on every resolution. It resolves the same classes as {@link DefaultClassResolver}
+ * and is used in its place when compiled factories are enabled, which mostly pays off for prototype beans.
+ */
+public class CompiledClassResolver extends DefaultClassResolver {
+
+    private final Map<CafeClass, CompiledBeanFactory> factories = new ConcurrentHashMap<>();
+
+    @Override
+    public Object resolve(final CafeClass cafeClass, final CafeBeansFactory beansFactory) {
+        return factory(cafeClass, beansFactory).create();
+    }
+
+    CompiledBeanFactory factory(CafeClass cafeClass, CafeBeansFactory beansFactory) {
+        return factories.computeIfAbsent(cafeClass, key -> CompiledBeanFactory.compile(key, beansFactory, this));
+    }
+}
@@ -2,7 +2,6 @@ package org.taranix.cafe.beans.resolvers.metadata.constructor;
 
 import lombok.extern.slf4j.Slf4j;
 import org.taranix.cafe.beans.metadata.CafeConstructor;
-import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
 
 import java.lang.reflect.Constructor;
@@ -17,6 +16,6 @@ public abstract class AbstractConstructorResolver implements CafeConstructorReso
                 .map(cafeBeansFactory::getBean)
                 .toArray();
         log.debug("Resolving constructor: {} with {} argument(s)", classConstructor, arguments.length);
-        return CafeReflectionUtils.instantiate(classConstructor, arguments);
+        return constructorDescriptor.newInstance(arguments);
     }
 }
@@ -11,8 +11,18 @@ import java.lang.annotation.Annotation;
 @Slf4j
 public class SingletonConstructorResolver extends AbstractConstructorResolver {
 
+    /**
+     * Resolution is synchronized on the constructor metadata, so concurrently resolving threads
+     * create a single instance of the class.
+     */
     @Override
     public Object resolve(CafeConstructor constructorDescriptor, CafeBeansFactory cafeBeansFactory) {
+        synchronized (constructorDescriptor) {
+            return resolveOnce(constructorDescriptor, cafeBeansFactory);
+        }
+    }
+
+    private Object resolveOnce(CafeConstructor constructorDescriptor, CafeBeansFactory cafeBeansFactory) {
         BeanTypeKey typeKey = constructorDescriptor.getParentTypeKey();
         Class<?> declaringClass = constructorDescriptor.getConstructor().getDeclaringClass();
         if (cafeBeansFactory.isResolved(typeKey)) {
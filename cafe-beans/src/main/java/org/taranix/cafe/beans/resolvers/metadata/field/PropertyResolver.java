@@ -7,7 +7,6 @@ import org.taranix.cafe.beans.annotations.fields.CafeProperty;
 import org.taranix.cafe.beans.converters.CafeConverter;
 import org.taranix.cafe.beans.metadata.CafeField;
 import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
-import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
 
@@ -21,10 +20,10 @@ public class PropertyResolver implements CafeFieldResolver {
         CafeProperty cafePropertyAnnotation = cafeField.getAnnotation(CafeProperty.class);
         String propertyName = cafePropertyAnnotation.name();
         Type targetType = cafeField.getFieldTypeKey().getType();
-        Object rawPropertyValue = cafeBeansFactory.getProperty(propertyName);
-        Object propertyValue = convert(targetType, rawPropertyValue, cafeBeansFactory);
+        Object propertyValue = cafeBeansFactory.getPropertyStore()
+                .get(propertyName, targetType, rawPropertyValue -> convert(targetType, rawPropertyValue, cafeBeansFactory));
         log.debug("Setting property {} '{}' = {}", cafeField.getField(), propertyName, propertyValue);
-        CafeReflectionUtils.setFieldValue(cafeField.getField(), instance, propertyValue);
+        cafeField.setValue(instance, propertyValue);
     }
 
     @Override
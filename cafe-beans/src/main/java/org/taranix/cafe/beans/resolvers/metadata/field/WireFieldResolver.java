@@ -5,7 +5,6 @@ import org.taranix.cafe.beans.annotations.base.CafeWiringType;
 import org.taranix.cafe.beans.annotations.fields.CafeProperty;
 import org.taranix.cafe.beans.metadata.CafeField;
 import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
-import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
 
@@ -20,7 +19,7 @@ public class WireFieldResolver implements CafeFieldResolver {
         Object value = cafeBeansFactory.getBean(fieldTypeKey);
 
         log.debug("Resolved fields's value = {} ", value);
-        CafeReflectionUtils.setFieldValue(cafeField.getField(), instance, value);
+        cafeField.setValue(instance, value);
     }
 
     @Override
@@ -4,7 +4,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.taranix.cafe.beans.annotations.base.CafeWiringType;
 import org.taranix.cafe.beans.metadata.CafeMethod;
 import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
-import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
 
 import java.lang.annotation.Annotation;
@@ -33,7 +32,7 @@ public class PrototypeWireMethodResolver implements CafeMethodResolver {
         if (arguments.length > 0) {
             log.debug("Resolved method's arguments = {}", arguments);
         }
-        return CafeReflectionUtils.getMethodValue(methodInfo.getMethod(), instance, arguments);
+        return methodInfo.invoke(instance, arguments);
     }
 
     private Object[] getArguments(CafeMethod methodMetadata, CafeBeansFactory cafeBeansFactory) {
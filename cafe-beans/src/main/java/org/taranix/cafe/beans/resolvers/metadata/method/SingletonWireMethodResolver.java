@@ -4,7 +4,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.taranix.cafe.beans.annotations.base.CafeWiringType;
 import org.taranix.cafe.beans.metadata.CafeMethod;
 import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
-import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
 
 import java.lang.annotation.Annotation;
@@ -13,13 +12,15 @@ import java.lang.annotation.Annotation;
 public class SingletonWireMethodResolver implements CafeMethodResolver {
     @Override
     public Object resolve(Object instance, CafeMethod methodInfo, CafeBeansFactory cafeBeansFactory) {
-        // Preventing invoke same method twice. First run should save result in Repository
-        if (cafeBeansFactory.hasBeenExecuted(methodInfo.getMethod())) {
-            return cafeBeansFactory.getBean(methodInfo.getMethodReturnTypeKey());
+        // Preventing invoke same method twice (also from concurrent threads). First run should save result in Repository
+        synchronized (methodInfo) {
+            if (cafeBeansFactory.hasBeenExecuted(methodInfo.getMethod())) {
+                return cafeBeansFactory.getBean(methodInfo.getMethodReturnTypeKey());
+            }
+            Object result = executeMethod(instance, methodInfo, cafeBeansFactory);
+            cafeBeansFactory.persist(methodInfo, result);
+            return result;
         }
-        Object result = executeMethod(instance, methodInfo, cafeBeansFactory);
-        cafeBeansFactory.persist(methodInfo, result);
-        return result;
     }
 
     @Override
@@ -39,7 +40,7 @@ public class SingletonWireMethodResolver implements CafeMethodResolver {
         if (arguments.length > 0) {
             log.debug("Resolved method's arguments = {}", arguments);
         }
-        return CafeReflectionUtils.getMethodValue(methodInfo.getMethod(), instance, arguments);
+        return methodInfo.invoke(instance, arguments);
     }
 
     private Object[] getArguments(CafeMethod methodMetadata, CafeBeansFactory cafeBeansFactory) {
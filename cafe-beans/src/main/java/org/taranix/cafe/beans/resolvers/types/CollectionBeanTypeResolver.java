@@ -59,6 +59,8 @@ public class CollectionBeanTypeResolver implements CafeBeanTypeResolver {
     }
 
     public Collection<Object> resolveBeansByProvider(CafeBeansFactory beansFactory, BeanTypeKey typeKey) {
+        //Resolve deferred singletons like any lookup, waiting for those resolved by another thread
+        beansFactory.resolveDeferred(typeKey);
         //Resolve Singletons not yet resolved
         beansFactory.getCafeMetadataRegistry().findSingletonProviders(typeKey)
                 .forEach(memberInfo -> resolveProvider(beansFactory, memberInfo));
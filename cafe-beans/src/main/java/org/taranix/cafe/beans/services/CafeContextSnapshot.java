@@ -0,0 +1,345 @@
+package org.taranix.cafe.beans.services;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.taranix.cafe.beans.repositories.Repository;
+import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
+import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.stream.Stream;
+
+/**
+ * Artifacts computed while starting a context, saved so that the next identical startup can skip them:
+ * the scanned class names, the classes grouped by dependency layer (the resolution order) and the resolver
+ * chosen for every class and member. A snapshot is only written once validation and resolution succeeded,
+ * so a restored snapshot also stands for a validated context.
+ * <p>
+ * A snapshot is keyed by a fingerprint of the classpath (path, size and modification time of every jar, of every
+ * file of class directories, and of the entries referenced by the manifest of a single launcher jar) and of the builder inputs, so it is
+ * ignored as soon as a class or jar changes. Validation is only skipped while the repository holds the same keys
+ * (e.g. properties) as when the snapshot was taken.
+ * <p>
+ * The file is read at once into a heap buffer, with no mapping left open that would keep it from being replaced
+ * on Windows, and replaced atomically when written; a failed write leaves no temporary file behind. A missing, stale or
+ * unreadable snapshot is never an error: the context is then started from scratch and the snapshot rewritten.
+ */
+@Slf4j
+@Getter
+@Builder
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CafeContextSnapshot {
+
+    private static final int MAGIC = 0xCAFE5AFE;
+
+    private static final int VERSION = 1;
+
+    private final String fingerprint;
+
+    /**
+     * Fingerprint of the repository keys validation ran against.
+     */
+    private final String repositoryFingerprint;
+
+    /**
+     * Binary names of the classes found by package scanning, sorted.
+     */
+    private final List<String> scannedClassNames;
+
+    /**
+     * Binary names of all classes of the context, grouped by dependency layer.
+     */
+    private final List<List<String>> classLayers;
+
+    /**
+     * Resolver class name per class or member, as returned by
+     * {@link org.taranix.cafe.beans.resolvers.CafeResolvers#getAssignments()}.
+     */
+    private final Map<String, String> resolverAssignments;
+
+    /**
+     * Reads the snapshot stored in the given file.
+     *
+     * @param file        snapshot file
+     * @param fingerprint fingerprint of the current classpath and builder inputs
+     * @return the snapshot, or null when the file is missing, unreadable or was taken with another fingerprint
+     */
+    public static CafeContextSnapshot load(Path file, String fingerprint) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = read(channel);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                log.warn("Ignoring context snapshot {}: unknown format", file);
+                return null;
+            }
+            String storedFingerprint = readString(buffer);
+            if (!storedFingerprint.equals(fingerprint)) {
+                log.debug("Ignoring context snapshot {}: classpath changed", file);
+                return null;
+            }
+            String repositoryFingerprint = readString(buffer);
+            List<String> scannedClassNames = readStrings(buffer);
+            int layerCount = buffer.getInt();
+            List<List<String>> classLayers = new ArrayList<>(layerCount);
+            for (int i = 0; i < layerCount; i++) {
+                classLayers.add(readStrings(buffer));
+            }
+            int assignmentCount = buffer.getInt();
+            Map<String, String> resolverAssignments = new LinkedHashMap<>();
+            for (int i = 0; i < assignmentCount; i++) {
+                resolverAssignments.put(readString(buffer), readString(buffer));
+            }
+            log.debug("Context snapshot {} restored: {} classes, {} resolver assignments", file,
+                    scannedClassNames.size(), resolverAssignments.size());
+            return new CafeContextSnapshot(storedFingerprint, repositoryFingerprint, List.copyOf(scannedClassNames),
+                    List.copyOf(classLayers), Map.copyOf(resolverAssignments));
+        } catch (NoSuchFileException e) {
+            log.debug("No context snapshot {}", file);
+            return null;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | ArithmeticException e) {
+            log.warn("Ignoring unreadable context snapshot {}: {}", file, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Writes the snapshot to the given file, replacing it atomically where the file system allows it.
+     * Failures are logged, a context does not need its snapshot to start.
+     */
+    public void write(Path file) {
+        try {
+            Path directory = file.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                    out.writeInt(MAGIC);
+                    out.writeInt(VERSION);
+                    writeString(out, fingerprint);
+                    writeString(out, repositoryFingerprint);
+                    writeStrings(out, scannedClassNames);
+                    out.writeInt(classLayers.size());
+                    for (List<String> layer : classLayers) {
+                        writeStrings(out, layer);
+                    }
+                    out.writeInt(resolverAssignments.size());
+                    for (Map.Entry<String, String> assignment : resolverAssignments.entrySet()) {
+                        writeString(out, assignment.getKey());
+                        writeString(out, assignment.getValue());
+                    }
+                }
+                try {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+            log.debug("Context snapshot written to {}", file);
+        } catch (IOException e) {
+            log.warn("Couldn't write context snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Computes the fingerprint of the classpath visible to the class loader and of the given builder inputs
+     * (packages, scan mode...). Class directories are walked, but no class is read or loaded.
+     */
+    public static String fingerprint(ClassLoader classLoader, Collection<String> inputs) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        update(hasher, "version:" + VERSION);
+        update(hasher, "java:" + Runtime.version());
+        inputs.forEach(input -> update(hasher, "input:" + input));
+
+        for (Path entry : classpathEntries(classLoader)) {
+            fingerprintEntry(hasher, entry);
+        }
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Computes the fingerprint of the keys held by the repository, which decide the outcome of validation.
+     */
+    public static String repositoryFingerprint(Repository<TypeKey, BeanRepositoryEntry> repository) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        repository.getKeys().stream()
+                .map(typeKey -> typeKey.getClass().getSimpleName() + ":" + typeKey)
+                .sorted()
+                .forEach(key -> update(hasher, key));
+        return hasher.hash().toString();
+    }
+
+    private static List<Path> classpathEntries(ClassLoader classLoader) {
+        Set<Path> entries = new LinkedHashSet<>();
+        for (ClassLoader loader = classLoader; loader != null; loader = loader.getParent()) {
+            if (loader instanceof URLClassLoader urlClassLoader) {
+                for (URL url : urlClassLoader.getURLs()) {
+                    toPath(url).ifPresent(entries::add);
+                }
+            }
+        }
+        List<Path> classPath = new ArrayList<>();
+        for (String entry : System.getProperty("java.class.path", "").split(File.pathSeparator)) {
+            if (!entry.isBlank()) {
+                classPath.add(Path.of(entry).toAbsolutePath().normalize());
+            }
+        }
+        entries.addAll(classPath);
+        // java -jar and test runners put a single jar on the class path, referencing the others in its manifest
+        if (classPath.size() == 1 && classPath.get(0).getFileName().toString().endsWith(".jar")) {
+            entries.addAll(manifestClassPath(classPath.get(0)));
+        }
+        return new ArrayList<>(entries);
+    }
+
+    private static void fingerprintEntry(Hasher hasher, Path entry) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+            if (attributes.isDirectory()) {
+                update(hasher, "directory:" + entry);
+                for (Map.Entry<String, String> file : directoryFiles(entry).entrySet()) {
+                    update(hasher, file.getKey() + ":" + file.getValue());
+                }
+                return;
+            }
+            update(hasher, "file:%s:%d:%d".formatted(entry, attributes.size(), attributes.lastModifiedTime().toMillis()));
+        } catch (IOException e) {
+            update(hasher, "missing:" + entry);
+        }
+    }
+
+    private static Map<String, String> directoryFiles(Path directory) throws IOException {
+        Map<String, String> files = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    files.put(directory.relativize(path).toString(),
+                            attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+                }
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Entries referenced by the {@code Class-Path} manifest attribute of the given jar.
+     */
+    private static List<Path> manifestClassPath(Path jar) {
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Manifest manifest = jarFile.getManifest();
+            String classPath = manifest == null ? null : manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+            if (classPath == null || classPath.isBlank()) {
+                return List.of();
+            }
+            List<Path> referenced = new ArrayList<>();
+            for (String entry : classPath.trim().split("\\s+")) {
+                try {
+                    toPath(jar.toUri().resolve(entry).toURL()).ifPresent(referenced::add);
+                } catch (IOException | IllegalArgumentException e) {
+                    log.trace("Skipping manifest class path entry {} of {}: {}", entry, jar, e.getMessage());
+                }
+            }
+            return referenced;
+        } catch (IOException e) {
+            log.trace("Couldn't read manifest of {}: {}", jar, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static Optional<Path> toPath(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Path.of(url.toURI()).toAbsolutePath().normalize());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void update(Hasher hasher, String value) {
+        hasher.putString(value, StandardCharsets.UTF_8);
+        hasher.putByte((byte) '\n');
+    }
+
+    /**
+     * Reads the whole file into a heap buffer.
+     */
+    private static ByteBuffer read(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // until the end of the file
+        }
+        return buffer.flip();
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("corrupted string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> readStrings(ByteBuffer buffer) {
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining()) {
+            throw new IllegalArgumentException("corrupted list size " + count);
+        }
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(readString(buffer));
+        }
+        return strings;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+}
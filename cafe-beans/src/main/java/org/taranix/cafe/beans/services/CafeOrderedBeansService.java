@@ -9,15 +9,38 @@ import org.taranix.cafe.beans.metadata.CafeMember;
 import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
 import org.taranix.cafe.beans.resolvers.metadata.CafeClassResolver;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-
+import java.util.function.Function;
+
+/**
+ * Orders classes and members so that every provider comes before its dependants.
+ * <p>
+ * The order is a topological sort (Kahn's algorithm) of the dependency registries, computed once in O(V+E).
+ * Each element gets a depth: 0 without providers, otherwise one more than its deepest provider.
+ * Elements are sorted by depth and then by name, so the order is deterministic.
+ * Elements in or depending on a dependency cycle (rejected by validation) are placed last.
+ * <p>
+ * Elements of the same depth form a layer; they do not depend on each other and may be resolved concurrently.
+ */
 @Slf4j
 public class CafeOrderedBeansService {
 
     private final CafeMetadataRegistry cafeMetadataRegistry;
 
+    private List<List<CafeClass>> classLayers;
+
+    private List<CafeClass> orderedClasses;
+
+    private List<CafeMember> orderedMembers;
+
     private CafeOrderedBeansService(CafeMetadataRegistry cafeMetadataRegistry) {
         this.cafeMetadataRegistry = cafeMetadataRegistry;
 
@@ -28,95 +51,153 @@ public class CafeOrderedBeansService {
     }
 
     public List<CafeClass> orderedClasses() {
-        return cafeMetadataRegistry.getCafeClassMetadata().stream()
-                .map(this::calculateClassIndex)
-                .sorted(Comparator.comparing(IndexedClass::dependencyDepth))
-                .map(IndexedClass::classDescriptor)
-                .toList();
+        if (orderedClasses == null) {
+            orderedClasses = classLayers().stream()
+                    .flatMap(List::stream)
+                    .toList();
+        }
+        return orderedClasses;
     }
 
-    public List<CafeMember> orderedMembers() {
-        return allMembers().stream()
-                .map(this::calculateIndex)
-                .sorted(Comparator.comparing(IndexedMember::dependencyDepth))
-                .map(IndexedMember::memberDescriptor)
-                .toList();
-
+    /**
+     * Returns the classes grouped by dependency depth. Every class comes after the layers of all its providers.
+     */
+    public List<List<CafeClass>> classLayers() {
+        if (classLayers == null) {
+            List<CafeClass> resolverClasses = cafeMetadataRegistry.getCafeClassMetadata().stream()
+                    .filter(cafeClass -> cafeClass.isImplementing(CafeClassResolver.class))
+                    .toList();
+            classLayers = layers(cafeMetadataRegistry.getCafeClassMetadata(),
+                    cafeClass -> classProviders(cafeClass, resolverClasses),
+                    Comparator.comparing(cafeClass -> cafeClass.getRootClass().getName()));
+        }
+        return classLayers;
     }
 
-    private IndexedMember calculateIndex(final CafeMember cafeMember) {
-        return new IndexedMember(cafeMember, calculateDepth(cafeMember));
+    /**
+     * Uses class layers computed by an earlier startup (e.g. restored from a {@link CafeContextSnapshot}) instead of
+     * sorting the registry. The layers are ignored unless they hold exactly the classes of the registry.
+     *
+     * @param layerClassNames binary class names grouped by dependency layer
+     * @return true if the layers were taken
+     */
+    public boolean restoreClassLayers(List<List<String>> layerClassNames) {
+        Map<String, CafeClass> byName = new HashMap<>();
+        cafeMetadataRegistry.getCafeClassMetadata()
+                .forEach(cafeClass -> byName.put(cafeClass.getRootClass().getName(), cafeClass));
+        List<List<CafeClass>> restored = new ArrayList<>(layerClassNames.size());
+        int restoredClasses = 0;
+        for (List<String> layer : layerClassNames) {
+            List<CafeClass> classes = new ArrayList<>(layer.size());
+            for (String className : layer) {
+                CafeClass cafeClass = byName.get(className);
+                if (cafeClass == null) {
+                    log.debug("Class {} of restored layers is not registered, sorting classes", className);
+                    return false;
+                }
+                classes.add(cafeClass);
+            }
+            restoredClasses += classes.size();
+            restored.add(List.copyOf(classes));
+        }
+        if (restoredClasses != byName.size()) {
+            log.debug("Restored layers hold {} of {} classes, sorting classes", restoredClasses, byName.size());
+            return false;
+        }
+        classLayers = List.copyOf(restored);
+        orderedClasses = null;
+        return true;
     }
 
-    private IndexedClass calculateClassIndex(final CafeClass cafeClass) {
-        return new IndexedClass(cafeClass, calculateDepth(cafeClass));
+    public List<CafeMember> orderedMembers() {
+        if (orderedMembers == null) {
+            orderedMembers = layers(allMembers(),
+                    cafeMetadataRegistry.getMemberDependencyRegistry()::providers,
+                    Comparator.comparing(cafeMember -> cafeMember.getMember().toString()))
+                    .stream()
+                    .flatMap(List::stream)
+                    .toList();
+        }
+        return orderedMembers;
     }
 
-    private int calculateDepth(final CafeClass cafeClass) {
-        if (cafeClass.hasDependencies()) {
-            int dependenciesAmount = cafeClass.getRequiredTypes().size();
-            int dependenciesDepth = getDependenciesDepth(cafeClass);
-            int offsetDepth = offsetDepth(cafeClass);
-            log.trace("Depth for {} = {}", cafeClass, dependenciesAmount + offsetDepth + dependenciesDepth);
-            return dependenciesAmount + offsetDepth + dependenciesDepth;
-        } else {
-            return offsetDepth(cafeClass);
+    private Collection<CafeClass> classProviders(CafeClass cafeClass, List<CafeClass> resolverClasses) {
+        Set<CafeClass> providers = cafeMetadataRegistry.getClassDependencyRegistry().providers(cafeClass);
+        if (isCustomComponent(cafeClass)) {
+            //custom component resolved after custom resolvers
+            providers.addAll(resolverClasses);
         }
+        return providers;
     }
 
-    private Integer getDependenciesDepth(CafeClass cafeClass) {
-        return cafeMetadataRegistry.getClassDependencyRegistry().providers(cafeClass)
-                .stream()
-                .map(this::calculateDepth)
-                .reduce(0, Integer::sum);
+    private boolean isCustomComponent(CafeClass cafeClass) {
+        //Standard components, custom and standard converters and custom resolvers are not custom components
+        return !CafeAnnotationUtils.hasAnnotationMarker(cafeClass.getRootClass(), CafeService.class)
+                && !cafeClass.isImplementing(CafeConverter.class)
+                && !cafeClass.isImplementing(CafeClassResolver.class);
     }
 
-    private int calculateDepth(final CafeMember cafeMember) {
-        if (cafeMember.hasDependencies()) {
-            return cafeMember.getRequiredTypeKeys().size() +
-                    cafeMetadataRegistry.getMemberDependencyRegistry().providers(cafeMember)
-                            .stream()
-                            .map(this::calculateDepth)
-                            .reduce(0, Integer::sum);
-        } else {
-            return 0;
+    private static <T> List<List<T>> layers(Collection<T> elements, Function<T, Collection<T>> providers, Comparator<T> byName) {
+        Map<T, Integer> pendingProviders = new HashMap<>();
+        Map<T, List<T>> dependants = new HashMap<>();
+        for (T element : elements) {
+            int count = 0;
+            for (T provider : providers.apply(element)) {
+                if (!provider.equals(element)) {
+                    dependants.computeIfAbsent(provider, key -> new ArrayList<>()).add(element);
+                    count++;
+                }
+            }
+            pendingProviders.put(element, count);
         }
-    }
 
-    private int offsetDepth(CafeClass cafeClass) {
-        //Standard components without offset
-        if (CafeAnnotationUtils.hasAnnotationMarker(cafeClass.getRootClass(), CafeService.class)) {
-            return 0;
+        Map<T, Integer> depths = new HashMap<>();
+        Deque<T> ready = new ArrayDeque<>();
+        for (T element : elements) {
+            if (pendingProviders.get(element) == 0) {
+                depths.put(element, 0);
+                ready.add(element);
+            }
         }
 
-        //Custom and standard converters without offset
-        if (cafeClass.isImplementing(CafeConverter.class)) {
-            return 0;
+        while (!ready.isEmpty()) {
+            T provider = ready.poll();
+            int dependantDepth = depths.get(provider) + 1;
+            for (T dependant : dependants.getOrDefault(provider, List.of())) {
+                depths.merge(dependant, dependantDepth, Math::max);
+                if (pendingProviders.merge(dependant, -1, Integer::sum) == 0) {
+                    ready.add(dependant);
+                }
+            }
         }
 
-        //Custom resolvers without offset
-        if (cafeClass.isImplementing(CafeClassResolver.class)) {
-            return 0;
+        List<T> cyclic = new ArrayList<>();
+        for (T element : elements) {
+            if (pendingProviders.get(element) > 0) {
+                log.trace("{} is part of a dependency cycle", element);
+                cyclic.add(element);
+            }
         }
-
-        //custom component with offset of custom resolvers
-        return cafeMetadataRegistry.getCafeClassMetadata().stream()
-                .filter(ccd -> ccd.isImplementing(CafeClassResolver.class))
-                .map(this::calculateDepth)
-                .reduce(0, Integer::sum);
+        cyclic.forEach(depths::remove);
+
+        List<List<T>> result = new ArrayList<>();
+        depths.forEach((element, depth) -> {
+            while (result.size() <= depth) {
+                result.add(new ArrayList<>());
+            }
+            result.get(depth).add(element);
+        });
+        result.forEach(layer -> layer.sort(byName));
+        // Elements of a cycle can't be ordered, they are resolved one by one
+        cyclic.sort(byName);
+        cyclic.forEach(element -> result.add(List.of(element)));
+        return result.stream()
+                .map(List::copyOf)
+                .toList();
     }
 
     private Set<CafeMember> allMembers() {
         return cafeMetadataRegistry.allMembers();
     }
 
-
-    private record IndexedMember(CafeMember memberDescriptor, int dependencyDepth) {
-
-    }
-
-    private record IndexedClass(CafeClass classDescriptor, int dependencyDepth) {
-
-    }
-
 }
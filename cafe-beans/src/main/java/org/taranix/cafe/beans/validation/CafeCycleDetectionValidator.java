@@ -8,6 +8,7 @@ import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
 import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -27,8 +28,6 @@ public class CafeCycleDetectionValidator implements CafeValidator {
 
         // Check if any cycles were detected
         if (!memberCycles.isEmpty() || !classCycles.isEmpty()) {
-            // Logic for formatting and gathering cycle details
-
             // Collecting all member/component info related to the cycle,
             // even if the cycle was originally detected at the class level
 
@@ -37,9 +36,14 @@ public class CafeCycleDetectionValidator implements CafeValidator {
                     classCycles.stream()
             ).collect(Collectors.toSet());
 
+            // Every cycle is reported with its path, e.g. A -> B -> A
+            String cyclePaths = Stream.concat(
+                    registry.getMemberDependencyRegistry().cycles().stream(),
+                    registry.getClassDependencyRegistry().cycles().stream()
+            ).map(this::formatPath).collect(Collectors.joining("\n"));
 
             return Optional.of(ValidationResult.builder()
-                    .message(CYCLE_ERROR_MESSAGE)
+                    .message(CYCLE_ERROR_MESSAGE + "\n" + cyclePaths)
                     .objects(allInvolvedObjects)
                     .build());
         }
@@ -48,6 +52,12 @@ public class CafeCycleDetectionValidator implements CafeValidator {
     }
 
     // --- Helper methods ---
+    private String formatPath(List<?> path) {
+        return path.stream()
+                .map(Object::toString)
+                .collect(Collectors.joining(" -> "));
+    }
+
     private Collection<CafeMember> getMemberCycleSet(CafeMetadataRegistry registry) {
         return registry.getMemberDependencyRegistry().cycleSet();
     }
@@ -0,0 +1,49 @@
+package org.taranix.cafe.beans.validation;
+
+import lombok.Getter;
+import org.taranix.cafe.beans.annotations.base.CafeHandlerType;
+import org.taranix.cafe.beans.metadata.CafeMember;
+import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
+import org.taranix.cafe.beans.metadata.CafeMethod;
+import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
+import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Facts about the registry needed by the validators, computed once per validation run and shared by the
+ * validators running concurrently. Dependencies without a provider come from the member dependency registry,
+ * which records them while it is built, so no validator walks the dependency graph again.
+ */
+@Getter
+public class CafeDependencyIndex {
+
+    private final CafeMetadataRegistry registry;
+
+    /**
+     * Methods marked with a {@link CafeHandlerType} annotation, e.g. event handlers.
+     */
+    private final Set<CafeMethod> handlerMethods;
+
+    /**
+     * Required type keys no member provides, per requiring member.
+     */
+    private final Map<CafeMember, List<BeanTypeKey>> unprovidedTypeKeys;
+
+    private CafeDependencyIndex(CafeMetadataRegistry registry) {
+        this.registry = registry;
+        this.handlerMethods = registry.allMembers().stream()
+                .filter(CafeMember::isMethod)
+                .map(CafeMethod.class::cast)
+                .filter(cafeMethod -> CafeAnnotationUtils.hasAnnotationMarker(cafeMethod.getMethod(), CafeHandlerType.class))
+                .collect(Collectors.toUnmodifiableSet());
+        this.unprovidedTypeKeys = registry.getMemberDependencyRegistry().unprovidedTypeKeys();
+    }
+
+    public static CafeDependencyIndex of(CafeMetadataRegistry registry) {
+        return new CafeDependencyIndex(registry);
+    }
+}
@@ -1,16 +1,12 @@
 package org.taranix.cafe.beans.validation;
 
-import org.taranix.cafe.beans.annotations.base.CafeHandlerType;
-import org.taranix.cafe.beans.metadata.CafeMember;
 import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
 import org.taranix.cafe.beans.metadata.CafeMethod;
-import org.taranix.cafe.beans.reflection.CafeAnnotationUtils;
 import org.taranix.cafe.beans.repositories.Repository;
 import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
 
-import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -19,16 +15,17 @@ import java.util.stream.Collectors;
 public class CafeHandlerMethodsParameterValidator implements CafeValidator {
     @Override
     public Optional<ValidationResult> validate(CafeMetadataRegistry registry, Repository<TypeKey, BeanRepositoryEntry> repository) {
+        return validate(CafeDependencyIndex.of(registry), repository);
+    }
+
+    @Override
+    public Optional<ValidationResult> validate(CafeDependencyIndex index, Repository<TypeKey, BeanRepositoryEntry> repository) {
         Set<Object> allInvolvedObjects = new HashSet<>();
 
-        Set<CafeMethod> handlers = registry.allMembers().stream()
-                .filter(CafeMember::isMethod)
-                .map(CafeMethod.class::cast)
-                .filter(cafeMethod -> CafeAnnotationUtils.hasAnnotationMarker(cafeMethod.getMethod(), CafeHandlerType.class))
-                .collect(Collectors.toSet());
+        Set<CafeMethod> handlers = index.getHandlerMethods();
 
         for (CafeMethod handler : handlers) {
-            Set<BeanTypeKey> notAllowMethodParameters = (Arrays.stream(handler.getMethodParameterTypeKeys())
+            Set<BeanTypeKey> notAllowMethodParameters = (handler.getParameterTypeKeys().stream()
                     .filter(beanTypeKey -> beanTypeKey.getRawType().equals(Object.class))
                     .collect(Collectors.toSet()));
             if (!notAllowMethodParameters.isEmpty()) {
@@ -27,7 +27,12 @@ public class CafeResolvableBeansValidator implements CafeValidator {
      */
     @Override
     public Optional<ValidationResult> validate(CafeMetadataRegistry registry, Repository<TypeKey, BeanRepositoryEntry> repository) {
-        Map<CafeMember, BeanTypeKey> unresolvableMembers = findNonResolvableMembers(registry, repository);
+        return validate(CafeDependencyIndex.of(registry), repository);
+    }
+
+    @Override
+    public Optional<ValidationResult> validate(CafeDependencyIndex index, Repository<TypeKey, BeanRepositoryEntry> repository) {
+        Map<CafeMember, BeanTypeKey> unresolvableMembers = findNonResolvableMembers(index, repository);
         if (unresolvableMembers.isEmpty()) {
             // Validation successful – no unresolvable members
             return Optional.empty();
@@ -49,19 +54,19 @@ public class CafeResolvableBeansValidator implements CafeValidator {
 
 
     /**
-     * Returns a set of CafeMemberInfo that have unresolvable dependencies.
-     * It iterates through all registered members and checks for unresolvable types.
-     * * @param registry The registry containing all bean definitions.
+     * Returns the members with unresolvable dependencies. Only the dependencies no member provides are checked
+     * (against the repository), as recorded in the index.
      *
-     * @return A Set of members with unresolvable dependencies.
+     * @param index The index of the registry containing all bean definitions.
+     * @return The members with unresolvable dependencies, with their first unresolvable dependency.
      */
-    private Map<CafeMember, BeanTypeKey> findNonResolvableMembers(CafeMetadataRegistry registry, Repository<TypeKey, BeanRepositoryEntry> repository) {
+    private Map<CafeMember, BeanTypeKey> findNonResolvableMembers(CafeDependencyIndex index, Repository<TypeKey, BeanRepositoryEntry> repository) {
         Map<CafeMember, BeanTypeKey> result = new HashMap<>();
 
-        for (CafeMember member : registry.allMembers()) {
-            BeanTypeKey nonResolvableDependencyType = findNonResolvableTypeForMember(registry, repository, member);
+        for (Map.Entry<CafeMember, List<BeanTypeKey>> unprovided : index.getUnprovidedTypeKeys().entrySet()) {
+            BeanTypeKey nonResolvableDependencyType = findNonResolvableTypeForMember(repository, unprovided.getKey(), unprovided.getValue());
             if (nonResolvableDependencyType != null) {
-                result.put(member, nonResolvableDependencyType);
+                result.put(unprovided.getKey(), nonResolvableDependencyType);
             }
         }
         return result;
@@ -69,29 +74,26 @@ public class CafeResolvableBeansValidator implements CafeValidator {
 
 
     /**
-     * Checks if a CafeMemberInfo has any unresolvable dependency.
-     * Returns the BeanTypeKey of the first unresolvable dependency, or null if all are resolvable.
-     * * @param registry The registry used to check for providers.
+     * Returns the BeanTypeKey of the first unprovided dependency of the member missing in the repository,
+     * or null if all are resolvable.
      *
-     * @param cafeMember The member (field/constructor parameter) to check.
+     * @param cafeMember         The member (field/constructor parameter) to check.
+     * @param unprovidedTypeKeys The dependencies of the member no member provides.
      * @return The BeanTypeKey of the unresolvable dependency, or null if resolvable.
      */
-    private BeanTypeKey findNonResolvableTypeForMember(CafeMetadataRegistry registry, Repository<TypeKey, BeanRepositoryEntry> repository, CafeMember cafeMember) {
+    private BeanTypeKey findNonResolvableTypeForMember(Repository<TypeKey, BeanRepositoryEntry> repository, CafeMember cafeMember,
+                                                       List<BeanTypeKey> unprovidedTypeKeys) {
         if (cafeMember.getAnnotationLifecycleMarkers().contains(CafeHandlerType.class)) {
             return null;
         }
 
-        if (cafeMember.hasDependencies()) {
-            Set<BeanTypeKey> providedTypeKeys = registry.getMemberDependencyRegistry().providersTypeKeys(cafeMember);
-
-            for (BeanTypeKey dependency : cafeMember.getRequiredTypeKeys()) {
-                if (dependency.isOptional()) continue;
-                if (!BeanTypeKey.isMatchByTypeOrGenericType(dependency, providedTypeKeys) && !repository.contains(dependency)) {
-                    log.debug("Not resolvable : {}.{} (dependency={})", cafeMember.getMemberDeclaringClass().getSimpleName(), cafeMember.getMember().getName(), dependency);
-                    return dependency;
-                }
+        for (BeanTypeKey dependency : unprovidedTypeKeys) {
+            if (dependency.isOptional()) continue;
+            if (!repository.contains(dependency)) {
+                log.debug("Not resolvable : {}.{} (dependency={})", cafeMember.getMemberDeclaringClass().getSimpleName(), cafeMember.getMember().getName(), dependency);
+                return dependency;
             }
         }
         return null;
     }
-}
\ No newline at end of file
+}
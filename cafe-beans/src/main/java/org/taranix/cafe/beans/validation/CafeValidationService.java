@@ -1,30 +1,106 @@
 package org.taranix.cafe.beans.validation;
 
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+import org.taranix.cafe.beans.metadata.CafeClass;
 import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
 import org.taranix.cafe.beans.repositories.Repository;
 import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
 import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
+/**
+ * Runs the validators concurrently over a {@link CafeDependencyIndex} built once per run.
+ * <p>
+ * A successful validation is remembered by a fingerprint of the validated classes and repository keys, so
+ * validating the same classes again (e.g. another context built by the same application) is skipped. Classes are
+ * identified by their {@link Class} object, not their name, so classes reloaded by another class loader are
+ * validated again. Use {@link #getDefault()} to share the remembered validations between contexts.
+ */
+@Slf4j
 public class CafeValidationService {
 
+    private static final int VALIDATED_CACHE_SIZE = 64;
+
+    private static final AtomicLong CLASS_IDS = new AtomicLong();
+
+    /**
+     * Unique id of every class object, held by the class itself so the cache does not retain any class.
+     */
+    private static final ClassValue<Long> CLASS_ID = new ClassValue<>() {
+        @Override
+        protected Long computeValue(Class<?> type) {
+            return CLASS_IDS.incrementAndGet();
+        }
+    };
+
+    private static final CafeValidationService DEFAULT = new CafeValidationService(Set.of(
+            new CafeCycleDetectionValidator(),
+            new CafeResolvableBeansValidator(),
+            new CafeHandlerMethodsParameterValidator()));
+
     private final Set<CafeValidator> validatorSet;
 
+    private final Set<String> validatedFingerprints = Collections.synchronizedSet(Collections.newSetFromMap(
+            new LinkedHashMap<>() {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > VALIDATED_CACHE_SIZE;
+                }
+            }));
+
     public CafeValidationService(Set<CafeValidator> validatorSet) {
         this.validatorSet = validatorSet;
     }
 
+    /**
+     * Returns the service running the built-in validators, shared by all contexts.
+     */
+    public static CafeValidationService getDefault() {
+        return DEFAULT;
+    }
+
     public Set<ValidationResult> validate(CafeMetadataRegistry registry, Repository<TypeKey, BeanRepositoryEntry> repository) {
-        return validatorSet.stream()
-                .map(cafeValidator -> cafeValidator.validate(registry, repository))
+        String fingerprint = fingerprint(registry, repository);
+        if (validatedFingerprints.contains(fingerprint)) {
+            log.debug("Skipping validation of {} classes, validated before", registry.getCafeClassMetadata().size());
+            return Set.of();
+        }
+
+        CafeDependencyIndex index = CafeDependencyIndex.of(registry);
+        Set<ValidationResult> results = (validatorSet.size() > 1 ? validatorSet.parallelStream() : validatorSet.stream())
+                .map(cafeValidator -> cafeValidator.validate(index, repository))
                 .filter(Optional::isPresent)
                 .map(Optional::get)
                 .collect(Collectors.toSet());
+        if (results.isEmpty()) {
+            validatedFingerprints.add(fingerprint);
+        }
+        return results;
     }
 
+    private static String fingerprint(CafeMetadataRegistry registry, Repository<TypeKey, BeanRepositoryEntry> repository) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        registry.getCafeClassMetadata().stream()
+                .map(CafeClass::getRootClass)
+                .sorted(Comparator.comparing(Class::getName))
+                .forEach(rootClass -> hasher.putLong(CLASS_ID.get(rootClass)));
+        hasher.putByte((byte) 0);
+        repository.getKeys().stream()
+                .map(typeKey -> typeKey.getClass().getSimpleName() + ":" + typeKey)
+                .sorted()
+                .forEach(key -> hasher.putString(key, StandardCharsets.UTF_8).putByte((byte) '\n'));
+        return hasher.hash().toString();
+    }
 
 }
-
@@ -10,4 +10,12 @@ import java.util.Optional;
 public interface CafeValidator {
 
     Optional<ValidationResult> validate(CafeMetadataRegistry registry, Repository<TypeKey, BeanRepositoryEntry> repository);
+
+    /**
+     * Validates using the index shared by all validators of a validation run. Validators may run concurrently,
+     * so they must only read the index and the repository.
+     */
+    default Optional<ValidationResult> validate(CafeDependencyIndex index, Repository<TypeKey, BeanRepositoryEntry> repository) {
+        return validate(index.getRegistry(), repository);
+    }
 }
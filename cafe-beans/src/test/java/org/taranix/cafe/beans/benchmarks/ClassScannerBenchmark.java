@@ -0,0 +1,145 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.reflection.ClassScanner;
+import org.taranix.cafe.beans.reflection.ScanMode;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares {@link ScanMode#CLASSPATH} and {@link ScanMode#BYTECODE} scanning of a synthetic package with
+ * {@code classCount} classes, one percent of them being {@code @CafeSingleton} beans.
+ * <p>
+ * Every invocation scans through a fresh class loader, so the measured time includes class loading.
+ * The {@code loadedClasses} counter reports how many synthetic classes had to be loaded.
+ * <p>
+ * Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClassScannerBenchmark {
+
+    private static final String PACKAGE = "org.taranix.cafe.synthetic";
+    private static final int CLASSES_PER_PACKAGE = 100;
+    private static final int BEAN_EVERY = 100;
+
+    @Param({"10000"})
+    private int classCount;
+
+    @Param({"CLASSPATH", "BYTECODE"})
+    private ScanMode scanMode;
+
+    private Path classesDirectory;
+    private CountingClassLoader classLoader;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ClassScannerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void generateClasses() throws IOException {
+        Map<String, String> sources = new HashMap<>();
+        for (int i = 0; i < classCount; i++) {
+            String packageName = PACKAGE + ".p" + (i / CLASSES_PER_PACKAGE);
+            sources.put(packageName + ".Synthetic" + i, classSource(packageName, i));
+        }
+        classesDirectory = SyntheticClasses.compile(sources);
+    }
+
+    @Setup(Level.Invocation)
+    public void createClassLoader() throws MalformedURLException {
+        classLoader = new CountingClassLoader(classesDirectory.toUri().toURL(), getClass().getClassLoader());
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasses() throws IOException {
+        SyntheticClasses.delete(classesDirectory);
+    }
+
+    @Benchmark
+    public Set<Class<?>> scan(LoadCounters counters) {
+        Set<Class<?>> beans = ClassScanner.getInstance(scanMode).scan(classLoader, PACKAGE);
+        counters.loadedClasses += classLoader.loadedClasses.get();
+        counters.beans += beans.size();
+        return beans;
+    }
+
+    private static String classSource(String packageName, int index) {
+        String annotation = index % BEAN_EVERY == 0 ? "@" + CafeSingleton.class.getName() + "\n" : "";
+        return """
+                package %s;
+
+                %spublic class Synthetic%d {
+                    private int value = %d;
+
+                    public int getValue() {
+                        return value;
+                    }
+                }
+                """.formatted(packageName, annotation, index, index);
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class LoadCounters {
+        public long loadedClasses;
+        public long beans;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            loadedClasses = 0;
+            beans = 0;
+        }
+    }
+
+    /**
+     * Counts the classes defined from the synthetic classes directory.
+     */
+    private static class CountingClassLoader extends URLClassLoader {
+        private final AtomicInteger loadedClasses = new AtomicInteger();
+
+        private CountingClassLoader(URL url, ClassLoader parent) {
+            super(new URL[]{url}, parent);
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            Class<?> loaded = super.findClass(name);
+            loadedClasses.incrementAndGet();
+            return loaded;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafePrototype;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.fields.CafeInject;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creation of prototype beans with {@link CafeApplicationContext.BeansContextBuilder#withCompiledFactories()
+ * compiled factories} against the default member-by-member resolution: a prototype with a constructor dependency,
+ * two injected singletons and an injected prototype that has a dependency of its own.
+ * Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompiledFactoryBenchmark {
+
+    @Param({"false", "true"})
+    private boolean compiled;
+
+    private CafeApplicationContext context;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CompiledFactoryBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // the container logs every resolution at DEBUG, which would dominate the measurement
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        CafeApplicationContext.BeansContextBuilder builder = CafeApplicationContext.builder()
+                .withClass(FirstService.class)
+                .withClass(SecondService.class)
+                .withClass(Part.class)
+                .withClass(PrototypeBean.class);
+        if (compiled) {
+            builder.withCompiledFactories();
+        }
+        context = builder.build();
+        context.initialize();
+    }
+
+    @Benchmark
+    public PrototypeBean prototype() {
+        return context.getInstance(PrototypeBean.class);
+    }
+
+    @CafeSingleton
+    public static class FirstService {
+    }
+
+    @CafeSingleton
+    public static class SecondService {
+    }
+
+    @CafePrototype
+    public static class Part {
+        @CafeInject
+        private FirstService firstService;
+    }
+
+    @CafePrototype
+    public static class PrototypeBean {
+        private final FirstService constructed;
+
+        @CafeInject
+        private FirstService first;
+
+        @CafeInject
+        private SecondService second;
+
+        @CafeInject
+        private Part part;
+
+        PrototypeBean(FirstService constructed) {
+            this.constructed = constructed;
+        }
+    }
+}
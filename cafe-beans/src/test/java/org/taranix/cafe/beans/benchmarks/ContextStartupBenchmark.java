@@ -0,0 +1,125 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.fields.CafeInject;
+import org.taranix.cafe.beans.annotations.methods.CafeProvider;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building and initializing a context of synthetic singletons, each with a constructor dependency,
+ * an injected field and a provider method. Run with {@code main} from the test classpath: the GC profiler
+ * is enabled, so {@code gc.alloc.rate.norm} reports the bytes allocated by one startup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContextStartupBenchmark {
+
+    private static final String PACKAGE = "org.taranix.cafe.synthetic.startup";
+
+    @Param({"100", "500"})
+    private int beanCount;
+
+    private Path classesDirectory;
+    private URLClassLoader classLoader;
+    private Set<Class<?>> classes;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ContextStartupBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void generateBeans() throws IOException, ClassNotFoundException {
+        // the container logs every resolution at DEBUG, which would dominate the measurement
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        Map<String, String> sources = new HashMap<>();
+        for (int i = 0; i < beanCount; i++) {
+            sources.put(PACKAGE + ".Bean" + i, beanSource(i));
+        }
+        classesDirectory = SyntheticClasses.compile(sources);
+        classLoader = SyntheticClasses.classLoader(classesDirectory);
+        classes = new HashSet<>();
+        for (int i = 0; i < beanCount; i++) {
+            classes.add(classLoader.loadClass(PACKAGE + ".Bean" + i));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasses() throws IOException {
+        classLoader.close();
+        SyntheticClasses.delete(classesDirectory);
+    }
+
+    @Benchmark
+    public CafeApplicationContext startup() {
+        CafeApplicationContext context = CafeApplicationContext.builder()
+                .withClasses(classes)
+                .build();
+        context.initialize();
+        return context;
+    }
+
+    private static String beanSource(int index) {
+        // Bean i is constructed from bean i-1, has bean i/2 injected and provides Value<i>
+        String constructorParameter = index == 0 ? "" : "Bean%d previous".formatted(index - 1);
+        String injected = index == 0 ? "" : """
+                    @%s
+                    private Bean%d injected;
+                """.formatted(CafeInject.class.getName(), index / 2);
+        return """
+                package %s;
+
+                @%s
+                public class Bean%d {
+                %s
+                    public Bean%d(%s) {
+                    }
+
+                    @%s
+                    public Value%d value() {
+                        return new Value%d();
+                    }
+
+                    public static class Value%d {
+                    }
+                }
+                """.formatted(PACKAGE, CafeSingleton.class.getName(), index, injected, index, constructorParameter,
+                CafeProvider.class.getName(), index, index, index);
+    }
+}
@@ -0,0 +1,123 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.fields.CafeInject;
+import org.taranix.cafe.beans.annotations.methods.CafeProvider;
+import org.taranix.cafe.beans.metadata.CafeClass;
+import org.taranix.cafe.beans.metadata.CafeClassFactory;
+import org.taranix.cafe.beans.repositories.registry.ClassDependencyRegistry;
+import org.taranix.cafe.beans.repositories.registry.MemberDependencyResolverRegistry;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building {@link MemberDependencyResolverRegistry} and {@link ClassDependencyRegistry} for
+ * {@code beanCount} synthetic singletons. Every bean gets its predecessor through the constructor,
+ * the supplier provided by another bean through a field, and provides its own supplier through a method.
+ * Each required type has a single provider, so the graph itself grows linearly with the bean count.
+ * <p>
+ * Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DependencyRegistryBenchmark {
+
+    private static final String PACKAGE = "org.taranix.cafe.synthetic.registry";
+
+    @Param({"100", "1000", "10000"})
+    private int beanCount;
+
+    private Path classesDirectory;
+    private Set<CafeClass> cafeClasses;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(DependencyRegistryBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void generateBeans() throws IOException, ClassNotFoundException {
+        Map<String, String> sources = new HashMap<>();
+        for (int i = 0; i < beanCount; i++) {
+            sources.put(PACKAGE + ".Bean" + i, beanSource(i));
+        }
+        classesDirectory = SyntheticClasses.compile(sources);
+
+        cafeClasses = new HashSet<>();
+        try (URLClassLoader classLoader = SyntheticClasses.classLoader(classesDirectory)) {
+            for (int i = 0; i < beanCount; i++) {
+                cafeClasses.add(CafeClassFactory.create(classLoader.loadClass(PACKAGE + ".Bean" + i)));
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasses() throws IOException {
+        SyntheticClasses.delete(classesDirectory);
+    }
+
+    @Benchmark
+    public MemberDependencyResolverRegistry memberDependencyRegistry() {
+        return MemberDependencyResolverRegistry.from(cafeClasses);
+    }
+
+    @Benchmark
+    public ClassDependencyRegistry classDependencyRegistry() {
+        return ClassDependencyRegistry.from(cafeClasses);
+    }
+
+    private static String beanSource(int index) {
+        String supplier = "java.util.function.Supplier<Bean%d>";
+        String constructor = index == 0
+                ? "public Bean0() {\n    }"
+                : "public Bean%d(Bean%d previous) {\n    }".formatted(index, index - 1);
+        return """
+                package %s;
+
+                @%s
+                public class Bean%d {
+
+                    @%s
+                    private %s supplier;
+
+                    %s
+
+                    @%s
+                    public %s supplier%d() {
+                        return () -> this;
+                    }
+                }
+                """.formatted(PACKAGE, CafeSingleton.class.getName(), index,
+                CafeInject.class.getName(), supplier.formatted(index / 2), constructor,
+                CafeProvider.class.getName(), supplier.formatted(index), index);
+    }
+}
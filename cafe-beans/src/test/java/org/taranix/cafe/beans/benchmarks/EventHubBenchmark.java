@@ -0,0 +1,104 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.taranix.cafe.beans.annotations.methods.CafeHandler;
+import org.taranix.cafe.beans.events.CafeEvent;
+import org.taranix.cafe.beans.events.EventHub;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch of events by {@link EventHub} to registered listeners, each handling two event types:
+ * {@code send} reaches every listener, {@code sendToType} only the listeners of one class (every tenth listener)
+ * and {@code sendToInstance} a single listener, as done for menu and tab events.
+ * Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventHubBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int listenerCount;
+
+    private EventHub eventHub;
+    private List<Object> listeners;
+    private Object target;
+    private final TickEvent event = new TickEvent();
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(EventHubBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void registerListeners() {
+        eventHub = new EventHub();
+        listeners = new ArrayList<>();
+        for (int i = 0; i < listenerCount; i++) {
+            Object listener = i % 10 == 0 ? new TargetListener() : new Listener();
+            listeners.add(listener);
+            eventHub.register(listener);
+        }
+        target = listeners.get(listenerCount / 2);
+    }
+
+    @Benchmark
+    public void send() {
+        eventHub.send(event);
+    }
+
+    @Benchmark
+    public void sendToType() {
+        eventHub.send(event, TargetListener.class);
+    }
+
+    @Benchmark
+    public void sendToInstance() {
+        eventHub.send(event, target);
+    }
+
+    public static class TickEvent implements CafeEvent {
+    }
+
+    public static class OtherEvent implements CafeEvent {
+    }
+
+    public static class Listener {
+        private long ticks;
+
+        @CafeHandler
+        public void onTick(TickEvent event) {
+            ticks++;
+        }
+
+        @CafeHandler
+        public void onOther(OtherEvent event) {
+            ticks--;
+        }
+    }
+
+    public static class TargetListener extends Listener {
+    }
+}
@@ -0,0 +1,139 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafePrototype;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.fields.CafeInject;
+import org.taranix.cafe.beans.metadata.CafeClass;
+import org.taranix.cafe.beans.metadata.CafeClassFactory;
+import org.taranix.cafe.beans.metadata.CafeConstructor;
+import org.taranix.cafe.beans.metadata.CafeField;
+import org.taranix.cafe.beans.reflection.CafeInvoker;
+import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
+import org.taranix.cafe.beans.reflection.MethodHandleInvoker;
+import org.taranix.cafe.beans.reflection.ReflectionInvoker;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compares {@link ReflectionInvoker} and {@link MethodHandleInvoker}: constructor call and field injection through
+ * the accessors cached by the member metadata, and creation of a prototype bean (constructor and field injection)
+ * through the context.
+ * Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InvokerBenchmark {
+
+    @Param({"REFLECTION", "METHOD_HANDLE"})
+    private Invoker invoker;
+
+    private CafeInvoker previousInvoker;
+    private CafeApplicationContext context;
+    private CafeConstructor constructor;
+    private CafeField field;
+    private Dependency dependency;
+    private PrototypeBean target;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(InvokerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // the container logs every resolution at DEBUG, which would dominate the measurement
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        previousInvoker = CafeReflectionUtils.getInvoker();
+        CafeReflectionUtils.setInvoker(invoker.create());
+
+        context = CafeApplicationContext.builder()
+                .withClass(Dependency.class)
+                .withClass(PrototypeBean.class)
+                .build();
+        context.initialize();
+
+        CafeClass cafeClass = CafeClassFactory.create(PrototypeBean.class);
+        constructor = cafeClass.getConstructor();
+        field = cafeClass.getField("injected");
+        dependency = new Dependency();
+        target = new PrototypeBean(dependency);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        CafeReflectionUtils.setInvoker(previousInvoker);
+    }
+
+    @Benchmark
+    public Object instantiate() {
+        return constructor.newInstance(dependency);
+    }
+
+    @Benchmark
+    public Object inject() {
+        field.setValue(target, dependency);
+        return target;
+    }
+
+    @Benchmark
+    public PrototypeBean prototype() {
+        return context.getInstance(PrototypeBean.class);
+    }
+
+    public enum Invoker {
+        REFLECTION(ReflectionInvoker::new),
+        METHOD_HANDLE(MethodHandleInvoker::new);
+
+        private final Supplier<CafeInvoker> factory;
+
+        Invoker(Supplier<CafeInvoker> factory) {
+            this.factory = factory;
+        }
+
+        CafeInvoker create() {
+            return factory.get();
+        }
+    }
+
+    @CafeSingleton
+    public static class Dependency {
+    }
+
+    @CafePrototype
+    public static class PrototypeBean {
+        private final Dependency constructed;
+
+        @CafeInject
+        private Dependency injected;
+
+        PrototypeBean(Dependency constructed) {
+            this.constructed = constructed;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.metadata.CafeClass;
+import org.taranix.cafe.beans.metadata.CafeMember;
+import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
+import org.taranix.cafe.beans.services.CafeOrderedBeansService;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Regression benchmark of {@link CafeOrderedBeansService} on synthetic dependency graphs:
+ * <ul>
+ * <li>{@code CHAIN} - every bean depends on its predecessor,</li>
+ * <li>{@code DIAMOND} - a chain of diamonds, where the number of paths doubles with every diamond,</li>
+ * <li>{@code FAN_IN} - every bean depends on the same first bean.</li>
+ * </ul>
+ * Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderedBeansBenchmark {
+
+    private static final String PACKAGE = "org.taranix.cafe.synthetic.ordered";
+
+    @Param({"CHAIN", "DIAMOND", "FAN_IN"})
+    private Shape shape;
+
+    @Param({"100", "1000"})
+    private int beanCount;
+
+    private Path classesDirectory;
+    private CafeMetadataRegistry registry;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderedBeansBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void generateBeans() throws IOException, ClassNotFoundException {
+        Map<String, String> sources = new HashMap<>();
+        for (int i = 0; i < beanCount; i++) {
+            sources.put(PACKAGE + ".Bean" + i, beanSource(i, shape.providers(i)));
+        }
+        classesDirectory = SyntheticClasses.compile(sources);
+
+        Set<Class<?>> classes = new HashSet<>();
+        try (URLClassLoader classLoader = SyntheticClasses.classLoader(classesDirectory)) {
+            for (int i = 0; i < beanCount; i++) {
+                classes.add(classLoader.loadClass(PACKAGE + ".Bean" + i));
+            }
+        }
+        registry = CafeMetadataRegistry.builder()
+                .withClasses(classes)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasses() throws IOException {
+        SyntheticClasses.delete(classesDirectory);
+    }
+
+    @Benchmark
+    public List<CafeClass> orderedClasses() {
+        return CafeOrderedBeansService.from(registry).orderedClasses();
+    }
+
+    @Benchmark
+    public List<CafeMember> orderedMembers() {
+        return CafeOrderedBeansService.from(registry).orderedMembers();
+    }
+
+    private static String beanSource(int index, List<Integer> providers) {
+        String parameters = IntStream.range(0, providers.size())
+                .mapToObj(i -> "Bean%d p%d".formatted(providers.get(i), i))
+                .collect(Collectors.joining(", "));
+        return """
+                package %s;
+
+                @%s
+                public class Bean%d {
+                    public Bean%d(%s) {
+                    }
+                }
+                """.formatted(PACKAGE, CafeSingleton.class.getName(), index, index, parameters);
+    }
+
+    public enum Shape {
+        CHAIN {
+            @Override
+            List<Integer> providers(int index) {
+                return index == 0 ? List.of() : List.of(index - 1);
+            }
+        },
+        DIAMOND {
+            @Override
+            List<Integer> providers(int index) {
+                // Beans 3k+1 and 3k+2 depend on bean 3k, which depends on both sides of the previous diamond
+                int diamond = index / 3;
+                if (index % 3 != 0) {
+                    return List.of(diamond * 3);
+                }
+                return diamond == 0 ? List.of() : List.of(index - 2, index - 1);
+            }
+        },
+        FAN_IN {
+            @Override
+            List<Integer> providers(int index) {
+                return index == 0 ? List.of() : List.of(0);
+            }
+        };
+
+        abstract List<Integer> providers(int index);
+    }
+}
@@ -0,0 +1,76 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafePrototype;
+import org.taranix.cafe.beans.annotations.fields.CafeProperty;
+import org.taranix.cafe.beans.converters.CafeConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Instantiation of a prototype with four {@link CafeProperty} fields, three of them converted from strings of the
+ * test {@code application.properties}. Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyInjectionBenchmark {
+
+    private CafeApplicationContext context;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(PropertyInjectionBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void createContext() {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        context = CafeApplicationContext.builder()
+                .withPackageScan(CafeConverter.class.getPackageName())
+                .withClass(PropertyPrototype.class)
+                .build();
+        context.initialize();
+    }
+
+    @Benchmark
+    public PropertyPrototype prototypeInstance() {
+        return context.getInstance(PropertyPrototype.class);
+    }
+
+    @CafePrototype
+    public static class PropertyPrototype {
+        @CafeProperty(name = "test.property")
+        String property;
+
+        @CafeProperty(name = "test.double")
+        Double doubleNumber;
+
+        @CafeProperty(name = "test.boolean")
+        Boolean booleanValue;
+
+        @CafeProperty(name = "test.integer")
+        Integer integerValue;
+    }
+}
@@ -0,0 +1,73 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Compiles generated sources into a temporary directory for benchmarks needing large synthetic class sets.
+ */
+final class SyntheticClasses {
+
+    private SyntheticClasses() {
+    }
+
+    /**
+     * Compiles the given sources (keyed by binary class name) against the current classpath.
+     *
+     * @return The directory holding the compiled classes.
+     */
+    static Path compile(Map<String, String> sources) throws IOException {
+        Path sourcesDirectory = Files.createTempDirectory("cafe-synthetic-sources");
+        Path classesDirectory = Files.createTempDirectory("cafe-synthetic-classes");
+        List<Path> sourceFiles = new ArrayList<>();
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path sourceFile = sourcesDirectory.resolve(source.getKey().replace('.', '/') + ".java");
+            Files.createDirectories(sourceFile.getParent());
+            Files.writeString(sourceFile, source.getValue());
+            sourceFiles.add(sourceFile);
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, null)) {
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjectsFromPaths(sourceFiles);
+            List<String> options = List.of("-d", classesDirectory.toString(),
+                    "-classpath", System.getProperty("java.class.path"), "-proc:none");
+            if (!compiler.getTask(null, fileManager, null, options, null, units).call()) {
+                throw new IllegalStateException("Couldn't compile synthetic classes");
+            }
+        } finally {
+            delete(sourcesDirectory);
+        }
+        return classesDirectory;
+    }
+
+    static URLClassLoader classLoader(Path classesDirectory) throws MalformedURLException {
+        return new URLClassLoader(new URL[]{classesDirectory.toUri().toURL()}, SyntheticClasses.class.getClassLoader());
+    }
+
+    static void delete(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.delete(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+    }
+}
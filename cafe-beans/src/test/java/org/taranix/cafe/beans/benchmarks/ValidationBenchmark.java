@@ -0,0 +1,147 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.fields.CafeInject;
+import org.taranix.cafe.beans.annotations.methods.CafeProvider;
+import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
+import org.taranix.cafe.beans.repositories.beans.BeansRepository;
+import org.taranix.cafe.beans.validation.CafeCycleDetectionValidator;
+import org.taranix.cafe.beans.validation.CafeHandlerMethodsParameterValidator;
+import org.taranix.cafe.beans.validation.CafeResolvableBeansValidator;
+import org.taranix.cafe.beans.validation.CafeValidationService;
+import org.taranix.cafe.beans.validation.ValidationResult;
+
+import java.io.IOException;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a registry of synthetic singletons, each with a constructor dependency, an injected field and
+ * a provider method: {@code validate} runs the built-in validators with a new service, {@code validateAgain}
+ * validates the same classes with a service which has validated them before. Run with {@code main} from the test
+ * classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationBenchmark {
+
+    private static final String PACKAGE = "org.taranix.cafe.synthetic.validation";
+
+    @Param({"500", "2000"})
+    private int beanCount;
+
+    private Path classesDirectory;
+    private URLClassLoader classLoader;
+    private CafeMetadataRegistry registry;
+    private BeansRepository repository;
+    private CafeValidationService validatedService;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ValidationBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void generateBeans() throws IOException, ClassNotFoundException {
+        // the resolvable beans validator logs at DEBUG, which would dominate the measurement
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+
+        Map<String, String> sources = new HashMap<>();
+        for (int i = 0; i < beanCount; i++) {
+            sources.put(PACKAGE + ".Bean" + i, beanSource(i));
+        }
+        classesDirectory = SyntheticClasses.compile(sources);
+
+        classLoader = SyntheticClasses.classLoader(classesDirectory);
+        Set<Class<?>> classes = new HashSet<>();
+        for (int i = 0; i < beanCount; i++) {
+            classes.add(classLoader.loadClass(PACKAGE + ".Bean" + i));
+        }
+        registry = CafeMetadataRegistry.builder()
+                .withClasses(classes)
+                .build();
+        repository = new BeansRepository();
+        validatedService = newService();
+        validatedService.validate(registry, repository);
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteClasses() throws IOException {
+        classLoader.close();
+        SyntheticClasses.delete(classesDirectory);
+    }
+
+    @Benchmark
+    public Set<ValidationResult> validate() {
+        return newService().validate(registry, repository);
+    }
+
+    @Benchmark
+    public Set<ValidationResult> validateAgain() {
+        return validatedService.validate(registry, repository);
+    }
+
+    private static CafeValidationService newService() {
+        return new CafeValidationService(Set.of(
+                new CafeCycleDetectionValidator(),
+                new CafeResolvableBeansValidator(),
+                new CafeHandlerMethodsParameterValidator()));
+    }
+
+    private static String beanSource(int index) {
+        // Bean i is constructed from bean i-1, has bean i/2 injected and provides Value<i>
+        String constructorParameter = index == 0 ? "" : "Bean%d previous".formatted(index - 1);
+        String injected = index == 0 ? "" : """
+                    @%s
+                    private Bean%d injected;
+                """.formatted(CafeInject.class.getName(), index / 2);
+        return """
+                package %s;
+
+                @%s
+                public class Bean%d {
+                %s
+                    public Bean%d(%s) {
+                    }
+
+                    @%s
+                    public Value%d value() {
+                        return new Value%d();
+                    }
+
+                    public static class Value%d {
+                    }
+                }
+                """.formatted(PACKAGE, CafeSingleton.class.getName(), index, injected, index, constructorParameter,
+                CafeProvider.class.getName(), index, index, index);
+    }
+}
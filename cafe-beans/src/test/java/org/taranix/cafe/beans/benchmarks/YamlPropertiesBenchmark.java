@@ -0,0 +1,118 @@
+package org.taranix.cafe.beans.benchmarks;
+
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.LoggerFactory;
+import org.taranix.cafe.beans.repositories.beans.BeansRepository;
+import org.taranix.cafe.beans.resolvers.CafePropertiesService;
+import org.taranix.cafe.beans.resolvers.PropertySource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading of a working directory {@code application.yml} holding a menu tree of nested sections
+ * ({@code depth} levels of {@code width} sections, each with a few scalars and an item list), as read by
+ * {@code PropertiesMenuModel}. {@code lazy} stores nested sections as {@code YamlSection}s, {@code loadCached}
+ * reads the properties from a {@code CafePropertiesCache} written by the setup.
+ * Run with {@code main} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class YamlPropertiesBenchmark {
+
+    @Param({"4"})
+    private int depth;
+
+    @Param({"6"})
+    private int width;
+
+    @Param({"false", "true"})
+    private boolean lazy;
+
+    private Path directory;
+
+    private Path cacheFile;
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(YamlPropertiesBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    @Setup(Level.Trial)
+    public void writeYaml() throws IOException {
+        ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(ch.qos.logback.classic.Level.WARN);
+        directory = Files.createTempDirectory("cafe-yaml");
+        StringBuilder yaml = new StringBuilder("menu:\n");
+        section(yaml, "  ", 1);
+        Files.writeString(directory.resolve("application.yml"), yaml);
+        cacheFile = directory.resolve("properties.cache");
+        loadCached();
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteYaml() throws IOException {
+        Files.deleteIfExists(directory.resolve("application.yml"));
+        Files.deleteIfExists(cacheFile);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Object load() {
+        return CafePropertiesService.load(new BeansRepository(), getClass().getClassLoader(), directory, lazy)
+                .getPropertyStore();
+    }
+
+    @Benchmark
+    public Object loadCached() {
+        return CafePropertiesService.load(new BeansRepository(), directory, sources(), cacheFile, lazy)
+                .getPropertyStore();
+    }
+
+    private List<PropertySource> sources() {
+        return CafePropertiesService.defaultSources(getClass().getClassLoader(), directory, List.of(), lazy);
+    }
+
+    private void section(StringBuilder yaml, String indent, int level) {
+        for (int i = 0; i < width; i++) {
+            yaml.append(indent).append("section").append(i).append(":\n");
+            String inner = indent + "  ";
+            yaml.append(inner).append("id: menu.").append(level).append('.').append(i).append('\n');
+            yaml.append(inner).append("name: Section ").append(i).append('\n');
+            yaml.append(inner).append("enabled: true\n");
+            yaml.append(inner).append("order: ").append(i).append('\n');
+            yaml.append(inner).append("items:\n");
+            for (int j = 0; j < 3; j++) {
+                yaml.append(inner).append("  - id: item").append(j).append('\n');
+                yaml.append(inner).append("    action: run").append(j).append('\n');
+            }
+            if (level < depth) {
+                section(yaml, inner, level + 1);
+            }
+        }
+    }
+}
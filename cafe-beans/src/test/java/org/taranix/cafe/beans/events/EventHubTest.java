@@ -1,9 +1,22 @@
 package org.taranix.cafe.beans.events;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.annotations.methods.CafeHandler;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 @DisplayName("Unit tests for EventHub")
 class EventHubTest {
@@ -15,6 +28,275 @@ class EventHubTest {
         hub = new EventHub();
     }
 
+    @Test
+    @DisplayName("registered listener receives events of its handler's exact type only")
+    void shouldDispatchByExactEventType() {
+        //given
+        SampleListener listener = new SampleListener();
+        hub.register(listener);
+
+        //when
+        hub.send(new SampleEvent("first"));
+        hub.send(new OtherEvent());
+
+        //then
+        Assertions.assertEquals(List.of("first"), listener.received);
+    }
+
+    @Test
+    @DisplayName("unregistered listener no longer receives events")
+    void shouldNotDispatchAfterUnregister() {
+        //given
+        SampleListener listener = new SampleListener();
+        SampleListener other = new SampleListener();
+        hub.register(listener);
+        hub.register(other);
+
+        //when
+        hub.unregister(listener);
+        hub.send(new SampleEvent("event"));
+
+        //then
+        Assertions.assertTrue(listener.received.isEmpty());
+        Assertions.assertEquals(List.of("event"), other.received);
+    }
+
+    @Test
+    @DisplayName("registering a listener twice does not deliver events twice")
+    void shouldReplaceHandlersOnRegisterAgain() {
+        //given
+        SampleListener listener = new SampleListener();
+        hub.register(listener);
+        hub.register(listener);
+
+        //when
+        hub.send(new SampleEvent("event"));
+
+        //then
+        Assertions.assertEquals(List.of("event"), listener.received);
+    }
+
+    @Test
+    @DisplayName("targeted sends reach only listeners of the type, or the instance")
+    void shouldDispatchToTargets() {
+        //given
+        SampleListener first = new SampleListener();
+        SampleListener second = new SampleListener();
+        InheritingListener inheriting = new InheritingListener();
+        hub.register(first);
+        hub.register(second);
+        hub.register(inheriting);
+
+        //when
+        hub.send(new SampleEvent("instance"), (Object) second);
+        hub.send(new SampleEvent("type"), InheritingListener.class);
+
+        //then
+        Assertions.assertTrue(first.received.isEmpty());
+        Assertions.assertEquals(List.of("instance"), second.received);
+        Assertions.assertEquals(List.of("type"), inheriting.received);
+    }
+
+    @Test
+    @DisplayName("handler exception does not prevent other listeners from receiving the event")
+    void shouldContinueAfterHandlerException() {
+        //given
+        SampleListener listener = new SampleListener();
+        hub.register(new FailingListener());
+        hub.register(listener);
+
+        //when
+        Assertions.assertDoesNotThrow(() -> hub.send(new SampleEvent("event")));
+
+        //then
+        Assertions.assertEquals(List.of("event"), listener.received);
+    }
+
+    @Test
+    @DisplayName("sendAsync delivers on the executor, in order per listener")
+    void shouldDeliverAsynchronouslyInOrder() {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        hub.setExecutor(executor);
+        SampleListener listener = new SampleListener();
+        hub.register(listener);
+        List<CompletableFuture<Void>> deliveries = new ArrayList<>();
+
+        //when
+        for (int i = 0; i < 100; i++) {
+            deliveries.add(hub.sendAsync(new SampleEvent("event" + i)));
+        }
+        CompletableFuture.allOf(deliveries.toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        //then
+        Assertions.assertEquals(IntStream.range(0, 100).mapToObj(i -> "event" + i).toList(), listener.received);
+    }
+
+    @Test
+    @DisplayName("sendAsync future completes exceptionally when a handler fails")
+    void shouldFailAsyncDeliveryOnHandlerException() {
+        //given
+        hub.register(new FailingListener());
+
+        //when
+        CompletableFuture<Void> delivery = hub.sendAsync(new SampleEvent("event"));
+
+        //then
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, delivery::join);
+        Assertions.assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    @DisplayName("async handlers receive sent events off the sending thread, coalescing bursts when asked")
+    void shouldCoalesceQueuedEvents() throws InterruptedException {
+        //given
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.execute(() -> awaitQuietly(release));
+        hub.setExecutor(executor);
+        AsyncListener listener = new AsyncListener();
+        hub.register(listener);
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            hub.send(new SampleEvent("burst"));
+        }
+        hub.send(new SampleEvent("other"));
+        boolean deliveredBeforeRelease = !listener.received.isEmpty();
+        release.countDown();
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+
+        //then
+        Assertions.assertFalse(deliveredBeforeRelease);
+        Assertions.assertEquals(List.of("async:burst", "async:burst", "async:burst", "async:other"),
+                listener.received.stream().filter(name -> name.startsWith("async:")).toList());
+        Assertions.assertEquals(List.of("coalesced:burst", "coalesced:other"),
+                listener.received.stream().filter(name -> name.startsWith("coalesced:")).toList());
+    }
+
+    @Test
+    @DisplayName("deliveries rejected by the executor fail without stopping the other handlers")
+    void shouldFailDeliveriesRejectedByExecutor() {
+        //given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        hub.setExecutor(executor);
+        AsyncListener listener = new AsyncListener();
+        SampleListener synchronous = new SampleListener();
+        hub.register(listener);
+        hub.register(synchronous);
+
+        //when
+        hub.send(new SampleEvent("first"));
+        CompletableFuture<Void> delivery = hub.sendAsync(new SampleEvent("second"));
+        hub.setExecutor(Runnable::run);
+        hub.send(new SampleEvent("third"));
+
+        //then
+        CompletionException exception = Assertions.assertThrows(CompletionException.class, delivery::join);
+        Assertions.assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        Assertions.assertEquals(List.of("first", "third"), synchronous.received);
+        Assertions.assertEquals(List.of("async:third", "coalesced:third"), listener.received);
+        Assertions.assertEquals(5, hub.getStatistics().handlerFailures());
+    }
+
+    @Test
+    @DisplayName("handlers of collected listeners are purged")
+    void shouldPurgeCollectedListeners() throws InterruptedException {
+        //given
+        hub.register(new SampleListener());
+        SampleListener kept = new SampleListener();
+        hub.register(kept);
+
+        //when
+        int purged = 0;
+        for (int i = 0; i < 50 && purged == 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+            purged = hub.purge();
+        }
+        hub.send(new SampleEvent("event"));
+
+        //then
+        Assertions.assertEquals(1, purged);
+        Assertions.assertEquals(1, hub.getStatistics().listeners());
+        Assertions.assertEquals(1, hub.getStatistics().handlerInvocations());
+        Assertions.assertEquals(List.of("event"), kept.received);
+    }
+
+    @Test
+    @DisplayName("statistics count listeners, dispatched events and handler failures")
+    void shouldCountDispatches() {
+        //given
+        SampleListener listener = new SampleListener();
+        FailingListener failing = new FailingListener();
+        hub.register(listener);
+        hub.register(failing);
+
+        //when
+        hub.send(new SampleEvent("first"));
+        hub.send(new OtherEvent());
+        hub.unregister(failing);
+        hub.send(new SampleEvent("second"));
+        EventHubStatistics statistics = hub.getStatistics();
+
+        //then
+        Assertions.assertEquals(1, statistics.listeners());
+        Assertions.assertEquals(3, statistics.dispatchedEvents());
+        Assertions.assertEquals(3, statistics.handlerInvocations());
+        Assertions.assertEquals(1, statistics.handlerFailures());
+        Assertions.assertTrue(statistics.maxDispatchTime().compareTo(statistics.averageDispatchTime()) >= 0);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    record SampleEvent(String name) implements CafeEvent {
+    }
+
+    record OtherEvent() implements CafeEvent {
+    }
+
+    static class SampleListener {
+        final List<String> received = new ArrayList<>();
+
+        @CafeHandler
+        private void on(SampleEvent event) {
+            received.add(event.name());
+        }
+    }
+
+    static class InheritingListener extends SampleListener {
+    }
+
+    static class AsyncListener {
+        final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+        @CafeHandler(async = true)
+        void onAsync(SampleEvent event) {
+            received.add("async:" + event.name());
+        }
+
+        @CafeHandler(coalesce = true)
+        void onCoalesced(SampleEvent event) {
+            received.add("coalesced:" + event.name());
+        }
+    }
+
+    static class FailingListener {
+        @CafeHandler
+        void on(SampleEvent event) {
+            throw new IllegalStateException("boom");
+        }
+    }
+
     // --- register / unregister ---
 
 //    @Test
@@ -4,6 +4,7 @@ import lombok.Getter;
 import org.apache.commons.lang3.NotImplementedException;
 import org.taranix.cafe.beans.annotations.fields.CafeInject;
 import org.taranix.cafe.beans.annotations.methods.CafeProvider;
+import org.taranix.cafe.beans.annotations.classes.CafePrototype;
 import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
 
 import java.util.List;
@@ -72,4 +73,8 @@ class CafeBeansRegistryTestFixture {
         @CafeInject
         ServiceClass serviceClass;
     }
+
+    @CafePrototype
+    static class PrototypeServiceClass extends ServiceClass {
+    }
 }
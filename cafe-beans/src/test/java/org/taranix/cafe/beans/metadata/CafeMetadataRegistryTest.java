@@ -4,9 +4,12 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.taranix.cafe.beans.metadata.CafeBeansRegistryTestFixture.*;
+import org.taranix.cafe.beans.repositories.registry.ClassDependencyRegistry;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 class CafeMetadataRegistryTest {
 
@@ -215,6 +218,77 @@ class CafeMetadataRegistryTest {
         );
     }
 
+    @Test
+    @DisplayName("Should find providers of a type split by scope")
+    void shouldFindProvidersByScope() {
+        // given
+        CafeMetadataRegistry registry = createRegistry(ServiceClass.class, PrototypeServiceClass.class,
+                ServiceClassProvider.class);
+        BeanTypeKey typeKey = BeanTypeKey.from(ServiceClass.class);
+
+        CafeMember singletonConstructor = registry.getClassMetadata(ServiceClass.class).getConstructor();
+        CafeMember prototypeConstructor = registry.getClassMetadata(PrototypeServiceClass.class).getConstructor();
+        CafeMember providerMethod = registry.getClassMetadata(ServiceClassProvider.class).getMethods().iterator().next();
+
+        // when
+        Set<CafeMember> any = registry.findAnyTypeProviders(typeKey);
+        Set<CafeMember> singletons = registry.findSingletonProviders(typeKey);
+        Set<CafeMember> prototypes = registry.findPrototypeProviders(typeKey);
+
+        // then
+        Assertions.assertEquals(Set.of(singletonConstructor, prototypeConstructor, providerMethod), any);
+        Assertions.assertEquals(Set.of(singletonConstructor, providerMethod), singletons);
+        Assertions.assertEquals(Set.of(prototypeConstructor), prototypes);
+        Assertions.assertTrue(registry.findAnyTypeProviders(BeanTypeKey.from(Long.class)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should build the class graph equal to pairwise matching of required and provided types")
+    void shouldBuildClassGraphEqualToPairwiseMatching() {
+        // given
+        CafeMetadataRegistry registry = createRegistry(ListServiceClassInjectable.class, SetServiceClassInjectable.class,
+                ArrayServiceClassInjectable.class, ServiceClassInjectable.class, ServiceClass.class,
+                PrototypeServiceClass.class, ServiceClassProvider.class, StringProvider.class,
+                IntegerProviderAndStringInjectable.class);
+
+        // when / then
+        for (CafeClass dependant : registry.getCafeClassMetadata()) {
+            Set<CafeClass> expected = registry.getCafeClassMetadata().stream()
+                    .filter(provider -> !provider.equals(dependant))
+                    .filter(provider -> ClassDependencyRegistry.containsAtLeastOneElement(dependant.getRequiredTypes(), provider.getProvidedTypes()))
+                    .collect(Collectors.toSet());
+            Assertions.assertEquals(expected, registry.getClassDependencyRegistry().providers(dependant),
+                    "Providers of %s".formatted(dependant));
+        }
+    }
+
+    @Test
+    @DisplayName("Should build the same registry in parallel as sequentially")
+    void shouldBuildSameRegistryInParallel() {
+        // given
+        Set<Class<?>> classes = Set.of(ListServiceClassInjectable.class, SetServiceClassInjectable.class,
+                ArrayServiceClassInjectable.class, ServiceClassInjectable.class, ServiceClass.class,
+                ServiceClassProvider.class, StringProvider.class, IntegerProviderAndStringInjectable.class);
+        ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+        // when
+        CafeMetadataRegistry sequential = CafeMetadataRegistry.builder()
+                .withClasses(classes)
+                .build();
+        CafeMetadataRegistry parallel = CafeMetadataRegistry.builder()
+                .withClasses(classes)
+                .withForkJoinPool(forkJoinPool)
+                .build();
+        forkJoinPool.shutdown();
+
+        // then
+        Assertions.assertEquals(sequential.getCafeClassMetadata(), parallel.getCafeClassMetadata());
+        classes.forEach(aClass -> Assertions.assertEquals(
+                sequential.getClassDependencyRegistry().providers(sequential.getClassMetadata(aClass)),
+                parallel.getClassDependencyRegistry().providers(parallel.getClassMetadata(aClass)),
+                "Providers of %s".formatted(aClass)));
+    }
+
     // --- Helper Methods ---
 
     private CafeMetadataRegistry createRegistry(Class<?>... classes) {
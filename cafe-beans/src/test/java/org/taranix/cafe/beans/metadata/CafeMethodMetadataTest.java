@@ -97,4 +97,22 @@ class CafeMethodMetadataTest {
         Assertions.assertTrue(methodInfo.getRequiredTypeKeys().contains(BeanTypeKey.from(String.class)), "Parameter (String) must be a dependency.");
         Assertions.assertTrue(methodInfo.getRequiredTypeKeys().contains(BeanTypeKey.from(GenericClass.class)), "Instance method must depend on owner class (GenericClass).");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Positive: Should compute type keys and annotations once and return them unmodifiable")
+    void shouldMemoizeTypeKeysAndAnnotations() {
+        // given
+        CafeClass cafeClass = CafeClassFactory.create(CafeMethodMetadataTestFixtures.StringClass.class);
+        CafeMethod methodInfo = cafeClass.getMethod("getStringProviderWithParameter", BeanTypeKey.from(String.class));
+
+        // then
+        Assertions.assertSame(methodInfo.getRequiredTypeKeys(), methodInfo.getRequiredTypeKeys());
+        Assertions.assertSame(methodInfo.getProvidedTypeKeys(), methodInfo.getProvidedTypeKeys());
+        Assertions.assertSame(methodInfo.getParameterTypeKeys(), methodInfo.getParameterTypeKeys());
+        Assertions.assertSame(methodInfo.getAnnotations(), methodInfo.getAnnotations());
+        Assertions.assertSame(methodInfo.getAnnotationModifiers(), methodInfo.getAnnotationModifiers());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> methodInfo.getRequiredTypeKeys().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> methodInfo.getAnnotations().clear());
+        Assertions.assertArrayEquals(new BeanTypeKey[]{BeanTypeKey.from(String.class)}, methodInfo.getMethodParameterTypeKeys());
+    }
+}
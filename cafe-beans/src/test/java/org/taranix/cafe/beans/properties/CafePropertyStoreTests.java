@@ -0,0 +1,120 @@
+package org.taranix.cafe.beans.properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.converters.CafeConverter;
+import org.taranix.cafe.beans.exceptions.CafePropertiesContextException;
+import org.taranix.cafe.beans.repositories.beans.BeansRepository;
+import org.taranix.cafe.beans.resolvers.CafePropertiesService;
+import org.taranix.cafe.beans.resolvers.CafePropertyStore;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+class CafePropertyStoreTests {
+
+    @Test
+    void shouldReadTypedValuesOfPropertiesAndYamlFiles() {
+        //given
+        CafePropertyStore store = CafePropertiesService.load(new BeansRepository()).getPropertyStore();
+
+        //when-then
+        Assertions.assertEquals(14, store.getInt("test.integer"));
+        Assertions.assertEquals(8080L, store.getLong("edge.port"));
+        Assertions.assertTrue(store.getBoolean("test.boolean"));
+        Assertions.assertTrue(store.getBoolean("edge.debug"));
+        Assertions.assertEquals("Black Cats", store.getString("test.property"));
+        Assertions.assertEquals(7, store.getInt("missing", 7));
+    }
+
+    @Test
+    void shouldParseDurations() {
+        //given
+        CafePropertyStore store = new CafePropertyStore(Map.of(
+                "iso", "PT30S",
+                "millis", "250",
+                "number", 100,
+                "seconds", "5s",
+                "minutes", "2 m",
+                "days", "1d"));
+
+        //when-then
+        Assertions.assertEquals(Duration.ofSeconds(30), store.getDuration("iso"));
+        Assertions.assertEquals(Duration.ofMillis(250), store.getDuration("millis"));
+        Assertions.assertEquals(Duration.ofMillis(100), store.getDuration("number"));
+        Assertions.assertEquals(Duration.ofSeconds(5), store.getDuration("seconds"));
+        Assertions.assertEquals(Duration.ofMinutes(2), store.getDuration("minutes"));
+        Assertions.assertEquals(Duration.ofDays(1), store.getDuration("days"));
+    }
+
+    @Test
+    void shouldConvertOncePerKeyAndType() {
+        //given
+        CafePropertyStore store = new CafePropertyStore(Map.of("size", "42"));
+        AtomicInteger conversions = new AtomicInteger();
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            store.get("size", Short.class, value -> {
+                conversions.incrementAndGet();
+                return Short.valueOf(value.toString());
+            });
+        }
+        int size = store.getInt("size");
+
+        //then
+        Assertions.assertEquals(1, conversions.get());
+        Assertions.assertEquals(42, size);
+    }
+
+    @Test
+    void shouldConvertMutableTypesOnEveryCall() {
+        //given
+        CafePropertyStore store = new CafePropertyStore(Map.of("tags", "a,b"));
+        Function<Object, ?> converter = value -> new ArrayList<>(List.of(value.toString().split(",")));
+
+        //when
+        List<String> first = store.get("tags", List.class, converter);
+        first.add("c");
+        List<String> second = store.get("tags", List.class, converter);
+
+        //then
+        Assertions.assertNotSame(first, second);
+        Assertions.assertEquals(List.of("a", "b"), second);
+    }
+
+    @Test
+    void shouldFailOnMissingOrInvalidProperty() {
+        //given
+        CafePropertyStore store = new CafePropertyStore(Map.of("flag", "maybe"));
+
+        //when-then
+        Assertions.assertThrows(CafePropertiesContextException.class, () -> store.getBoolean("flag"));
+        Assertions.assertThrows(CafePropertiesContextException.class, () -> store.getInt("missing"));
+    }
+
+    @Test
+    void shouldExposePropertyStoreOfContext() {
+        //given
+        CafeApplicationContext context = CafeApplicationContext.builder()
+                .withPackageScan(CafeConverter.class.getPackageName())
+                .withClass(ServiceClassWithProperty.class)
+                .build();
+
+        //when
+        context.initialize();
+        ServiceClassWithProperty instance = context.getInstance(ServiceClassWithProperty.class);
+
+        //then
+        Assertions.assertEquals(14, instance.getIntegerValue());
+        Assertions.assertEquals(13d, instance.getDoubleNumber());
+        Assertions.assertEquals(Boolean.TRUE, instance.getBooleanValue());
+        Assertions.assertEquals(14, context.getPropertyStore().getInt("test.integer"));
+        Assertions.assertEquals("Black Cats", context.getProperty("test.property"));
+    }
+}
@@ -0,0 +1,148 @@
+package org.taranix.cafe.beans.properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.exceptions.CafePropertiesContextException;
+import org.taranix.cafe.beans.resolvers.CafePropertyStore;
+import org.taranix.cafe.beans.resolvers.CafeYamlFlattener;
+import org.taranix.cafe.beans.resolvers.YamlSection;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class CafeYamlFlattenerTests {
+
+    private static final String DOCUMENT = """
+            server:
+              port: 8080
+              ratio: 0.5
+              debug: true
+              name: cafe
+              empty:
+            defaults: &defaults
+              timeout: 30
+              retries: 2
+            client:
+              <<: *defaults
+              retries: 5
+            menu:
+              items:
+                - id: file
+                  items:
+                    - id: file.open
+                - separator
+            """;
+
+    @Test
+    void shouldFlattenLikeLoadedDocument() {
+        //given
+        Map<Object, Object> expected = new HashMap<>();
+        flatten(null, new Yaml().load(DOCUMENT), expected);
+        Map<Object, Object> flattened = new HashMap<>();
+
+        //when
+        CafeYamlFlattener.flatten(new StringReader(DOCUMENT), flattened, false);
+
+        //then
+        Assertions.assertEquals(expected, flattened);
+        Assertions.assertEquals(8080, flattened.get("server.port"));
+        Assertions.assertEquals(0.5, flattened.get("server.ratio"));
+        Assertions.assertEquals(true, flattened.get("server.debug"));
+        Assertions.assertFalse(flattened.containsKey("server.empty"));
+        Assertions.assertEquals(5, flattened.get("client.retries"));
+        Assertions.assertEquals(30, flattened.get("client.timeout"));
+        Assertions.assertInstanceOf(List.class, flattened.get("menu.items"));
+    }
+
+    @Test
+    void shouldBuildSectionsOnlyWhenRequestedInLazyMode() {
+        //given
+        Map<Object, Object> eager = new HashMap<>();
+        Map<Object, Object> lazy = new HashMap<>();
+        CafeYamlFlattener.flatten(new StringReader(DOCUMENT), eager, false);
+
+        //when
+        CafeYamlFlattener.flatten(new StringReader(DOCUMENT), lazy, true);
+        CafePropertyStore store = new CafePropertyStore(lazy);
+
+        //then
+        Assertions.assertInstanceOf(YamlSection.class, lazy.get("server"));
+        Assertions.assertInstanceOf(YamlSection.class, lazy.get("menu"));
+        Assertions.assertEquals(eager.get("menu"), store.get("menu"));
+        Assertions.assertEquals(List.of("port", "ratio", "debug", "name", "empty"),
+                List.copyOf(((Map<?, ?>) store.get("server")).keySet()));
+        Assertions.assertSame(store.get("server"), store.get("server"));
+        Assertions.assertEquals(8080, store.getInt("server.port"));
+        Assertions.assertEquals(eager.get("client.timeout"), lazy.get("client.timeout"));
+    }
+
+    @Test
+    void shouldKeepExplicitKeysBeforeMergeKey() {
+        //given
+        String document = """
+                base: &base {port: 1, host: localhost}
+                port: 2
+                <<: *base
+                """;
+        Map<Object, Object> expected = new HashMap<>();
+        flatten(null, new Yaml().load(document), expected);
+        Map<Object, Object> flattened = new HashMap<>();
+
+        //when
+        CafeYamlFlattener.flatten(new StringReader(document), flattened, false);
+
+        //then
+        Assertions.assertEquals(expected, flattened);
+        Assertions.assertEquals(2, flattened.get("port"));
+        Assertions.assertEquals("localhost", flattened.get("host"));
+    }
+
+    @Test
+    void shouldKeepExplicitKeysOfNestedMergeInLazyMode() {
+        //given
+        String document = """
+                base: &base {port: 1, host: localhost}
+                server: {port: 2, <<: *base}
+                """;
+        Map<Object, Object> lazy = new HashMap<>();
+
+        //when
+        CafeYamlFlattener.flatten(new StringReader(document), lazy, true);
+        CafePropertyStore store = new CafePropertyStore(lazy);
+
+        //then
+        Assertions.assertEquals(2, lazy.get("server.port"));
+        Assertions.assertEquals("localhost", lazy.get("server.host"));
+        Assertions.assertEquals(new YamlSection(List.of("port", "host")), lazy.get("server"));
+        Assertions.assertEquals(new Yaml().<Map<?, ?>>load(document).get("server"), store.get("server"));
+    }
+
+    @Test
+    void shouldFailOnMalformedDocument() {
+        //given
+        Map<Object, Object> flattened = new HashMap<>();
+
+        //when-then
+        Assertions.assertThrows(CafePropertiesContextException.class,
+                () -> CafeYamlFlattener.flatten(new StringReader("a: [1, 2\nb: 3"), flattened, false));
+    }
+
+    /**
+     * Flattening of a loaded document, as done before streaming, skipping null values.
+     */
+    private static void flatten(String prefix, Map<?, ?> map, Map<Object, Object> target) {
+        new LinkedHashMap<>(map).forEach((key, value) -> {
+            String name = prefix == null ? String.valueOf(key) : prefix + "." + key;
+            if (value != null) {
+                target.put(name, value);
+            }
+            if (value instanceof Map<?, ?> child) {
+                flatten(name, child, target);
+            }
+        });
+    }
+}
@@ -0,0 +1,136 @@
+package org.taranix.cafe.beans.properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.fields.CafeProperty;
+import org.taranix.cafe.beans.annotations.methods.CafeHandler;
+import org.taranix.cafe.beans.converters.CafeConverter;
+import org.taranix.cafe.beans.events.EventHub;
+import org.taranix.cafe.beans.events.PropertiesChangedEvent;
+import org.taranix.cafe.beans.repositories.beans.BeansRepository;
+import org.taranix.cafe.beans.repositories.typekeys.PropertyTypeKey;
+import org.taranix.cafe.beans.resolvers.CafePropertiesService;
+import org.taranix.cafe.beans.resolvers.CafePropertiesWatcher;
+import org.taranix.cafe.beans.resolvers.CafePropertyStore;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class PropertiesReloadTests {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldReloadChangedFileAndReportChangedKeys() throws IOException {
+        //given
+        Path file = directory.resolve("application.properties");
+        Files.writeString(file, "reload.timeout=5s\nreload.name=first\nreload.removed=x\n");
+        BeansRepository repository = new BeansRepository();
+        CafePropertiesService service = CafePropertiesService.load(repository,
+                Thread.currentThread().getContextClassLoader(), directory);
+        Properties previous = service.getProperties();
+        CafePropertyStore previousStore = service.getPropertyStore();
+
+        //when
+        Files.writeString(file, "reload.timeout=10s\nreload.name=first\nreload.added=y\n");
+        Set<String> changedKeys = service.reload(file);
+
+        //then
+        Assertions.assertEquals(Set.of("reload.timeout", "reload.removed", "reload.added"), changedKeys);
+        Assertions.assertEquals(Duration.ofSeconds(10), service.getPropertyStore().getDuration("reload.timeout"));
+        Assertions.assertFalse(service.getPropertyStore().contains("reload.removed"));
+        Assertions.assertFalse(repository.contains(PropertyTypeKey.from("reload.removed")));
+        Assertions.assertEquals("y", repository.getOne(PropertyTypeKey.from("reload.added")).getValue());
+        Assertions.assertEquals("Black Cats", service.getPropertyStore().get("test.property"));
+        Assertions.assertEquals("10s", service.getProperties().get("reload.timeout"));
+        Assertions.assertEquals("5s", previous.get("reload.timeout"));
+        Assertions.assertEquals("x", previous.get("reload.removed"));
+        Assertions.assertEquals(Duration.ofSeconds(5), previousStore.getDuration("reload.timeout"));
+    }
+
+    @Test
+    void shouldRefreshPropertiesAndSendEventWhenFileChanges() throws IOException, InterruptedException {
+        //given
+        Path file = directory.resolve("application.yml");
+        Files.writeString(file, "reload:\n  greeting: hello\n  limit: 1\n");
+        CafeApplicationContext context = CafeApplicationContext.builder()
+                .withPackageScan(CafeConverter.class.getPackageName())
+                .withClass(EventHub.class)
+                .withClass(RefreshableService.class)
+                .withPropertiesDirectory(directory)
+                .withPropertiesReload(Duration.ofMillis(50))
+                .build();
+        context.initialize();
+        RefreshableService service = context.getInstance(RefreshableService.class);
+
+        //when
+        Files.writeString(file, "reload:\n  greeting: hi\n  limit: 2\n");
+        boolean changed = service.changed.await(10, TimeUnit.SECONDS);
+        context.getPropertiesWatcher().close();
+
+        //then
+        Assertions.assertTrue(changed);
+        Assertions.assertEquals(Set.of("reload", "reload.greeting", "reload.limit"), service.changedKeys);
+        Assertions.assertEquals("hi", service.greeting);
+        Assertions.assertEquals(1, service.limit);
+        Assertions.assertEquals(2, context.getPropertyStore().getInt("reload.limit"));
+    }
+
+    @Test
+    void shouldNotDelayReloadForChangesOfOtherFiles() throws IOException, InterruptedException {
+        //given
+        Path file = directory.resolve("application.properties");
+        Files.writeString(file, "reload.name=first\n");
+        CafePropertiesService service = CafePropertiesService.load(new BeansRepository(),
+                Thread.currentThread().getContextClassLoader(), directory);
+        CountDownLatch reloaded = new CountDownLatch(1);
+
+        //when
+        boolean reloadedMeanwhile = false;
+        try (CafePropertiesWatcher ignored = CafePropertiesWatcher.start(service, Duration.ofMillis(300),
+                event -> reloaded.countDown())) {
+            Files.writeString(file, "reload.name=second\n");
+            for (int i = 0; i < 60 && !reloadedMeanwhile; i++) {
+                // e.g. a log file written next to the properties
+                Files.writeString(directory.resolve("application.log"), "line " + i + "\n");
+                reloadedMeanwhile = reloaded.await(50, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        //then
+        Assertions.assertTrue(reloadedMeanwhile);
+        Assertions.assertEquals("second", service.getPropertyStore().getString("reload.name"));
+    }
+
+    @CafeSingleton
+    public static class RefreshableService {
+        final CountDownLatch changed = new CountDownLatch(1);
+
+        volatile Set<String> changedKeys;
+
+        @CafeProperty(name = "reload.greeting", refreshable = true)
+        volatile String greeting;
+
+        @CafeProperty(name = "reload.limit")
+        Integer limit;
+
+        @CafeHandler
+        void onPropertiesChanged(PropertiesChangedEvent event) {
+            // fields are refreshed before the event is sent
+            if ("hi".equals(greeting)) {
+                changedKeys = event.changedKeys();
+                changed.countDown();
+            }
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package org.taranix.cafe.beans.properties;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.taranix.cafe.beans.repositories.beans.BeansRepository;
+import org.taranix.cafe.beans.resolvers.CafePropertiesService;
+import org.taranix.cafe.beans.resolvers.EnvironmentPropertySource;
+import org.taranix.cafe.beans.resolvers.FilePropertySource;
+import org.taranix.cafe.beans.resolvers.PropertySource;
+import org.taranix.cafe.beans.resolvers.SystemPropertySource;
+import org.taranix.cafe.beans.resolvers.YamlSection;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class PropertySourcesTests {
+
+    private static final String DOCUMENT = """
+            server:
+              port: 8080
+              name: cafe
+              limits:
+                connections: 10
+            tags: [a, b]
+            """;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shouldOverrideWithProfilesEnvironmentAndSystemProperties() throws IOException {
+        //given
+        Files.writeString(directory.resolve("application.yml"), DOCUMENT);
+        Files.writeString(directory.resolve("application-dev.properties"), "server.name=dev\nserver.mode=debug\n");
+        Files.writeString(directory.resolve("application-local.yml"), "server:\n  mode: local\n");
+        Properties systemProperties = new Properties();
+        systemProperties.setProperty("server.mode", "system");
+        systemProperties.setProperty("java.version", "17");
+
+        //when
+        Properties properties = CafePropertiesService.load(new BeansRepository(), directory, List.of(
+                        new FilePropertySource(directory, "application", false),
+                        new FilePropertySource(directory, "application-dev", false),
+                        new EnvironmentPropertySource(Map.of("SERVER_PORT", "9090", "UNKNOWN_KEY", "x")),
+                        new FilePropertySource(directory, "application-local", false)),
+                null, false).getProperties();
+        Properties withSystemProperties = CafePropertiesService.load(new BeansRepository(), directory, List.of(
+                        new FilePropertySource(directory, "application", false),
+                        new FilePropertySource(directory, "application-dev", false),
+                        new SystemPropertySource(systemProperties)),
+                null, false).getProperties();
+
+        //then
+        Assertions.assertEquals("9090", properties.get("server.port"));
+        Assertions.assertEquals("dev", properties.get("server.name"));
+        Assertions.assertEquals("local", properties.get("server.mode"));
+        Assertions.assertFalse(properties.containsKey("unknown.key"));
+        Assertions.assertEquals("system", withSystemProperties.get("server.mode"));
+        Assertions.assertFalse(withSystemProperties.containsKey("java.version"));
+    }
+
+    @Test
+    void shouldReadProfileFilesOfDefaultSources() throws IOException {
+        //given
+        Files.writeString(directory.resolve("application.yml"), DOCUMENT);
+        Files.writeString(directory.resolve("application-dev.yml"), "server:\n  name: dev\n");
+
+        //when
+        Properties properties = CafePropertiesService.load(new BeansRepository(), directory,
+                CafePropertiesService.defaultSources(getClass().getClassLoader(), directory, List.of("dev"), false),
+                null, false).getProperties();
+
+        //then
+        Assertions.assertEquals("dev", properties.get("server.name"));
+        Assertions.assertEquals(8080, properties.get("server.port"));
+        Assertions.assertEquals("Black Cats", properties.get("test.property"));
+    }
+
+    @Test
+    void shouldUseCacheWhileSourcesAreUnchanged() throws IOException {
+        //given
+        Path file = directory.resolve("application.yml");
+        Files.writeString(file, DOCUMENT);
+        Path cacheFile = directory.resolve("cache").resolve("properties.bin");
+        CountingSource source = new CountingSource(new FilePropertySource(directory, "application", false));
+        Properties loaded = load(source, cacheFile, false);
+
+        //when
+        Properties cached = load(source, cacheFile, false);
+        Properties lazy = load(source, cacheFile, true);
+        Files.writeString(file, DOCUMENT.replace("8080", "8081"));
+        Properties changed = load(source, cacheFile, false);
+
+        //then
+        Assertions.assertTrue(Files.exists(cacheFile));
+        Assertions.assertEquals(2, source.loads.get());
+        Assertions.assertEquals(loaded, cached);
+        Assertions.assertSame(cached.get("server.limits"), ((Map<?, ?>) cached.get("server")).get("limits"));
+        Assertions.assertEquals(List.of("a", "b"), cached.get("tags"));
+        Assertions.assertEquals(new YamlSection(List.of("port", "name", "limits")), lazy.get("server"));
+        Assertions.assertEquals(8081, changed.get("server.port"));
+    }
+
+    @Test
+    void shouldReloadFileWhenPropertiesCameFromCache() throws IOException {
+        //given
+        Path file = directory.resolve("application.properties");
+        Files.writeString(file, "cache.name=first\ncache.size=1\n");
+        Path cacheFile = directory.resolve("properties.bin");
+        load(new FilePropertySource(directory, "application", false), cacheFile, false);
+        CafePropertiesService service = CafePropertiesService.load(new BeansRepository(), directory,
+                List.of(new FilePropertySource(directory, "application", false)), cacheFile, false);
+
+        //when
+        Files.writeString(file, "cache.name=second\ncache.size=1\n");
+        Set<String> changedKeys = service.reload(file);
+
+        //then
+        Assertions.assertEquals(Set.of("cache.name"), changedKeys);
+        Assertions.assertEquals("second", service.getPropertyStore().getString("cache.name"));
+        Assertions.assertTrue(service.getFiles().contains(file));
+    }
+
+    @Test
+    void shouldNameEnvironmentVariables() {
+        //when-then
+        Assertions.assertEquals("SERVER_PORT", EnvironmentPropertySource.variableName("server.port"));
+        Assertions.assertEquals("CAFE_PROFILES_ACTIVE", EnvironmentPropertySource.variableName("cafe.profiles-active"));
+    }
+
+    private Properties load(PropertySource source, Path cacheFile, boolean lazyYamlSections) {
+        return CafePropertiesService.load(new BeansRepository(), directory, List.of(source), cacheFile, lazyYamlSections)
+                .getProperties();
+    }
+
+    private static class CountingSource implements PropertySource {
+        private final PropertySource source;
+
+        private final AtomicInteger loads = new AtomicInteger();
+
+        private CountingSource(PropertySource source) {
+            this.source = source;
+        }
+
+        @Override
+        public String getName() {
+            return source.getName();
+        }
+
+        @Override
+        public void load(Map<Object, Object> target) {
+            loads.incrementAndGet();
+            source.load(target);
+        }
+
+        @Override
+        public String getFingerprint() {
+            return source.getFingerprint();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package org.taranix.cafe.beans.reflections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
+import org.taranix.cafe.beans.reflection.CafeClassFile;
+import org.taranix.cafe.beans.scanner.ServiceClass;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+class CafeClassFileTest {
+
+    private static byte[] classBytes(Class<?> clazz) throws IOException {
+        try (InputStream inputStream = clazz.getResourceAsStream(clazz.getSimpleName() + ".class")) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    @Test
+    void shouldReadClassAnnotationsWithoutLoadingClass() throws IOException {
+        //given
+        byte[] bytes = classBytes(ServiceClass.class);
+
+        //when
+        CafeClassFile classFile = CafeClassFile.read(bytes);
+
+        //then
+        Assertions.assertEquals(ServiceClass.class.getName(), classFile.className());
+        Assertions.assertEquals(Object.class.getName(), classFile.superClassName());
+        Assertions.assertTrue(classFile.annotationTypeNames().contains(CafeSingleton.class.getName()));
+        Assertions.assertFalse(classFile.isInterface());
+        Assertions.assertFalse(classFile.isRecord());
+    }
+
+    @Test
+    void shouldRecognizeInterfacesAndRecords() throws IOException {
+        //when
+        CafeClassFile annotationFile = CafeClassFile.read(classBytes(CafeSingleton.class));
+        CafeClassFile recordFile = CafeClassFile.read(classBytes(CafeClassFile.class));
+
+        //then
+        Assertions.assertTrue(annotationFile.isInterface());
+        Assertions.assertTrue(recordFile.isRecord());
+    }
+
+    @Test
+    void shouldThrowExceptionForInvalidClassFile() {
+        Assertions.assertThrows(ReflectionUtilsException.class, () -> CafeClassFile.read(new byte[]{1, 2, 3, 4}));
+    }
+}
@@ -0,0 +1,103 @@
+package org.taranix.cafe.beans.reflections;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.taranix.cafe.beans.exceptions.ReflectionUtilsException;
+import org.taranix.cafe.beans.reflection.CafeInvoker;
+import org.taranix.cafe.beans.reflection.MethodHandleInvoker;
+import org.taranix.cafe.beans.reflection.ReflectionInvoker;
+
+import java.util.stream.Stream;
+
+class CafeInvokerTests {
+
+    static Stream<CafeInvoker> invokers() {
+        return Stream.of(new ReflectionInvoker(), new MethodHandleInvoker());
+    }
+
+    @DisplayName("Should instantiate class through private constructor with primitive argument")
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldInstantiate(CafeInvoker invoker) throws NoSuchMethodException {
+        //when
+        Object result = invoker.instantiate(Target.class.getDeclaredConstructor(String.class, int.class), "name", 3);
+
+        //then
+        Target target = Assertions.assertInstanceOf(Target.class, result);
+        Assertions.assertEquals("name3", target.value);
+    }
+
+    @DisplayName("Should invoke instance, static and void methods")
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldInvokeMethods(CafeInvoker invoker) throws NoSuchMethodException {
+        //given
+        Target target = new Target("a", 1);
+
+        //when
+        Object concatenated = invoker.invoke(Target.class.getDeclaredMethod("concat", String.class), target, "b");
+        Object doubled = invoker.invoke(Target.class.getDeclaredMethod("twice", int.class), target, 21);
+        Object nothing = invoker.invoke(Target.class.getDeclaredMethod("clear"), target);
+
+        //then
+        Assertions.assertEquals("a1b", concatenated);
+        Assertions.assertEquals(42, doubled);
+        Assertions.assertNull(nothing);
+        Assertions.assertNull(target.value);
+    }
+
+    @DisplayName("Should set private field")
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldSetField(CafeInvoker invoker) throws NoSuchFieldException {
+        //given
+        Target target = new Target("a", 1);
+
+        //when
+        invoker.setFieldValue(Target.class.getDeclaredField("value"), target, "changed");
+
+        //then
+        Assertions.assertEquals("changed", target.value);
+    }
+
+    @DisplayName("Should wrap exception thrown by the invoked method")
+    @ParameterizedTest
+    @MethodSource("invokers")
+    void shouldWrapThrownException(CafeInvoker invoker) throws NoSuchMethodException {
+        //given
+        Target target = new Target("a", 1);
+
+        //when
+        ReflectionUtilsException exception = Assertions.assertThrows(ReflectionUtilsException.class,
+                () -> invoker.invoke(Target.class.getDeclaredMethod("fail"), target));
+
+        //then
+        Assertions.assertTrue(exception.getMessage().contains("failed on purpose"), exception.getMessage());
+    }
+
+    static class Target {
+        private String value;
+
+        private Target(String name, int number) {
+            this.value = name + number;
+        }
+
+        private static int twice(int number) {
+            return number * 2;
+        }
+
+        private String concat(String suffix) {
+            return value + suffix;
+        }
+
+        private void clear() {
+            value = null;
+        }
+
+        private void fail() {
+            throw new IllegalStateException("failed on purpose");
+        }
+    }
+}
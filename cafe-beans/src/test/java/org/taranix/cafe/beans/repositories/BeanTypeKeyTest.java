@@ -0,0 +1,127 @@
+package org.taranix.cafe.beans.repositories;
+
+import org.apache.commons.lang3.reflect.TypeUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+class BeanTypeKeyTest {
+
+    private Set<String> strings;
+
+    private List<Map<String, Integer>> nested;
+
+    @DisplayName("Should return the same key instance for the same type and identifier")
+    @Test
+    void shouldInternClassKeys() {
+        //when
+        BeanTypeKey first = BeanTypeKey.from(String.class);
+        BeanTypeKey second = BeanTypeKey.from(String.class, "");
+
+        //then
+        Assertions.assertSame(first, second);
+        Assertions.assertNotSame(first, BeanTypeKey.from(String.class, "named"));
+        Assertions.assertNotEquals(first, BeanTypeKey.from(String.class, "named"));
+    }
+
+    @DisplayName("Should return the same key instance for parameterized types built by different implementations")
+    @Test
+    void shouldInternParameterizedKeys() throws NoSuchFieldException {
+        //given
+        Type fieldType = BeanTypeKeyTest.class.getDeclaredField("strings").getGenericType();
+
+        //when
+        BeanTypeKey fromField = BeanTypeKey.from(fieldType);
+        BeanTypeKey fromClass = BeanTypeKey.from(Set.class, String.class);
+
+        //then
+        Assertions.assertSame(fromField, fromClass);
+        Assertions.assertEquals(fromField.hashCode(), fromClass.hashCode());
+        Assertions.assertNotSame(BeanTypeKey.from(Set.class), fromClass);
+    }
+
+    @DisplayName("Should compare nested type arguments by content")
+    @Test
+    void shouldInternNestedParameterizedKeys() throws NoSuchFieldException {
+        //given
+        Type fieldType = BeanTypeKeyTest.class.getDeclaredField("nested").getGenericType();
+        Type built = TypeUtils.parameterize(List.class, TypeUtils.parameterize(Map.class, String.class, Integer.class));
+
+        //when
+        BeanTypeKey fromField = BeanTypeKey.from(fieldType, "id");
+        BeanTypeKey fromBuilt = BeanTypeKey.from(built, "id");
+
+        //then
+        Assertions.assertSame(fromField, fromBuilt);
+        Assertions.assertSame(BeanTypeKey.from(Map.class, "id", String.class, Integer.class), fromBuilt.getElementTypeKey());
+    }
+
+    @DisplayName("Should not keep keys of classes of a discarded class loader")
+    @Test
+    void shouldReleaseKeysOfDiscardedClassLoader() throws Exception {
+        //given
+        WeakReference<ClassLoader> loader = internKeysOfIsolatedClass();
+
+        //when
+        for (int i = 0; i < 100 && loader.get() != null; i++) {
+            System.gc();
+            // interning more keys purges the collected ones
+            BeanTypeKey.from(Integer.class, "purge-" + i);
+            Thread.sleep(10);
+        }
+
+        //then
+        Assertions.assertNull(loader.get());
+    }
+
+    private static WeakReference<ClassLoader> internKeysOfIsolatedClass() throws Exception {
+        IsolatedClassLoader loader = new IsolatedClassLoader();
+        Class<?> isolatedClass = loader.loadClass(IsolatedBean.class.getName());
+        Assertions.assertNotSame(IsolatedBean.class, isolatedClass);
+        BeanTypeKey.from(isolatedClass);
+        BeanTypeKey.from(isolatedClass, "named");
+        BeanTypeKey.from(List.class, isolatedClass);
+        return new WeakReference<>(loader);
+    }
+
+    public static class IsolatedBean {
+    }
+
+    /**
+     * Defines its own copy of {@link IsolatedBean}.
+     */
+    private static class IsolatedClassLoader extends ClassLoader {
+
+        private IsolatedClassLoader() {
+            super(BeanTypeKeyTest.class.getClassLoader());
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(IsolatedBean.class.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (InputStream classFile = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    byte[] bytes = classFile.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package org.taranix.cafe.beans.repositories;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.exceptions.BeansRepositoryException;
+import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
+import org.taranix.cafe.beans.repositories.beans.ConcurrentBeansRepository;
+import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
+import org.taranix.cafe.beans.repositories.typekeys.TypeKey;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConcurrentBeansRepositoryTest {
+
+    private static final int THREADS = 8;
+
+    @DisplayName("Should return one value from many instance of the same typekey if one is marked as primary")
+    @Test
+    void shouldPickupPrimaryValue() {
+        //given
+        Repository<TypeKey, BeanRepositoryEntry> repository = new ConcurrentBeansRepository();
+        repository.set(BeanTypeKey.from(String.class), BeanRepositoryEntry.builder().value("I'm primary").primary(true).build());
+        repository.set(BeanTypeKey.from(String.class), BeanRepositoryEntry.builder().value("I'm secondary").primary(false).build());
+
+        //when
+        String result = (String) repository.getOne(BeanTypeKey.from(String.class)).getValue();
+
+        //then
+        Assertions.assertEquals("I'm primary", result);
+        Assertions.assertEquals(2, repository.getMany(BeanTypeKey.from(String.class)).size());
+        Assertions.assertTrue(repository.contains(BeanTypeKey.from(String.class)));
+    }
+
+    @DisplayName("Should throw exception when no values is set for given typekey")
+    @Test
+    void shouldThrowExceptionWhenWhenNoValueIsSet() {
+        //given
+        Repository<TypeKey, BeanRepositoryEntry> repository = new ConcurrentBeansRepository();
+
+        //when-then
+        Assertions.assertFalse(repository.contains(BeanTypeKey.from(String.class)));
+        Assertions.assertTrue(repository.getMany(BeanTypeKey.from(String.class)).isEmpty());
+        Assertions.assertThrowsExactly(BeansRepositoryException.class, () -> repository.getOne(BeanTypeKey.from(String.class)));
+    }
+
+    @DisplayName("Should keep a view returned by getMany unchanged by later writes")
+    @Test
+    void shouldReturnStableView() {
+        //given
+        Repository<TypeKey, BeanRepositoryEntry> repository = new ConcurrentBeansRepository();
+        repository.set(BeanTypeKey.from(String.class), BeanRepositoryEntry.builder().value("first").build());
+        Collection<BeanRepositoryEntry> view = repository.getMany(BeanTypeKey.from(String.class));
+
+        //when
+        repository.set(BeanTypeKey.from(String.class), BeanRepositoryEntry.builder().value("second").build());
+
+        //then
+        Assertions.assertEquals(1, view.size());
+        Assertions.assertEquals(2, repository.getMany(BeanTypeKey.from(String.class)).size());
+        Assertions.assertThrows(UnsupportedOperationException.class, view::clear);
+    }
+
+    @DisplayName("Should accept only one primary entry when many threads set primary entries at once")
+    @Test
+    void shouldAcceptOnePrimaryOnConcurrentSet() {
+        //given
+        Repository<TypeKey, BeanRepositoryEntry> repository = new ConcurrentBeansRepository();
+        CyclicBarrier barrier = new CyclicBarrier(THREADS);
+        AtomicInteger rejected = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        //when
+        try {
+            for (int i = 0; i < THREADS; i++) {
+                String value = "value-" + i;
+                futures.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        barrier.await();
+                        repository.set(BeanTypeKey.from(String.class), BeanRepositoryEntry.builder().value(value).primary(true).build());
+                    } catch (BeansRepositoryException e) {
+                        rejected.incrementAndGet();
+                    } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                    }
+                }, executor));
+            }
+            futures.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        //then
+        Assertions.assertEquals(1, repository.getMany(BeanTypeKey.from(String.class)).size());
+        Assertions.assertEquals(THREADS - 1, rejected.get());
+    }
+}
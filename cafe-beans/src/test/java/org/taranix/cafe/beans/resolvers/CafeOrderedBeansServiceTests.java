@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
 import org.taranix.cafe.beans.annotations.fields.CafeInject;
 import org.taranix.cafe.beans.annotations.methods.CafeProvider;
+import org.taranix.cafe.beans.metadata.CafeClass;
 import org.taranix.cafe.beans.metadata.CafeMember;
 import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
 import org.taranix.cafe.beans.services.CafeOrderedBeansService;
@@ -94,6 +95,48 @@ class CafeOrderedBeansServiceTests {
         Assertions.assertTrue(ordered.get(4).isField());
     }
 
+    @Test
+    void shouldOrderDiamondClassesProvidersFirst() {
+        //given
+        CafeMetadataRegistry cafeMetadataRegistry = CafeMetadataRegistry.builder()
+                .withClass(DiamondTop.class)
+                .withClass(DiamondRight.class)
+                .withClass(DiamondLeft.class)
+                .withClass(DiamondBottom.class)
+                .build();
+        CafeOrderedBeansService orderDescriptor = CafeOrderedBeansService.from(cafeMetadataRegistry);
+
+        //when
+        List<CafeClass> ordered = orderDescriptor.orderedClasses();
+
+        //then
+        Assertions.assertEquals(List.of(DiamondBottom.class, DiamondLeft.class, DiamondRight.class, DiamondTop.class),
+                ordered.stream().map(CafeClass::getRootClass).toList());
+        Assertions.assertSame(ordered, orderDescriptor.orderedClasses());
+    }
+
+    @CafeSingleton
+    static class DiamondBottom {
+    }
+
+    @CafeSingleton
+    static class DiamondLeft {
+        DiamondLeft(DiamondBottom bottom) {
+        }
+    }
+
+    @CafeSingleton
+    static class DiamondRight {
+        DiamondRight(DiamondBottom bottom) {
+        }
+    }
+
+    @CafeSingleton
+    static class DiamondTop {
+        DiamondTop(DiamondLeft left, DiamondRight right) {
+        }
+    }
+
     static class SubjectClass {
 
     }
@@ -0,0 +1,106 @@
+package org.taranix.cafe.beans.resolvers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.methods.CafeProvider;
+import org.taranix.cafe.beans.exceptions.CafeBeansFactoryException;
+import org.taranix.cafe.beans.metadata.CafeClass;
+import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
+import org.taranix.cafe.beans.metadata.CafeMethod;
+import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
+import org.taranix.cafe.beans.resolvers.metadata.method.CafeMethodResolver;
+
+import java.lang.annotation.Annotation;
+import java.util.Set;
+
+class CafeResolversTests {
+
+    @Test
+    @DisplayName("Should cache the resolver chosen for a descriptor")
+    void shouldCacheDispatch() {
+        //given
+        CafeMetadataRegistry metadataRegistry = CafeMetadataRegistry.builder()
+                .withClass(EagerService.class)
+                .build();
+        CafeClass cafeClass = metadataRegistry.getClassMetadata(EagerService.class);
+        CafeResolvers resolvers = new CafeResolvers();
+
+        //when
+        resolvers.freeze(metadataRegistry);
+
+        //then
+        Assertions.assertSame(resolvers.findClassResolver(cafeClass), resolvers.findClassResolver(cafeClass));
+        Assertions.assertSame(resolvers.findConstructorResolver(cafeClass.getConstructor()),
+                resolvers.findConstructorResolver(cafeClass.getConstructor()));
+        Assertions.assertSame(resolvers.findBeanTypekeyResolver(BeanTypeKey.from(String.class)),
+                resolvers.findBeanTypekeyResolver(BeanTypeKey.from(String.class)));
+    }
+
+    @Test
+    @DisplayName("Should refuse new resolvers once frozen")
+    void shouldRefuseResolversOnceFrozen() {
+        //given
+        CafeResolvers resolvers = new CafeResolvers();
+        resolvers.freeze(CafeMetadataRegistry.builder().build());
+
+        //when-then
+        Assertions.assertThrows(CafeBeansFactoryException.class, () -> resolvers.add(new AmbiguousProviderResolver()));
+    }
+
+    @Test
+    @DisplayName("Should report ambiguous resolvers before any bean is created")
+    void shouldDetectAmbiguityEagerly() {
+        //given
+        EagerService.instances = 0;
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(EagerService.class)
+                .withClass(AmbiguousProvider.class)
+                .withMethodResolver(Set.of(new AmbiguousProviderResolver()))
+                .build();
+
+        //when
+        RuntimeException exception = Assertions.assertThrows(RuntimeException.class, cafeApplicationContext::initialize);
+
+        //then
+        Assertions.assertTrue(exception.getMessage().contains("Too many resolvers"), exception.getMessage());
+        Assertions.assertEquals(0, EagerService.instances);
+    }
+
+    @CafeSingleton
+    static class EagerService {
+        static int instances = 0;
+
+        EagerService() {
+            instances++;
+        }
+    }
+
+    @CafeSingleton
+    static class AmbiguousProvider {
+        @CafeProvider
+        String value() {
+            return "value";
+        }
+    }
+
+    static class AmbiguousProviderResolver implements CafeMethodResolver {
+
+        @Override
+        public Object resolve(Object instance, CafeMethod methodInfo, CafeBeansFactory cafeBeansFactory) {
+            return null;
+        }
+
+        @Override
+        public boolean isApplicable(CafeMethod methodInfo) {
+            return true;
+        }
+
+        @Override
+        public boolean supports(Class<? extends Annotation> annotation) {
+            return CafeProvider.class.equals(annotation);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package org.taranix.cafe.beans.resolvers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafePrototype;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.fields.CafeInject;
+import org.taranix.cafe.beans.annotations.methods.CafeProvider;
+
+import java.util.Set;
+
+class CompiledFactoriesTests {
+
+    @Test
+    @DisplayName("Should create prototype beans with constructor and field dependencies through compiled factories")
+    void shouldCreatePrototypes() {
+        //given
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(SharedService.class)
+                .withClass(PrototypePart.class)
+                .withClass(PrototypeBean.class)
+                .withCompiledFactories()
+                .build();
+        cafeApplicationContext.initialize();
+
+        //when
+        PrototypeBean first = cafeApplicationContext.getInstance(PrototypeBean.class);
+        PrototypeBean second = cafeApplicationContext.getInstance(PrototypeBean.class);
+
+        //then
+        Assertions.assertNotSame(first, second);
+        Assertions.assertSame(cafeApplicationContext.getInstance(SharedService.class), first.constructed);
+        Assertions.assertSame(first.constructed, first.injected);
+        Assertions.assertSame(first.constructed, second.constructed);
+        Assertions.assertNotNull(first.part);
+        Assertions.assertNotSame(first.part, second.part);
+        Assertions.assertSame(first.constructed, first.part.sharedService);
+        Assertions.assertEquals(Set.of("provided"), first.values);
+    }
+
+    @Test
+    @DisplayName("Should resolve singletons and their provider methods once through compiled factories")
+    void shouldCreateSingletons() {
+        //given
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(SharedService.class)
+                .withCompiledFactories()
+                .build();
+
+        //when
+        cafeApplicationContext.initialize();
+
+        //then
+        Assertions.assertSame(cafeApplicationContext.getInstance(SharedService.class),
+                cafeApplicationContext.getInstance(SharedService.class));
+        Assertions.assertEquals("provided", cafeApplicationContext.getInstance(String.class));
+    }
+
+    @CafeSingleton
+    static class SharedService {
+        @CafeProvider
+        String value() {
+            return "provided";
+        }
+    }
+
+    @CafePrototype
+    static class PrototypePart {
+        @CafeInject
+        SharedService sharedService;
+    }
+
+    @CafePrototype
+    static class PrototypeBean {
+        final SharedService constructed;
+
+        @CafeInject
+        SharedService injected;
+
+        @CafeInject
+        PrototypePart part;
+
+        @CafeInject
+        Set<String> values;
+
+        PrototypeBean(SharedService constructed) {
+            this.constructed = constructed;
+        }
+    }
+}
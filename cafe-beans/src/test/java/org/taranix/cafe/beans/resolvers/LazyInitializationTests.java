@@ -0,0 +1,352 @@
+package org.taranix.cafe.beans.resolvers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.annotations.fields.CafeInject;
+import org.taranix.cafe.beans.annotations.methods.CafeHandler;
+import org.taranix.cafe.beans.annotations.methods.CafeProvider;
+import org.taranix.cafe.beans.annotations.modifiers.CafeLazy;
+import org.taranix.cafe.beans.annotations.modifiers.CafePrimary;
+import org.taranix.cafe.beans.exceptions.CafeBeansContextException;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class LazyInitializationTests {
+
+    @Test
+    @DisplayName("Should instantiate singletons on first lookup in lazy mode, once.")
+    void shouldInstantiateOnFirstLookup() {
+        //given
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(CountedService.class)
+                .withClass(CountedConsumer.class)
+                .withLazyInitialization()
+                .build();
+
+        //when
+        cafeApplicationContext.initialize();
+        int createdOnInitialize = CountedService.CREATED.get() + CountedConsumer.CREATED.get();
+        CountedConsumer consumer = cafeApplicationContext.getInstance(CountedConsumer.class);
+
+        //then
+        Assertions.assertEquals(0, createdOnInitialize);
+        Assertions.assertSame(cafeApplicationContext.getInstance(CountedService.class), consumer.service);
+        Assertions.assertSame(consumer, cafeApplicationContext.getInstance(CountedConsumer.class));
+        Assertions.assertEquals(1, CountedService.CREATED.get());
+        Assertions.assertEquals(1, CountedConsumer.CREATED.get());
+    }
+
+    @Test
+    @DisplayName("Should defer only classes marked with @CafeLazy in eager mode.")
+    void shouldDeferLazyClasses() {
+        //given
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(EagerService.class)
+                .withClass(LazyService.class)
+                .build();
+
+        //when
+        cafeApplicationContext.initialize();
+
+        //then
+        Assertions.assertEquals(1, EagerService.CREATED.get());
+        Assertions.assertEquals(0, LazyService.CREATED.get());
+        Assertions.assertNotNull(cafeApplicationContext.getInstance(LazyService.class));
+        Assertions.assertEquals(1, LazyService.CREATED.get());
+    }
+
+    @Test
+    @DisplayName("Should validate all classes on initialization in lazy mode.")
+    void shouldValidateUpfront() {
+        //given
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(UnresolvableConsumer.class)
+                .withLazyInitialization()
+                .build();
+
+        //when-then
+        Assertions.assertThrows(CafeBeansContextException.class, cafeApplicationContext::initialize);
+    }
+
+    @Test
+    @DisplayName("Should pick the primary provider even when another provider was instantiated first.")
+    void shouldResolveAllPendingProviders() {
+        //given
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(PrimaryGreeterProvider.class)
+                .withClass(OtherGreeterProvider.class)
+                .withLazyInitialization()
+                .build();
+        cafeApplicationContext.initialize();
+
+        //when
+        OtherGreeterProvider other = cafeApplicationContext.getInstance(OtherGreeterProvider.class);
+        Greeter greeter = cafeApplicationContext.getInstance(Greeter.class);
+
+        //then
+        Assertions.assertNotNull(other);
+        Assertions.assertEquals("primary", greeter.greet());
+    }
+
+    @Test
+    @DisplayName("Should instantiate classes with event handlers on initialization in lazy mode.")
+    void shouldKeepHandlersEager() {
+        //given
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(HandlingService.class)
+                .withLazyInitialization()
+                .build();
+
+        //when
+        cafeApplicationContext.initialize();
+
+        //then
+        Assertions.assertEquals(1, HandlingService.CREATED.get());
+    }
+
+    @Test
+    @DisplayName("Should let concurrent lookups wait until a deferred singleton is fully injected.")
+    void shouldWaitForDeferredResolutionOfOtherThread() {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(SlowDependency.class)
+                .withClass(DeferredService.class)
+                .withClass(HandlingConsumerA.class)
+                .withClass(HandlingConsumerB.class)
+                .withParallelInstantiation(executor)
+                .withLazyInitialization()
+                .build();
+
+        //when
+        cafeApplicationContext.initialize();
+        executor.shutdown();
+
+        //then
+        HandlingConsumerA consumerA = cafeApplicationContext.getInstance(HandlingConsumerA.class);
+        HandlingConsumerB consumerB = cafeApplicationContext.getInstance(HandlingConsumerB.class);
+        Assertions.assertSame(consumerA.service, consumerB.service);
+        Assertions.assertNotNull(consumerA.dependencyOnInjection);
+        Assertions.assertNotNull(consumerB.dependencyOnInjection);
+    }
+
+    @Test
+    @DisplayName("Should inject a collection of deferred singletons only once they are fully resolved by another thread.")
+    void shouldWaitForDeferredResolutionOfCollectionElements() {
+        //given
+        SlowPlugin.PROVIDED.set(0);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(SlowDependency.class)
+                .withClass(SlowPlugin.class)
+                .withClass(PluginDelay.class)
+                .withClass(HandlingPluginsConsumer.class)
+                .withClass(HandlingPluginConsumer.class)
+                .withParallelInstantiation(executor)
+                .withLazyInitialization()
+                .build();
+
+        //when
+        cafeApplicationContext.initialize();
+        executor.shutdown();
+
+        //then
+        HandlingPluginsConsumer pluginsConsumer = cafeApplicationContext.getInstance(HandlingPluginsConsumer.class);
+        HandlingPluginConsumer pluginConsumer = cafeApplicationContext.getInstance(HandlingPluginConsumer.class);
+        Assertions.assertEquals(List.of(pluginConsumer.plugin), pluginsConsumer.plugins);
+        Assertions.assertNotNull(pluginsConsumer.dependencyOnInjection);
+        Assertions.assertNotNull(pluginConsumer.dependencyOnInjection);
+        Assertions.assertEquals(1, SlowPlugin.PROVIDED.get());
+    }
+
+    @CafeSingleton
+    static class CountedService {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        CountedService() {
+            CREATED.incrementAndGet();
+        }
+    }
+
+    @CafeSingleton
+    static class CountedConsumer {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        @CafeInject
+        private CountedService service;
+
+        CountedConsumer() {
+            CREATED.incrementAndGet();
+        }
+    }
+
+    @CafeSingleton
+    static class EagerService {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        EagerService() {
+            CREATED.incrementAndGet();
+        }
+    }
+
+    @CafeLazy
+    @CafeSingleton
+    static class LazyService {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        LazyService() {
+            CREATED.incrementAndGet();
+        }
+    }
+
+    @CafeSingleton
+    static class UnresolvableConsumer {
+        @CafeInject
+        private Runnable missing;
+    }
+
+    interface Greeter {
+        String greet();
+    }
+
+    @CafeSingleton
+    static class PrimaryGreeterProvider {
+        @CafePrimary
+        @CafeProvider
+        Greeter greeter() {
+            return () -> "primary";
+        }
+    }
+
+    @CafeSingleton
+    static class OtherGreeterProvider {
+        @CafeProvider
+        Greeter greeter() {
+            return () -> "other";
+        }
+    }
+
+    @CafeSingleton
+    static class HandlingService {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        HandlingService() {
+            CREATED.incrementAndGet();
+        }
+
+        @CafeHandler
+        void onEvent(String event) {
+        }
+    }
+
+    @CafeSingleton
+    static class SlowDependency {
+        SlowDependency() throws InterruptedException {
+            Thread.sleep(300);
+        }
+    }
+
+    @CafeSingleton
+    static class DeferredService {
+        @CafeInject
+        private SlowDependency dependency;
+    }
+
+    @CafeSingleton
+    static class HandlingConsumerA {
+        private final DeferredService service;
+
+        private final SlowDependency dependencyOnInjection;
+
+        HandlingConsumerA(DeferredService service) {
+            this.service = service;
+            this.dependencyOnInjection = service.dependency;
+        }
+
+        @CafeHandler
+        void onEvent(Integer event) {
+        }
+    }
+
+    @CafeSingleton
+    static class HandlingConsumerB {
+        private final DeferredService service;
+
+        private final SlowDependency dependencyOnInjection;
+
+        HandlingConsumerB(DeferredService service) {
+            this.service = service;
+            this.dependencyOnInjection = service.dependency;
+        }
+
+        @CafeHandler
+        void onEvent(Integer event) {
+        }
+    }
+
+    interface Plugin {
+    }
+
+    record PluginName(String value) {
+    }
+
+    @CafeSingleton
+    static class SlowPlugin implements Plugin {
+        static final AtomicInteger PROVIDED = new AtomicInteger();
+
+        @CafeInject
+        private SlowDependency dependency;
+
+        @CafeProvider
+        PluginName name() {
+            PROVIDED.incrementAndGet();
+            return new PluginName("slow");
+        }
+    }
+
+    @CafeSingleton
+    static class HandlingPluginsConsumer {
+        private final List<Plugin> plugins;
+
+        private final SlowDependency dependencyOnInjection;
+
+        HandlingPluginsConsumer(List<Plugin> plugins) {
+            this.plugins = plugins;
+            this.dependencyOnInjection = ((SlowPlugin) plugins.get(0)).dependency;
+        }
+
+        @CafeHandler
+        void onEvent(Integer event) {
+        }
+    }
+
+    @CafeSingleton
+    static class PluginDelay {
+        PluginDelay() throws InterruptedException {
+            Thread.sleep(100);
+        }
+    }
+
+    @CafeSingleton
+    static class HandlingPluginConsumer {
+        private final SlowPlugin plugin;
+
+        private final SlowDependency dependencyOnInjection;
+
+        // looks the plugin up while the other consumer is injecting its list
+        HandlingPluginConsumer(PluginDelay delay, SlowPlugin plugin) {
+            this.plugin = plugin;
+            this.dependencyOnInjection = plugin.dependency;
+        }
+
+        @CafeHandler
+        void onEvent(Integer event) {
+        }
+    }
+}
@@ -10,6 +10,8 @@ import org.taranix.cafe.beans.annotations.methods.CafeProvider;
 import org.taranix.cafe.beans.resolvers.metadata.method.SingletonHandlerMethodResolver;
 import org.taranix.cafe.beans.resolvers.metadata.method.SingletonWireMethodResolver;
 
+import java.lang.reflect.Method;
+
 class MethodResolverTest {
 
     // --- SingletonHandlerMethodResolver.supports ---
@@ -80,6 +82,25 @@ class MethodResolverTest {
         Assertions.assertEquals(1, CountingProvider.callCount);
     }
 
+    @Test
+    @DisplayName("CafeBeansFactory: executed @CafeProvider method is tracked by its source")
+    void providerMethodTrackedBySource() throws NoSuchMethodException {
+        //given
+        CafeApplicationContext ctx = CafeApplicationContext.builder()
+                .withClass(ProviderClass.class)
+                .build();
+        CafeBeansFactory beansFactory = ctx.getBeansFactory();
+        Method provider = ProviderClass.class.getDeclaredMethod("value");
+        Assertions.assertFalse(beansFactory.hasBeenExecuted(provider));
+
+        //when
+        ctx.initialize();
+
+        //then
+        Assertions.assertTrue(beansFactory.hasBeenExecuted(provider));
+        Assertions.assertFalse(beansFactory.hasBeenExecuted(CountingProvider.class.getDeclaredMethod("value")));
+    }
+
     // --- Fixture classes ---
 
     @CafeSingleton
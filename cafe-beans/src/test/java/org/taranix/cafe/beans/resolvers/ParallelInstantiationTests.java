@@ -0,0 +1,111 @@
+package org.taranix.cafe.beans.resolvers;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+class ParallelInstantiationTests {
+
+    @Test
+    @DisplayName("Should instantiate independent singletons concurrently and share their common dependency.")
+    void shouldInstantiateLayerConcurrently() {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                .withClass(SharedService.class)
+                .withClass(WaitingServiceA.class)
+                .withClass(WaitingServiceB.class)
+                .withParallelInstantiation(executor)
+                .build();
+
+        //when
+        cafeApplicationContext.initialize();
+        executor.shutdown();
+
+        //then
+        WaitingServiceA serviceA = cafeApplicationContext.getInstance(WaitingServiceA.class);
+        WaitingServiceB serviceB = cafeApplicationContext.getInstance(WaitingServiceB.class);
+        Assertions.assertNotNull(serviceA);
+        Assertions.assertNotNull(serviceB);
+        Assertions.assertSame(serviceA.sharedService, serviceB.sharedService);
+        Assertions.assertSame(cafeApplicationContext.getInstance(SharedService.class), serviceA.sharedService);
+    }
+
+    @Test
+    @DisplayName("Should report the failure of the first class in the layer, whatever the thread scheduling.")
+    void shouldReportFailuresDeterministically() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        for (int i = 0; i < 10; i++) {
+            //given
+            CafeApplicationContext cafeApplicationContext = CafeApplicationContext.builder()
+                    .withClass(FailingServiceB.class)
+                    .withClass(FailingServiceA.class)
+                    .withParallelInstantiation(executor)
+                    .build();
+
+            //when
+            RuntimeException exception = Assertions.assertThrows(RuntimeException.class, cafeApplicationContext::initialize);
+
+            //then
+            Assertions.assertTrue(exception.getMessage().contains(FailingServiceA.class.getName()), exception.getMessage());
+            Assertions.assertEquals(1, exception.getSuppressed().length);
+        }
+        executor.shutdown();
+    }
+
+    private static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+    private static void awaitOtherService() {
+        try {
+            // Fails when the other service is not being created at the same time
+            BARRIER.await(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException("Services were not created concurrently", e);
+        }
+    }
+
+    @CafeSingleton
+    static class SharedService {
+    }
+
+    @CafeSingleton
+    static class WaitingServiceA {
+        private final SharedService sharedService;
+
+        WaitingServiceA(SharedService sharedService) {
+            this.sharedService = sharedService;
+            awaitOtherService();
+        }
+    }
+
+    @CafeSingleton
+    static class WaitingServiceB {
+        private final SharedService sharedService;
+
+        WaitingServiceB(SharedService sharedService) {
+            this.sharedService = sharedService;
+            awaitOtherService();
+        }
+    }
+
+    @CafeSingleton
+    static class FailingServiceA {
+        FailingServiceA() {
+            throw new IllegalStateException("A failed");
+        }
+    }
+
+    @CafeSingleton
+    static class FailingServiceB {
+        FailingServiceB() {
+            throw new IllegalStateException("B failed");
+        }
+    }
+}
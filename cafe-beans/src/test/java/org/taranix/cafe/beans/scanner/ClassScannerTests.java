@@ -5,6 +5,11 @@ import org.junit.jupiter.api.Test;
 import org.taranix.cafe.beans.CafeApplicationContext;
 import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
 import org.taranix.cafe.beans.reflection.ClassScanner;
+import org.taranix.cafe.beans.reflection.ScanMode;
+import org.taranix.cafe.beans.scanner.indexed.IndexedService;
+import org.taranix.cafe.beans.scanner.indexed.NotIndexedService;
+
+import java.util.Set;
 
 public class ClassScannerTests {
 
@@ -44,4 +49,55 @@ public class ClassScannerTests {
         Assertions.assertEquals(13L, service.getMagicNumber());
     }
 
+    @Test
+    void shouldLoadOnlyIndexedClassesInIndexMode() {
+        //given
+        ClassScanner classScanner = ClassScanner.getInstance(ScanMode.INDEX);
+
+        //when
+        Set<Class<?>> result = classScanner.scan("org.taranix.cafe.beans.scanner.indexed");
+
+        //then
+        Assertions.assertEquals(Set.of(IndexedService.class), result);
+    }
+
+    @Test
+    void shouldFindNotIndexedClassesInClasspathMode() {
+        //given
+        ClassScanner classScanner = ClassScanner.getInstance(ScanMode.CLASSPATH);
+
+        //when
+        Set<Class<?>> result = classScanner.scan("org.taranix.cafe.beans.scanner.indexed");
+
+        //then
+        Assertions.assertEquals(Set.of(IndexedService.class, NotIndexedService.class), result);
+    }
+
+    @Test
+    void shouldFallbackToClasspathScanningForPackagesWithoutIndex() {
+        //given
+        ClassScanner classScanner = ClassScanner.getInstance(ScanMode.INDEX);
+
+        //when
+        Set<Class<?>> result = classScanner.scan("org.taranix.cafe.beans.converters");
+
+        //then
+        Assertions.assertFalse(result.isEmpty());
+    }
+
+    @Test
+    void shouldFindSameClassesInBytecodeModeAsInClasspathMode() {
+        //given
+        ClassScanner bytecodeScanner = ClassScanner.getInstance(ScanMode.BYTECODE);
+        ClassScanner classpathScanner = ClassScanner.getInstance(ScanMode.CLASSPATH);
+
+        //when
+        Set<Class<?>> result = bytecodeScanner.scan("org.taranix.cafe.beans.scanner");
+
+        //then
+        Assertions.assertEquals(classpathScanner.scan("org.taranix.cafe.beans.scanner"), result);
+        Assertions.assertTrue(result.contains(ServiceClass.class));
+        Assertions.assertTrue(result.contains(NotIndexedService.class));
+    }
+
 }
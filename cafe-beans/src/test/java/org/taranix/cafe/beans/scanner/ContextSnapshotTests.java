@@ -0,0 +1,172 @@
+package org.taranix.cafe.beans.scanner;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.taranix.cafe.beans.CafeApplicationContext;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+import org.taranix.cafe.beans.services.CafeContextSnapshot;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+class ContextSnapshotTests {
+
+    private static final String PACKAGE = "org.taranix.cafe.beans.scanner";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Should write a snapshot on first startup and restore it on the next one.")
+    void shouldRestoreSnapshot() {
+        //given
+        Path snapshotFile = directory.resolve("context.snapshot");
+        CafeApplicationContext first = CafeApplicationContext.builder()
+                .withPackageScan(PACKAGE)
+                .withSnapshot(snapshotFile)
+                .build();
+        first.initialize();
+
+        //when
+        CafeApplicationContext second = CafeApplicationContext.builder()
+                .withPackageScan(PACKAGE)
+                .withSnapshot(snapshotFile)
+                .build();
+        second.initialize();
+
+        //then
+        Assertions.assertFalse(first.isRestoredFromSnapshot());
+        Assertions.assertTrue(Files.exists(snapshotFile));
+        Assertions.assertTrue(second.isRestoredFromSnapshot());
+        Assertions.assertEquals(13L, second.getInstance(ServiceClass.class).getMagicNumber());
+        Assertions.assertEquals(
+                first.getBeansFactory().getResolvers().getAssignments(),
+                second.getBeansFactory().getResolvers().getAssignments());
+    }
+
+    @Test
+    @DisplayName("Should ignore and rewrite a snapshot taken with other inputs.")
+    void shouldIgnoreSnapshotOfOtherInputs() {
+        //given
+        Path snapshotFile = directory.resolve("context.snapshot");
+        CafeApplicationContext.builder()
+                .withPackageScan(PACKAGE)
+                .withSnapshot(snapshotFile)
+                .build()
+                .initialize();
+
+        //when
+        CafeApplicationContext changed = CafeApplicationContext.builder()
+                .withPackageScan(PACKAGE)
+                .withClass(ExtraService.class)
+                .withSnapshot(snapshotFile)
+                .build();
+        changed.initialize();
+        CafeApplicationContext restarted = CafeApplicationContext.builder()
+                .withPackageScan(PACKAGE)
+                .withClass(ExtraService.class)
+                .withSnapshot(snapshotFile)
+                .build();
+        restarted.initialize();
+
+        //then
+        Assertions.assertFalse(changed.isRestoredFromSnapshot());
+        Assertions.assertTrue(restarted.isRestoredFromSnapshot());
+        Assertions.assertNotNull(restarted.getInstance(ExtraService.class));
+    }
+
+    @Test
+    @DisplayName("Should start from scratch when the snapshot is corrupted.")
+    void shouldIgnoreCorruptedSnapshot() throws IOException {
+        //given
+        Path snapshotFile = directory.resolve("context.snapshot");
+        Files.write(snapshotFile, new byte[]{(byte) 0xCA, (byte) 0xFE, 0x5A, (byte) 0xFE, 0, 0, 0, 1, 0x7F});
+
+        //when
+        CafeApplicationContext context = CafeApplicationContext.builder()
+                .withPackageScan(PACKAGE)
+                .withSnapshot(snapshotFile)
+                .build();
+        context.initialize();
+        CafeApplicationContext restarted = CafeApplicationContext.builder()
+                .withPackageScan(PACKAGE)
+                .withSnapshot(snapshotFile)
+                .build();
+        restarted.initialize();
+
+        //then
+        Assertions.assertFalse(context.isRestoredFromSnapshot());
+        Assertions.assertEquals(13L, context.getInstance(ServiceClass.class).getMagicNumber());
+        Assertions.assertTrue(restarted.isRestoredFromSnapshot());
+    }
+
+    @Test
+    @DisplayName("Should ignore the snapshot once a class file or a jar of the classpath changed.")
+    void shouldInvalidateSnapshotWhenClasspathChanges() throws IOException {
+        //given
+        Path classes = Files.createDirectories(directory.resolve("classes/sample"));
+        Path classFile = Files.write(classes.resolve("Service.class"), new byte[]{1, 2, 3});
+        Path jar = directory.resolve("library.jar");
+        writeJar(jar, "first");
+        Path snapshotFile = directory.resolve("context.snapshot");
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{
+                directory.resolve("classes").toUri().toURL(), jar.toUri().toURL()}, null)) {
+            String fingerprint = CafeContextSnapshot.fingerprint(classLoader, List.of());
+            snapshot(fingerprint).write(snapshotFile);
+
+            //when
+            CafeContextSnapshot restored = CafeContextSnapshot.load(snapshotFile, CafeContextSnapshot.fingerprint(classLoader, List.of()));
+            Files.write(classFile, new byte[]{1, 2, 3, 4});
+            Files.setLastModifiedTime(classFile, FileTime.fromMillis(Files.getLastModifiedTime(classFile).toMillis() + 60_000));
+            String classChanged = CafeContextSnapshot.fingerprint(classLoader, List.of());
+            snapshot(classChanged).write(snapshotFile);
+            writeJar(jar, "second version");
+            String jarChanged = CafeContextSnapshot.fingerprint(classLoader, List.of());
+
+            //then
+            Assertions.assertNotNull(restored);
+            Assertions.assertNotEquals(fingerprint, classChanged);
+            Assertions.assertNull(CafeContextSnapshot.load(snapshotFile, fingerprint));
+            Assertions.assertNotEquals(classChanged, jarChanged);
+            Assertions.assertNull(CafeContextSnapshot.load(snapshotFile, jarChanged));
+            try (Stream<Path> files = Files.list(directory)) {
+                Assertions.assertTrue(files.noneMatch(file -> file.toString().endsWith(".tmp")));
+            }
+        }
+    }
+
+    private static CafeContextSnapshot snapshot(String fingerprint) {
+        return CafeContextSnapshot.builder()
+                .fingerprint(fingerprint)
+                .repositoryFingerprint("")
+                .scannedClassNames(List.of("sample.Service"))
+                .classLayers(List.of(List.of("sample.Service")))
+                .resolverAssignments(Map.of())
+                .build();
+    }
+
+    private static void writeJar(Path jar, String content) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("sample/Library.class"));
+            out.write(content.getBytes(StandardCharsets.UTF_8));
+            out.closeEntry();
+        }
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(System.currentTimeMillis() + content.length() * 60_000L));
+    }
+
+    @CafeSingleton
+    static class ExtraService {
+    }
+}
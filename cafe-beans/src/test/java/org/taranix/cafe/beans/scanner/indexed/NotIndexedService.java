@@ -0,0 +1,7 @@
+package org.taranix.cafe.beans.scanner.indexed;
+
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
+
+@CafeSingleton
+public class NotIndexedService {
+}
@@ -11,6 +11,7 @@ import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
 import org.taranix.cafe.beans.repositories.beans.BeansRepository;
 
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -125,6 +126,33 @@ class CafeCycleDetectionValidatorTest {
         Assertions.assertFalse(result.isPresent(), "Expected no validation result for linear dependencies.");
     }
 
+    @Test
+    @DisplayName("Should report every independent cycle with its path.")
+    void shouldReportAllCycles() {
+        // given
+        CafeMetadataRegistry cafeMetadataRegistry = CafeMetadataRegistry.builder()
+                .withClass(ConstructorCycleA.class)
+                .withClass(ConstructorCycleB.class)
+                .withClass(ProvidersWithInternalCycle.class)
+                .build();
+        CafeCycleDetectionValidator validator = new CafeCycleDetectionValidator();
+
+        // when
+        Optional<ValidationResult> result = validator.validate(cafeMetadataRegistry, new BeansRepository());
+        List<List<CafeMember>> memberCycles = cafeMetadataRegistry.getMemberDependencyRegistry().cycles();
+
+        // then
+        Assertions.assertTrue(result.isPresent(), "Expected a validation result due to cycles.");
+        Assertions.assertEquals(2, memberCycles.size(), "Expected both member cycles to be reported.");
+        memberCycles.forEach(path -> {
+            Assertions.assertEquals(3, path.size(), "Expected a path of two members closed by its first member.");
+            Assertions.assertEquals(path.get(0), path.get(path.size() - 1), "Path should end where it starts.");
+            Assertions.assertTrue(result.get().message().contains(path.get(0) + " -> " + path.get(1)),
+                    "Message should contain the cycle path.");
+        });
+        Assertions.assertTrue(result.get().objects().containsAll(cafeMetadataRegistry.getMemberDependencyRegistry().cycleSet()));
+    }
+
     // --- Test Classes ---
 
     static class ValidProvider {
@@ -3,11 +3,15 @@ package org.taranix.cafe.beans.validation;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
 import org.taranix.cafe.beans.metadata.CafeMetadataRegistry;
+import org.taranix.cafe.beans.repositories.beans.BeanRepositoryEntry;
 import org.taranix.cafe.beans.repositories.beans.BeansRepository;
+import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class CafeValidationServiceTest {
 
@@ -62,6 +66,51 @@ class CafeValidationServiceTest {
         Assertions.assertTrue(results.isEmpty());
     }
 
+    @Test
+    @DisplayName("validate: skips validators for classes and repository keys validated before")
+    void skipsValidationOfValidatedClasses() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        CafeValidator counting = (registry, repository) -> {
+            calls.incrementAndGet();
+            return Optional.empty();
+        };
+        CafeValidationService service = new CafeValidationService(Set.of(counting));
+        CafeMetadataRegistry registry = CafeMetadataRegistry.builder().withClass(ValidatedService.class).build();
+        BeansRepository otherRepository = new BeansRepository();
+        otherRepository.set(BeanTypeKey.from(String.class), BeanRepositoryEntry.builder().value("value").build());
+
+        //when
+        service.validate(registry, EMPTY_REPO);
+        service.validate(CafeMetadataRegistry.builder().withClass(ValidatedService.class).build(), EMPTY_REPO);
+        int callsForSameInput = calls.get();
+        service.validate(registry, otherRepository);
+
+        //then
+        Assertions.assertEquals(1, callsForSameInput);
+        Assertions.assertEquals(2, calls.get());
+    }
+
+    @Test
+    @DisplayName("validate: validates again after a failure")
+    void doesNotRememberFailedValidation() {
+        //given
+        AtomicInteger calls = new AtomicInteger();
+        CafeValidator failing = (registry, repository) -> {
+            calls.incrementAndGet();
+            return Optional.of(ValidationResult.builder().message("failure").objects(Set.of()).build());
+        };
+        CafeValidationService service = new CafeValidationService(Set.of(failing));
+
+        //when
+        service.validate(EMPTY_REGISTRY, EMPTY_REPO);
+        Set<ValidationResult> results = service.validate(EMPTY_REGISTRY, EMPTY_REPO);
+
+        //then
+        Assertions.assertEquals(2, calls.get());
+        Assertions.assertEquals(1, results.size());
+    }
+
     @Test
     @DisplayName("CafeValidationResultFormatter.format: returns non-empty string for failing results")
     void formatterReturnsNonEmptyStringForFailures() {
@@ -86,4 +135,8 @@ class CafeValidationServiceTest {
         String formatted = CafeValidationResultFormatter.format(null);
         Assertions.assertTrue(formatted.isEmpty());
     }
+
+    @CafeSingleton
+    static class ValidatedService {
+    }
 }
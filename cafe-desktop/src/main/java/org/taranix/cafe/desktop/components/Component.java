@@ -1,5 +1,9 @@
 package org.taranix.cafe.desktop.components;
 
+/**
+ * A desktop component. Components created by {@link ComponentFactory} are unregistered from the
+ * {@link org.taranix.cafe.beans.events.EventHub} when their widget is disposed.
+ */
 public interface Component {
     void dispose();
 
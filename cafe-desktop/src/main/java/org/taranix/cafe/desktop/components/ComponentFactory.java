@@ -4,6 +4,7 @@ import org.eclipse.swt.widgets.Composite;
 import org.eclipse.swt.widgets.Widget;
 import org.taranix.cafe.beans.annotations.classes.CafeSingleton;
 import org.taranix.cafe.beans.annotations.fields.CafeInject;
+import org.taranix.cafe.beans.events.EventHub;
 import org.taranix.cafe.beans.repositories.typekeys.BeanTypeKey;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
 import org.taranix.cafe.desktop.annotations.CafeComponent;
@@ -16,11 +17,19 @@ public class ComponentFactory {
     @CafeInject
     private CafeBeansFactory factory;
 
+    @CafeInject
+    private EventHub eventHub;
+
     public Widget create(Class<? extends Component> componentType, Composite parent) {
         Component component = (Component) factory.getBeanOrNull(BeanTypeKey.from(componentType));
         Form form = getForm(component, componentType);
         Widget widget = form.create(parent);
         widget.setData(COMPONENT, component);
+        // handlers of a disposed component must not receive events until the GC collects it
+        widget.addDisposeListener(e -> {
+            eventHub.unregister(component);
+            eventHub.unregister(form);
+        });
         return widget;
     }
 
@@ -67,6 +67,14 @@ public class CafeCommandClassResolver extends AbstractClassResolver {
         // Methods are resolved on demand by CafeCommandRuntimeService.run(), not during context init.
     }
 
+    /**
+     * Commands register their options and bindings on resolution, so they are never deferred.
+     */
+    @Override
+    public boolean isLazyResolvable() {
+        return false;
+    }
+
     @Override
     public boolean isApplicable(CafeClass cafeClass) {
         return true;
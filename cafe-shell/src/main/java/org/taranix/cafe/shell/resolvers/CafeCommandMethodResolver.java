@@ -3,13 +3,11 @@ package org.taranix.cafe.shell.resolvers;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.taranix.cafe.beans.metadata.CafeMethod;
-import org.taranix.cafe.beans.reflection.CafeReflectionUtils;
 import org.taranix.cafe.beans.resolvers.CafeBeansFactory;
 import org.taranix.cafe.beans.resolvers.metadata.method.PrototypeWireMethodResolver;
 import org.taranix.cafe.shell.annotations.CafeCommandRun;
 
 import java.lang.annotation.Annotation;
-import java.util.Arrays;
 import java.util.Objects;
 
 
@@ -31,10 +29,10 @@ public class CafeCommandMethodResolver extends PrototypeWireMethodResolver {
 
     @Override
     protected Object executeMethod(Object instance, CafeMethod methodInfo, CafeBeansFactory cafeBeansFactory) {
-        Object[] arguments = Arrays.stream(methodInfo.getMethodParameterTypeKeys())
+        Object[] arguments = methodInfo.getParameterTypeKeys().stream()
                 .map(cafeBeansFactory::getBean)
                 .toArray();
-        return CafeReflectionUtils.getMethodValue(methodInfo.getMethod(), instance, arguments);
+        return methodInfo.invoke(instance, arguments);
     }
 
     @Override